@@ -0,0 +1,60 @@
+package jmh.java.com.paradise.benchmarks;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ai.ExpectimaxStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decision time of the {@link ExpectimaxStrategy} for random positions
+ * and dice values.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpectimaxBenchmark {
+    private static final int SAMPLE_COUNT = 4096;
+
+    private final int[] samples = new int[4 * SAMPLE_COUNT];
+    private final int[] positions = new int[2];
+    private ExpectimaxStrategy strategy;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        strategy = new ExpectimaxStrategy();
+        Dice dice = new Dice(63, 42);
+        Dice numberDice = new Dice(6, 43);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[4 * i] = dice.roll() - 1;
+            samples[4 * i + 1] = dice.roll() - 1;
+            samples[4 * i + 2] = numberDice.roll();
+            samples[4 * i + 3] = numberDice.roll();
+        }
+    }
+
+    @Benchmark
+    public int selectFigure() {
+        int sample = 4 * next;
+        next = (next + 1) & (SAMPLE_COUNT - 1);
+        positions[0] = samples[sample];
+        positions[1] = samples[sample + 1];
+        return strategy.selectFigure(positions, 0, samples[sample + 2], samples[sample + 3]);
+    }
+}
@@ -0,0 +1,105 @@
+package jmh.java.com.paradise.benchmarks;
+
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.TransitionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures moves that trigger field events, once by walking the fields and once by
+ * looking the destination up in the {@link TransitionTable}.
+ *
+ * <ul>
+ *     <li>LUCK_CHAIN: from 10 with 2 + 2 the figure lands on the luck fields 14 and 18
+ *     and ends on 22.</li>
+ *     <li>BRIDGE: from 4 with 1 + 2 the figure crosses the bridge on 6 and ends on 13.</li>
+ *     <li>ASCENSION: from 40 with 6 + 6 the figure ascends from 52 to paradise.</li>
+ *     <li>PARADISE_BOUNCE: from 60 with 6 + 6 the figure bounces back from paradise.</li>
+ * </ul>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldEventBenchmark {
+
+    @Param({"LUCK_CHAIN", "BRIDGE", "ASCENSION", "PARADISE_BOUNCE"})
+    public String scenario;
+
+    private GameBoard board;
+    private TransitionTable transitionTable;
+    private Figure figure;
+    private int start;
+    private int die1;
+    private int die2;
+
+    @Setup
+    public void setUp() {
+        board = ParadiseGame.createGameBoard();
+        transitionTable = TransitionTable.forBoard(board, ParadiseGame.NUMBER_DICE_FACES);
+        figure = new Figure(null, "probe");
+        switch (scenario) {
+            case "LUCK_CHAIN":
+                start = 10;
+                die1 = 2;
+                die2 = 2;
+                break;
+            case "BRIDGE":
+                start = 4;
+                die1 = 1;
+                die2 = 2;
+                break;
+            case "ASCENSION":
+                start = 40;
+                die1 = 6;
+                die2 = 6;
+                break;
+            default:
+                start = 60;
+                die1 = 6;
+                die2 = 6;
+                break;
+        }
+    }
+
+    @Benchmark
+    public int fieldWalk() {
+        figure.setPosition(board.getField(start));
+        figure.setDiceValues(die1, die2);
+        board.moveFigure(figure, die1 + die2);
+        return figure.getPosition().getPositionNumber();
+    }
+
+    @Benchmark
+    public int linkedFieldWalk() {
+        figure.setPosition(board.getField(start));
+        figure.setDiceValues(die1, die2);
+        for (int i = 0; i < die1 + die2; i++) {
+            figure.getPosition().moveToNextOrPrev(figure);
+        }
+        return figure.getPosition().getPositionNumber();
+    }
+
+    @Benchmark
+    public int transitionTableLookup() {
+        return transitionTable.getDestination(start, die1, die2);
+    }
+}
@@ -0,0 +1,55 @@
+package jmh.java.com.paradise.benchmarks;
+
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.HeadlessGame;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of complete headless games in games per second for 2 to 6
+ * players.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FullGameBenchmark {
+
+    @Param({"2", "3", "4", "5", "6"})
+    public int playerCount;
+
+    private HeadlessGame game;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        Color[] colors = Arrays.copyOf(Color.values(), playerCount);
+        FigureSelectionStrategy[] strategies = new FigureSelectionStrategy[playerCount];
+        Arrays.fill(strategies, new LeadingFigureStrategy());
+        game = new HeadlessGame(colors, strategies);
+    }
+
+    @Benchmark
+    public int playGame() {
+        return game.play(seed++);
+    }
+}
@@ -0,0 +1,127 @@
+package jmh.java.com.paradise.benchmarks;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.Field;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the single operations of {@link ParadiseGame} that are called on every
+ * turn. Run with {@code -prof gc} to check that the move methods do not allocate
+ * unless the game publishes snapshots for other threads.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameEngineBenchmark {
+    private static final int ROLL_COUNT = 1024;
+
+    private final int[] rolls = new int[2 * ROLL_COUNT];
+
+    @Param({"false", "true"})
+    private boolean publishing;
+
+    private ParadiseGame game;
+    private Figure figure;
+    private int startPosition;
+    private int figureId;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        new Dice(ParadiseGame.NUMBER_DICE_FACES, 42).roll(rolls);
+        game = new ParadiseGame("BLUE-A:20, YELLOW-A:40, YELLOW-B:60", Color.BLUE, Color.YELLOW);
+        game.setColorOnTurn(Color.BLUE);
+        game.setSnapshotPublishing(publishing);
+        figure = game.getFigure("BLUE-B");
+        figureId = game.getFigureId("BLUE-B");
+        startPosition = figure.getPosition().getPositionNumber();
+    }
+
+    @Benchmark
+    public boolean moveCharacterByName() {
+        int roll = nextRoll();
+        return game.moveCharacter("BLUE-B", rolls[roll], rolls[roll + 1]);
+    }
+
+    @Benchmark
+    public boolean moveCharacterByNameVarargs() {
+        int roll = nextRoll();
+        return game.moveCharacter("BLUE-B", new int[]{rolls[roll], rolls[roll + 1]});
+    }
+
+    @Benchmark
+    public boolean moveCharacterById() {
+        int roll = nextRoll();
+        return game.moveCharacter(figureId, rolls[roll], rolls[roll + 1]);
+    }
+
+    @Benchmark
+    public boolean moveFigureHandle() {
+        int roll = nextRoll();
+        return game.moveFigure(figure, rolls[roll], rolls[roll + 1]);
+    }
+
+    @Benchmark
+    public long makeAndUnmakeMove() {
+        int roll = nextRoll();
+        boolean moved = game.makeMove(figureId, rolls[roll], rolls[roll + 1]);
+        long hash = game.getZobristHash();
+        if (moved) {
+            game.unmakeMove();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public Color getWinner() {
+        return game.getWinner();
+    }
+
+    @Benchmark
+    public int getCharacterPositionByName() {
+        return game.getCharacterPosition("YELLOW-B");
+    }
+
+    @Benchmark
+    public int getCharacterPositionById() {
+        return game.getCharacterPosition(3);
+    }
+
+    @Benchmark
+    public String gameToString() {
+        return game.toString();
+    }
+
+    /**
+     * Returns the index of the next pair of rolls and puts the figure back on the
+     * start field once it has reached paradise, so that every call performs a move.
+     */
+    private int nextRoll() {
+        if (figure.getPosition().getNextField() == null) {
+            game.setCharacterPosition(figureId, startPosition);
+        }
+        next = (next + 2) & (rolls.length - 1);
+        return next;
+    }
+}
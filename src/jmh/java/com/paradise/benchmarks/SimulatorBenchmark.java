@@ -0,0 +1,80 @@
+package jmh.java.com.paradise.benchmarks;
+
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.simulation.BatchSimulator;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import main.java.com.paradise.simulation.MonteCarloSimulator;
+import main.java.com.paradise.simulation.SimulationStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link BatchSimulator} with the {@link MonteCarloSimulator} in games
+ * per second for 2 to 6 players. Both simulators play the same games from the same
+ * master seed in a pool with a single worker, so the results show the cost of the
+ * engines rather than the number of cores.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulatorBenchmark {
+    private static final int GAMES = 10_000;
+
+    @Param({"2", "3", "4", "5", "6"})
+    public int playerCount;
+
+    private ForkJoinPool pool;
+    private MonteCarloSimulator monteCarloSimulator;
+    private BatchSimulator batchSimulator;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        Color[] colors = Arrays.copyOf(Color.values(), playerCount);
+        FigureSelectionStrategy[] strategies = new FigureSelectionStrategy[playerCount];
+        Arrays.fill(strategies, new LeadingFigureStrategy());
+        pool = new ForkJoinPool(1);
+        monteCarloSimulator = new MonteCarloSimulator(pool, colors, strategies);
+        batchSimulator = new BatchSimulator(BoardDefinition.standard().getGameBoard(), pool, colors, strategies);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationStatistics monteCarloSimulator() {
+        return monteCarloSimulator.simulate(GAMES, seed++);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(GAMES)
+    public SimulationStatistics batchSimulator() {
+        return batchSimulator.simulate(GAMES, seed++);
+    }
+}
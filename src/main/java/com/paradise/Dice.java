@@ -1,25 +1,99 @@
 package main.java.com.paradise;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * The Dice class represents a die with a specific number of faces (sides).
  * The die can be rolled to generate random values within the valid range.
+ * The random numbers come from a pluggable generator, so dice can be seeded for
+ * reproducible games and split into independent dice for parallel workloads.
+ *
+ * <p>A die created without a seed is thread-safe. A seeded die is not, because its
+ * sequence of rolls is only reproducible in one thread; use {@link #split()} to get
+ * a die for another thread.</p>
  *
  * @author Claude Lakoudji
  * @version 0.1.0
  */
 public class Dice {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Draws from the generator of the calling thread, so dice without a seed can be
+     * shared by several threads without contention.
+     */
+    private static final RandomGenerator THREAD_LOCAL_RANDOM = () -> ThreadLocalRandom.current().nextLong();
+
     private final int faceCount;
-    private final Random random = new Random();
+    private final RandomGenerator random;
+    private final int rollsPerDraw;
+    private final int drawBound;
 
     /**
-     * Creates a new die with the specified number of faces (sides).
+     * Creates a new thread-safe die with the specified number of faces (sides) and
+     * random rolls.
      *
      * @param faceCount The number of faces (sides) on the die.
      */
     public Dice(int faceCount) {
+        this(faceCount, THREAD_LOCAL_RANDOM);
+    }
+
+    /**
+     * Creates a new die with the specified number of faces (sides) whose rolls are
+     * determined by the given seed. The die must only be rolled by one thread.
+     *
+     * @param faceCount The number of faces (sides) on the die.
+     * @param seed      The seed of the generator.
+     */
+    public Dice(int faceCount, long seed) {
+        this(faceCount, new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates a new die with the specified number of faces (sides) that uses the
+     * given generator. The die is only thread-safe if the generator is.
+     *
+     * @param faceCount The number of faces (sides) on the die.
+     * @param random    The generator of the random numbers.
+     */
+    public Dice(int faceCount, RandomGenerator random) {
+        if (faceCount < 1) {
+            throw new IllegalArgumentException("A die needs at least one face.");
+        }
         this.faceCount = faceCount;
+        this.random = random;
+
+        // The largest power of faceCount that fits into an int yields several rolls per draw
+        int rolls = 1;
+        long bound = faceCount;
+        while (faceCount > 1 && bound * faceCount <= Integer.MAX_VALUE) {
+            bound *= faceCount;
+            rolls++;
+        }
+        this.rollsPerDraw = rolls;
+        this.drawBound = (int) bound;
+    }
+
+    /**
+     * Derives the seed of a single game from a master seed, so that every game of a
+     * simulation has its own independent and reproducible sequence of rolls.
+     *
+     * @param masterSeed The seed of the whole simulation.
+     * @param gameIndex  The index of the game within the simulation.
+     * @return The seed of the game.
+     */
+    public static long deriveSeed(long masterSeed, long gameIndex) {
+        long z = masterSeed + (gameIndex + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public int getFaceCount() {
+        return faceCount;
     }
 
     /**
@@ -31,8 +105,52 @@ public class Dice {
         return random.nextInt(faceCount) + 1;
     }
 
+    /**
+     * Fills the whole array with rolls of this die.
+     *
+     * @param out The array receiving the rolled face values.
+     */
+    public void roll(int[] out) {
+        roll(out, 0, out.length);
+    }
+
+    /**
+     * Fills a range of the array with rolls of this die. Each draw from the generator
+     * is split into several rolls, so filling a buffer is considerably cheaper than
+     * calling {@link #roll()} repeatedly. The rolls are uniform, but differ from the
+     * sequence {@link #roll()} would produce with the same seed.
+     *
+     * @param out    The array receiving the rolled face values.
+     * @param offset The index of the first roll in the array.
+     * @param length The number of rolls.
+     */
+    public void roll(int[] out, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            int draw = random.nextInt(drawBound);
+            for (int r = 0; r < rollsPerDraw && i < end; r++) {
+                out[i++] = draw % faceCount + 1;
+                draw /= faceCount;
+            }
+        }
+    }
+
+    /**
+     * Creates a new die with the same number of faces and a generator that is
+     * statistically independent of this one, e.g. for another thread.
+     *
+     * @return The new die.
+     */
+    public Dice split() {
+        if (random instanceof RandomGenerator.SplittableGenerator) {
+            return new Dice(faceCount, ((RandomGenerator.SplittableGenerator) random).split());
+        }
+        return new Dice(faceCount, new SplittableRandom(random.nextLong()));
+    }
+
     @Override
     public String toString() {
         return "Die with " + faceCount + " faces";
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package main.java.com.paradise;
 
 import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.enums.FieldType;
 import main.java.com.paradise.fields.Field;
 
 import java.util.Arrays;
@@ -8,7 +9,7 @@ import java.util.Arrays;
 /**
  * The Figure class represents a figure in the game. Each figure has a color, a
  * name, a position on the game board, a target position, a number of steps to
- * the target, and the rolled dice values.
+ * the target, the rolled dice values and the field events fired by the current move.
  *
  * @author Claude Lakoudji
  * @version 0.1.0
@@ -16,10 +17,12 @@ import java.util.Arrays;
 public class Figure {
     private final Color color;
     private final String name;
+    private int id = -1;
     private Field position;
     private int stepsToTarget;
     private int targetPositionNumber;
-    private int[] diceValues;
+    private final int[] diceValues = new int[2];
+    private int firedEvents;
 
     /**
      * Creates a new figure with a specific color and name.
@@ -42,6 +45,19 @@ public class Figure {
         return name;
     }
 
+    /**
+     * Returns the dense id of the figure within its game.
+     *
+     * @return The id, or -1 if the figure does not belong to a game.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
     public Field getPosition() {
         return position;
     }
@@ -65,8 +81,22 @@ public class Figure {
      * @param diceValues An array containing the rolled values of the two dice.
      */
     public void setDiceValues(int[] diceValues) {
-        this.diceValues = diceValues;
-        this.setStepsToTarget(diceValues[0] + diceValues[1]);
+        setDiceValues(diceValues[0], diceValues[1]);
+    }
+
+    /**
+     * Sets the dice values for the figure and updates the steps to the target and
+     * the target position. The values are copied into an array owned by the figure.
+     * Setting the dice values starts a new move, so the fired events are cleared.
+     *
+     * @param die1 The rolled value of the first die.
+     * @param die2 The rolled value of the second die.
+     */
+    public void setDiceValues(int die1, int die2) {
+        this.diceValues[0] = die1;
+        this.diceValues[1] = die2;
+        this.firedEvents = 0;
+        this.setStepsToTarget(die1 + die2);
         this.setTargetPositionNumber(this.position.getPositionNumber() + this.stepsToTarget);
     }
 
@@ -74,6 +104,45 @@ public class Figure {
         return diceValues;
     }
 
+    /**
+     * Records that the event of a field of the given type has been executed during
+     * the current move.
+     *
+     * @param type The type of the field whose event has been executed.
+     */
+    public void recordEvent(FieldType type) {
+        this.firedEvents |= 1 << type.ordinal();
+    }
+
+    /**
+     * Returns the field events executed during the current move as a bit mask with
+     * the bit {@code 1 << type.ordinal()} set for every fired {@link FieldType}.
+     *
+     * @return The bit mask of the fired events.
+     */
+    public int getFiredEvents() {
+        return firedEvents;
+    }
+
+    /**
+     * Restores the state of a move that has been taken back, e.g. by
+     * {@code ParadiseGame.unmakeMove()}. Unlike {@link #setDiceValues(int, int)}, the
+     * values are set as given and nothing is derived from them.
+     *
+     * @param die1                 The value of the first die.
+     * @param die2                 The value of the second die.
+     * @param stepsToTarget        The number of steps to the target.
+     * @param targetPositionNumber The target position.
+     * @param firedEvents          The bit mask of the fired events.
+     */
+    public void restoreMove(int die1, int die2, int stepsToTarget, int targetPositionNumber, int firedEvents) {
+        this.diceValues[0] = die1;
+        this.diceValues[1] = die2;
+        this.stepsToTarget = stepsToTarget;
+        this.targetPositionNumber = targetPositionNumber;
+        this.firedEvents = firedEvents;
+    }
+
     public int getStepsToTarget() {
         return this.stepsToTarget;
     }
@@ -1,6 +1,10 @@
 package main.java.com.paradise;
 
 import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.interfaces.IGameRenderer;
+import main.java.com.paradise.render.AnsiRenderer;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.render.TextRenderer;
 
 import java.util.HashSet;
 import java.util.Scanner;
@@ -13,8 +17,19 @@ import java.util.Set;
  * @version 1.0
  */
 public class Main {
+    private static IGameRenderer renderer = TextRenderer.console();
+
+    /**
+     * Starts the game. The output goes to an ANSI terminal renderer if the console
+     * supports it, otherwise to a buffered plain text renderer. The options
+     * {@code --plain}, {@code --ansi} and {@code --quiet} choose the renderer
+     * explicitly; {@code --quiet} discards all output, e.g. for scripted sessions.
+     *
+     * @param args The command line options
+     */
     public static void main(String[] args) {
-        System.out.println("Welcome to Paradise Game!");
+        renderer = createRenderer(args);
+        renderer.message("Welcome to Paradise Game!");
 
         Scanner scanner = new Scanner(System.in);
 
@@ -22,8 +37,34 @@ public class Main {
         Set<Color> usedColors = new HashSet<>();
         Color[] selectedColors = selectColors(scanner, numberOfPlayers, usedColors);
         displaySelectedColors(numberOfPlayers, selectedColors);
-        ParadiseGame game = new ParadiseGame("BLUE-A:50, BLUE-B:50, YELLOW-A:50, YELLOW-A:50", selectedColors);
-        game.start();
+        ParadiseGame game = new ParadiseGame(selectedColors);
+        game.setRenderer(renderer);
+        try {
+            game.start(scanner);
+        } finally {
+            renderer.close();
+        }
+    }
+
+    /**
+     * This method creates the renderer selected by the command line options.
+     * @param args The command line options
+     * @return The renderer for the game
+     */
+    private static IGameRenderer createRenderer(String[] args) {
+        for (String arg : args) {
+            switch (arg) {
+                case "--quiet":
+                    return SilentRenderer.INSTANCE;
+                case "--plain":
+                    return TextRenderer.console();
+                case "--ansi":
+                    return new AnsiRenderer(System.out);
+                default:
+                    break;
+            }
+        }
+        return AnsiRenderer.isSupported() ? new AnsiRenderer(System.out) : TextRenderer.console();
     }
 
     /**
@@ -34,7 +75,7 @@ public class Main {
     private static int requestNumberOfPlayers(Scanner scanner) {
         int numberOfPlayers = 0;
         while (numberOfPlayers < 2 || numberOfPlayers > 6) {
-            System.out.print("Please enter the number of players (between 2 and 6): ");
+            renderer.prompt("Please enter the number of players (between 2 and 6): ");
             numberOfPlayers = scanner.nextInt();
         }
         return numberOfPlayers;
@@ -50,31 +91,31 @@ public class Main {
     private static Color[] selectColors(Scanner scanner, int numberOfPlayers, Set<Color> usedColors) {
         Color[] selectedColors = new Color[numberOfPlayers];
         for (int i = 0; i < numberOfPlayers; i++) {
-            System.out.println();
-            System.out.println("Player " + (i + 1) + ", choose a color:");
-            System.out.print("Available colors: ");
+            renderer.message("");
+            renderer.message("Player " + (i + 1) + ", choose a color:");
+            StringBuilder availableColors = new StringBuilder("Available colors: ");
             for (Color color : Color.values()) {
                 if (!usedColors.contains(color)) {
-                    System.out.print(color.name() + " ");
+                    availableColors.append(color.name()).append(' ');
                 }
             }
-            System.out.println();
+            renderer.message(availableColors.toString());
 
             Color selectedColor = null;
             while (selectedColor == null) {
-                System.out.print("Your choice: ");
+                renderer.prompt("Your choice: ");
                 String colorString = scanner.next();
                 try {
                     selectedColor = Color.valueOf(colorString.toUpperCase());
                     if (usedColors.contains(selectedColor)) {
-                        System.out.println("Color already chosen. Please choose a different color.");
+                        renderer.message("Color already chosen. Please choose a different color.");
                         selectedColor = null;
                     } else {
                         usedColors.add(selectedColor);
                         selectedColors[i] = selectedColor;
                     }
                 } catch (IllegalArgumentException e) {
-                    System.out.println("This color does not exist. Please choose a color from the list.");
+                    renderer.message("This color does not exist. Please choose a color from the list.");
                 }
             }
         }
@@ -87,10 +128,10 @@ public class Main {
      * @param selectedColors An array with the selected colors
      */
     private static void displaySelectedColors(int numberOfPlayers, Color[] selectedColors) {
-        System.out.println();
-        System.out.println("The following colors have been chosen:");
+        renderer.message("");
+        renderer.message("The following colors have been chosen:");
         for (int i = 0; i < numberOfPlayers; i++) {
-            System.out.println("Player " + (i + 1) + ": " + selectedColors[i].name());
+            renderer.message("Player " + (i + 1) + ": " + selectedColors[i].name());
         }
     }
 }
\ No newline at end of file
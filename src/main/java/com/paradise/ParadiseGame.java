@@ -1,30 +1,126 @@
 package main.java.com.paradise;
 
 import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.enums.FieldType;
 
 import main.java.com.paradise.fields.*;
+import main.java.com.paradise.interfaces.IGameRenderer;
+import main.java.com.paradise.interfaces.IMoveListener;
 import main.java.com.paradise.interfaces.IParadiseGame;
+import main.java.com.paradise.metrics.EngineMetrics;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.render.TextRenderer;
+import main.java.com.paradise.snapshot.GameSnapshot;
+import main.java.com.paradise.state.GameProgress;
+import main.java.com.paradise.state.StateKeys;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 public class ParadiseGame implements IParadiseGame {
-    private final List<Field> gameBoard = new ArrayList<>();
+    /**
+     * The number of faces of the two dice that determine the steps of a move.
+     */
+    public static final int NUMBER_DICE_FACES = 6;
+
+    private static final int LABYRINTH_EVENT = 1 << FieldType.LABYRINTH.ordinal();
+
+    // Layout of one frame on the undo stack of makeMove
+    private static final int UNDO_FIGURE = 0;
+    private static final int UNDO_POSITION = 1;
+    private static final int UNDO_TARGET = 2;
+    private static final int UNDO_DIE1 = 3;
+    private static final int UNDO_DIE2 = 4;
+    private static final int UNDO_STEPS = 5;
+    private static final int UNDO_EVENTS = 6;
+    private static final int UNDO_TURN = 7;
+    private static final int UNDO_FRAME_SIZE = 8;
+    private static final int INITIAL_UNDO_FRAMES = 64;
+    // The turn entry holds the previous seat + 1 in the low bits, then the skip flag
+    // and the number of players passed over when the turn was passed on
+    private static final int UNDO_SEAT_MASK = 0x7;
+    private static final int UNDO_SKIPPED_FLAG = 0x8;
+    private static final int UNDO_PASSED_SHIFT = 4;
+
+    private GameBoard board;
+    private TransitionTable transitionTable;
     private final List<Player> players = new ArrayList<>();
-    private final Dice numberDice = new Dice(6);
+    private final Map<String, Figure> figuresByName = new HashMap<>();
+    private Figure[] figuresById;
+    private final Dice numberDice = new Dice(NUMBER_DICE_FACES);
     private Dice colorDice;
     private Player currentPlayer;
+    private int currentPlayerIndex = -1;
+    private TurnScheduler turnScheduler;
+    private long zobristHash;
+    private long stateKeyLow;
+    private long stateKeyHigh;
+    private GameProgress progress;
+    private IMoveListener moveListener;
+    private IGameRenderer renderer = TextRenderer.console();
+    // Allocated by the first makeMove, so games that never search do not pay for it
+    private int[] undoStack;
+    private int undoSize;
+    private final AtomicReference<GameSnapshot> publishedSnapshot = new AtomicReference<>();
+    private boolean snapshotPublishing;
 
     public ParadiseGame(Color... colors) {
-        initializeGameBoard();
+        this(BoardDefinition.standard().getGameBoard(), colors);
+    }
+
+    /**
+     * Creates a game on the given board, e.g. one loaded from a {@link BoardDefinition}.
+     * The board can be shared with other games.
+     *
+     * @param board  The game board
+     * @param colors The colors of the players in seating order
+     */
+    public ParadiseGame(GameBoard board, Color... colors) {
+        initializeGameBoard(board);
         initializePlayers(colors);
         placePlayerFiguresOnStartField();
+        initializeDerivedState();
     }
 
     public ParadiseGame(String config, Color... colors) {
-        initializeGameBoard();
+        initializeGameBoard(BoardDefinition.standard().getGameBoard());
         initializePlayers(colors);
         placePlayerFiguresWithConfigOnStartField(config);
+        initializeDerivedState();
+    }
+
+    public ParadiseGame(GameSnapshot snapshot) {
+        this(BoardDefinition.standard().getGameBoard(), snapshot);
+    }
+
+    /**
+     * Creates a game on the given board in the position of a snapshot.
+     *
+     * @param board    The game board
+     * @param snapshot The positions of the figures, the player on turn and the
+     *                 turns every player still has to skip
+     */
+    public ParadiseGame(GameBoard board, GameSnapshot snapshot) {
+        initializeGameBoard(board);
+        initializePlayers(snapshot.getColors());
+        for (int figureId = 0; figureId < figuresById.length; figureId++) {
+            Field field = board.getField(snapshot.getPosition(figureId));
+            if (field == null) {
+                throw new IllegalArgumentException("Invalid position of " + snapshot.getFigureName(figureId) + ": "
+                        + snapshot.getPosition(figureId));
+            }
+            figuresById[figureId].setPosition(field);
+        }
+        for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+            turnScheduler.setPendingSkips(seat, snapshot.getPendingSkips(seat));
+        }
+        if (snapshot.getPlayerOnTurn() >= 0) {
+            currentPlayerIndex = snapshot.getPlayerOnTurn();
+            currentPlayer = players.get(currentPlayerIndex);
+            turnScheduler.setCurrent(currentPlayerIndex);
+        }
+        initializeDerivedState();
     }
 
     public Color getColorOnTurn() {
@@ -32,53 +128,433 @@ public class ParadiseGame implements IParadiseGame {
     }
 
     public void setColorOnTurn(Color color) {
-        currentPlayer = players.stream().filter(p -> p.getColor() == color).findFirst().orElse(null);
+        checkNoUndoPending();
+        int newPlayerIndex = -1;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getColor() == color) {
+                newPlayerIndex = i;
+                break;
+            }
+        }
+        setPlayerOnTurn(newPlayerIndex);
+        publishTurn();
         if (currentPlayer == null) {
-            System.out.println("Invalid color!");
-        } else {
-            System.out.println("Player " + currentPlayer.getColor() + " is the current player.");
+            renderer.message("Invalid color!");
         }
     }
 
-    public int getCharacterPosition(String character) {
-        for (Player player : players) {
-            for (Figure c : player.getCharacters()) {
-                if (c.getName().equals(character)) {
-                    return c.getPosition().getPositionNumber();
-                }
+    /**
+     * This method passes the turn to the next player in seating order. Players who
+     * have to skip turns, e.g. after a figure has ended its move in the labyrinth,
+     * are passed over. It does not allocate any objects unless snapshot publishing
+     * is switched on (see {@link #setSnapshotPublishing(boolean)}); then every call
+     * publishes a new snapshot.
+     *
+     * @return The color of the new player on turn
+     * @throws IllegalStateException If moves made with {@link #makeMove(int, int, int)}
+     *                               have not been taken back
+     */
+    public Color nextTurn() {
+        checkNoUndoPending();
+        setPlayerOnTurn(turnScheduler.advance());
+        publishTurn();
+        return currentPlayer.getColor();
+    }
+
+    /**
+     * This method returns the seat of the player on turn.
+     *
+     * @return The seat index, or -1 if no player is on turn
+     */
+    public int getPlayerIndexOnTurn() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * This method returns the number of turns the player with the given color still
+     * has to skip.
+     *
+     * @param color The color of the player
+     * @return The number of pending skipped turns, or 0 if the color does not play
+     */
+    public int getPendingSkips(Color color) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getColor() == color) {
+                return turnScheduler.getPendingSkips(i);
             }
         }
-        return -1;
+        return 0;
+    }
+
+    /**
+     * This method sets the number of turns the player with the given color still has
+     * to skip, e.g. when a game is restored from a snapshot or a replay.
+     *
+     * @param color The color of the player
+     * @param turns The number of pending skipped turns
+     * @throws IllegalArgumentException If the color does not play or the number is
+     *                                  negative
+     * @throws IllegalStateException    If moves made with {@link #makeMove(int, int, int)}
+     *                                  have not been taken back
+     */
+    public void setPendingSkips(Color color, int turns) {
+        checkNoUndoPending();
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).getColor() == color) {
+                turnScheduler.setPendingSkips(i, turns);
+                publishTurn();
+                return;
+            }
+        }
+        throw new IllegalArgumentException("The color " + color + " does not play.");
+    }
+
+    public int getCharacterPosition(String character) {
+        Figure figure = getFigureByName(character);
+        return figure == null ? -1 : figure.getPosition().getPositionNumber();
+    }
+
+    public int getFigureId(String figure) {
+        Figure figureWithName = getFigureByName(figure);
+        return figureWithName == null ? -1 : figureWithName.getId();
+    }
+
+    public int getCharacterPosition(int figureId) {
+        Figure figure = getFigureById(figureId);
+        return figure == null ? -1 : figure.getPosition().getPositionNumber();
+    }
+
+    public boolean moveCharacter(int figureId, int die1, int die2) {
+        return moveFigure(getFigureById(figureId), die1, die2);
     }
 
     public boolean moveCharacter(String character, int... diceRolls) {
-        Figure figureToMove = getFigureByName(character);
+        return moveCharacter(character, diceRolls[0], diceRolls[1]);
+    }
+
+    /**
+     * This method moves the specified piece by the sum of the two dice values. It
+     * behaves like {@link #moveCharacter(String, int...)} without allocating an array
+     * for the dice values.
+     *
+     * @param character The name of the figure to be moved (e.g., "BLUE-A")
+     * @param die1      The value of the first die
+     * @param die2      The value of the second die
+     * @return true if the piece could be moved; otherwise false
+     */
+    public boolean moveCharacter(String character, int die1, int die2) {
+        return moveFigure(getFigureByName(character), die1, die2);
+    }
+
+    /**
+     * This method returns the figure with the given name. The figure can be used as a
+     * handle for {@link #moveFigure(Figure, int, int)} to avoid looking up the name on
+     * every move.
+     *
+     * @param figureName The name of the figure (e.g., "BLUE-A")
+     * @return The figure, or null if no figure with the name exists
+     */
+    public Figure getFigure(String figureName) {
+        return getFigureByName(figureName);
+    }
 
+    /**
+     * This method moves the given figure of this game by the sum of the two dice
+     * values. It does not allocate any objects unless snapshot publishing is switched
+     * on (see {@link #setSnapshotPublishing(boolean)}); then every move publishes a
+     * new snapshot.
+     *
+     * @param figureToMove The figure to be moved
+     * @param die1         The value of the first die
+     * @param die2         The value of the second die
+     * @return true if the figure could be moved; otherwise false
+     * @throws IllegalStateException If moves made with {@link #makeMove(int, int, int)}
+     *                               have not been taken back
+     */
+    public boolean moveFigure(Figure figureToMove, int die1, int die2) {
+        checkNoUndoPending();
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
         if (shouldNotMoveFigure(figureToMove)) {
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.get().recordRejectedMove();
+            }
             return false;
         }
 
-        int totalSteps = diceRolls[0] + diceRolls[1];
-        figureToMove.setDiceValues(diceRolls);
-        Field currentPosition;
-
-        for (int i = 1; i <= totalSteps; i++) {
-            currentPosition = figureToMove.getPosition();
-            currentPosition.moveToNextOrPrev(figureToMove);
+        if (moveListener != null) {
+            moveListener.beforeMove(figureToMove.getColor(), figureToMove.getId());
+        }
+        int position = figureToMove.getPosition().getPositionNumber();
+        int firedEvents = applyMove(figureToMove, die1, die2);
+        int destination = figureToMove.getPosition().getPositionNumber();
+        publishPosition(figureToMove.getId(), destination);
+        if (moveListener != null) {
+            moveListener.onMove(figureToMove.getColor(), figureToMove.getId(), die1, die2, position, destination);
+        }
+        if (EngineMetrics.ENABLED) {
+            recordMoveMetrics(figureToMove, firedEvents, startNanos);
         }
 
         return true;
     }
 
-    public Color getWinner() {
-        // Check if a player has all figures in Paradise
-        for (Player player : players) {
-            if (player.getNumberOfCharactersInParadise() == player.getCharacters().size()) {
-                return player.getColor();
+    /**
+     * This method moves a figure like {@link #moveCharacter(int, int, int)} and then
+     * passes the turn to the next player unless the move has won the game. The
+     * previous field, target, dice values and fired events of the figure and the
+     * previous turn are pushed onto a primitive undo stack, so the move can be taken
+     * back exactly with {@link #unmakeMove()}. Search algorithms can therefore explore
+     * positions in one game instead of copying it; apart from growing the stack,
+     * neither method allocates any objects.
+     *
+     * <p>Moves made this way are not reported to the move listener or the engine
+     * metrics, and no snapshot is published for them, so other threads keep seeing
+     * the position before the search. They must be taken back before the game is
+     * changed in any other way; until then {@link #moveFigure(Figure, int, int)},
+     * {@link #setCharacterPosition(int, int)}, {@link #nextTurn()} and
+     * {@link #setColorOnTurn(Color)} throw an {@link IllegalStateException}.</p>
+     *
+     * @param figureId The id of the figure to be moved
+     * @param die1     The value of the first die
+     * @param die2     The value of the second die
+     * @return true if the figure could be moved; otherwise false and nothing is pushed
+     */
+    public boolean makeMove(int figureId, int die1, int die2) {
+        Figure figure = getFigureById(figureId);
+        if (shouldNotMoveFigure(figure)) {
+            return false;
+        }
+        if (undoStack == null) {
+            undoStack = new int[INITIAL_UNDO_FRAMES * UNDO_FRAME_SIZE];
+        } else if (undoSize + UNDO_FRAME_SIZE > undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, 2 * undoStack.length);
+        }
+        int frame = undoSize;
+        int[] diceValues = figure.getDiceValues();
+        undoStack[frame + UNDO_FIGURE] = figureId;
+        undoStack[frame + UNDO_POSITION] = figure.getPosition().getPositionNumber();
+        undoStack[frame + UNDO_TARGET] = figure.getTargetPositionNumber();
+        undoStack[frame + UNDO_DIE1] = diceValues[0];
+        undoStack[frame + UNDO_DIE2] = diceValues[1];
+        undoStack[frame + UNDO_STEPS] = figure.getStepsToTarget();
+        undoStack[frame + UNDO_EVENTS] = figure.getFiredEvents();
+        undoSize += UNDO_FRAME_SIZE;
+
+        int turn = currentPlayerIndex + 1;
+        if ((applyMove(figure, die1, die2) & LABYRINTH_EVENT) != 0) {
+            turn |= UNDO_SKIPPED_FLAG;
+        }
+        if (progress.getWinner() < 0) {
+            setPlayerOnTurn(turnScheduler.advance());
+            turn |= turnScheduler.getPassedOnLastAdvance() << UNDO_PASSED_SHIFT;
+        }
+        undoStack[frame + UNDO_TURN] = turn;
+        return true;
+    }
+
+    /**
+     * This method takes back the last move made with {@link #makeMove(int, int, int)}
+     * and restores the figure, the player on turn, the skipped turns and all derived
+     * state, e.g. the Zobrist hash, exactly as they were before the move.
+     *
+     * @throws IllegalStateException if there is no move to take back
+     */
+    public void unmakeMove() {
+        if (undoSize == 0) {
+            throw new IllegalStateException("There is no move to take back.");
+        }
+        undoSize -= UNDO_FRAME_SIZE;
+        int frame = undoSize;
+        int turn = undoStack[frame + UNDO_TURN];
+        int seat = (turn & UNDO_SEAT_MASK) - 1;
+        turnScheduler.revertAdvance(seat, turn >>> UNDO_PASSED_SHIFT);
+        setPlayerOnTurn(seat);
+        if ((turn & UNDO_SKIPPED_FLAG) != 0) {
+            turnScheduler.cancelSkippedTurns(seat, LabyrinthField.SKIPPED_TURNS);
+        }
+
+        Figure figure = figuresById[undoStack[frame + UNDO_FIGURE]];
+        int position = figure.getPosition().getPositionNumber();
+        int previousPosition = undoStack[frame + UNDO_POSITION];
+        figure.setPosition(board.getField(previousPosition));
+        figure.restoreMove(undoStack[frame + UNDO_DIE1], undoStack[frame + UNDO_DIE2], undoStack[frame + UNDO_STEPS],
+                undoStack[frame + UNDO_TARGET], undoStack[frame + UNDO_EVENTS]);
+        updateDerivedState(figure.getId(), position, previousPosition);
+    }
+
+    /**
+     * This method returns the number of moves made with
+     * {@link #makeMove(int, int, int)} that have not been taken back yet.
+     *
+     * @return The depth of the undo stack
+     */
+    public int getUndoDepth() {
+        return undoSize / UNDO_FRAME_SIZE;
+    }
+
+    /**
+     * This method places a figure on the given field without any field events, e.g.
+     * to set up a scenario. Positions must not be changed through the figure itself,
+     * because the derived state of the game would not be updated.
+     *
+     * @param figureId The id of the figure
+     * @param position The position number of the field
+     * @throws IllegalStateException If moves made with {@link #makeMove(int, int, int)}
+     *                               have not been taken back
+     */
+    public void setCharacterPosition(int figureId, int position) {
+        checkNoUndoPending();
+        Figure figure = getFigureById(figureId);
+        Field field = board.getField(position);
+        if (figure == null || field == null) {
+            throw new IllegalArgumentException("Invalid figure or position: " + figureId + ", " + position);
+        }
+        int oldPosition = figure.getPosition().getPositionNumber();
+        figure.setPosition(field);
+        updateDerivedState(figureId, oldPosition, position);
+        publishPosition(figureId, position);
+    }
+
+    /**
+     * This method returns the progress of the players: figures in paradise,
+     * remaining distances, winner and leader. It is updated incrementally by every
+     * move, so all queries take constant time.
+     *
+     * @return The progress of the game
+     */
+    public GameProgress getProgress() {
+        return progress;
+    }
+
+    /**
+     * This method sets the listener that is informed about every successful move.
+     *
+     * @param moveListener The listener, or null to remove the current one
+     */
+    public void setMoveListener(IMoveListener moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    /**
+     * This method returns the Zobrist hash of the current position: the positions of
+     * all figures, the player on turn and the turns every player still has to skip.
+     * It is updated incrementally by every move and change of turn, so reading it is
+     * free.
+     *
+     * @return The Zobrist hash of the position
+     */
+    public long getZobristHash() {
+        return zobristHash ^ turnScheduler.getSkipHash();
+    }
+
+    /**
+     * This method returns the snapshot of the game that was published after the last
+     * move, change of turn or placement of a figure. Snapshots are immutable and are
+     * published through an atomic reference, so any thread can call this method
+     * while the game is being played and gets a consistent position without locking
+     * or waiting. Positions reached with {@link #makeMove(int, int, int)} are not
+     * published.
+     *
+     * @return The last published snapshot, or null if publishing is switched off
+     * @see #describePublishedSnapshot()
+     */
+    public GameSnapshot getPublishedSnapshot() {
+        return publishedSnapshot.get();
+    }
+
+    /**
+     * This method describes the last published snapshot for spectators. Unlike
+     * {@link #toString()}, it can be called from any thread while the game is being
+     * played.
+     *
+     * @return The positions of all figures and the player on turn, as published
+     * @throws IllegalStateException If snapshot publishing is switched off
+     */
+    public String describePublishedSnapshot() {
+        GameSnapshot snapshot = publishedSnapshot.get();
+        if (snapshot == null) {
+            throw new IllegalStateException("Snapshot publishing is switched off.");
+        }
+        StringBuilder result = new StringBuilder("Figures:\n");
+        for (int figureId = 0; figureId < snapshot.getFigureCount(); figureId++) {
+            result.append(snapshot.getFigureName(figureId)).append(": ").append(snapshot.getPosition(figureId)).append('\n');
+        }
+        int playerOnTurn = snapshot.getPlayerOnTurn();
+        result.append("Current Player: ").append(playerOnTurn < 0 ? null : snapshot.getColor(playerOnTurn)).append('\n');
+        return result.toString();
+    }
+
+    /**
+     * This method switches the publishing of snapshots on or off. It is off by
+     * default, so the move path does not allocate; games that are watched by other
+     * threads, e.g. the sessions of the game server, switch it on and then allocate
+     * one new snapshot per move and change of turn.
+     *
+     * @param enabled Whether a snapshot is published after every change
+     */
+    public void setSnapshotPublishing(boolean enabled) {
+        snapshotPublishing = enabled;
+        publishedSnapshot.set(enabled ? getSnapshot() : null);
+    }
+
+    /**
+     * This method returns the low half of the lossless packed key of the current
+     * position (see {@link StateKeys}).
+     *
+     * @return The low half of the packed key
+     */
+    public long getStateKeyLow() {
+        checkPackedKeysSupported();
+        return stateKeyLow;
+    }
+
+    /**
+     * This method returns the high half of the lossless packed key of the current
+     * position (see {@link StateKeys}).
+     *
+     * @return The high half of the packed key
+     * @throws UnsupportedOperationException If the game is too large for a packed key
+     *                                       or a player has more skipped turns than
+     *                                       it can hold
+     */
+    public long getStateKeyHigh() {
+        checkPackedKeysSupported();
+        long high = stateKeyHigh;
+        for (int seat = 0; seat < players.size(); seat++) {
+            int pendingSkips = turnScheduler.getPendingSkips(seat);
+            if (pendingSkips > StateKeys.MAX_PACKED_SKIPS) {
+                throw new UnsupportedOperationException("Too many skipped turns for a packed key: " + pendingSkips);
             }
+            high = StateKeys.withPendingSkips(high, seat, pendingSkips);
+        }
+        return high;
+    }
+
+    /**
+     * This method captures the positions of all figures, the player on turn and the
+     * turns every player still has to skip.
+     *
+     * @return The snapshot of the current game position
+     */
+    public GameSnapshot getSnapshot() {
+        Color[] colors = new Color[players.size()];
+        for (int i = 0; i < colors.length; i++) {
+            colors[i] = players.get(i).getColor();
+        }
+        int[] positions = new int[figuresById.length];
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            positions[figureId] = figuresById[figureId].getPosition().getPositionNumber();
+        }
+        int[] pendingSkips = new int[colors.length];
+        for (int seat = 0; seat < pendingSkips.length; seat++) {
+            pendingSkips[seat] = turnScheduler.getPendingSkips(seat);
         }
-        // No winner found
-        return null;
+        return new GameSnapshot(colors, positions, currentPlayerIndex, pendingSkips);
+    }
+
+    public Color getWinner() {
+        int winner = progress.getWinner();
+        return winner < 0 ? null : players.get(winner).getColor();
     }
 
     public Color[] getAllPlayers() {
@@ -89,143 +565,168 @@ public class ParadiseGame implements IParadiseGame {
         return playerColors;
     }
 
+    /**
+     * This method sets the renderer that shows the game and its messages. By
+     * default the game writes to the shared console renderer.
+     *
+     * @param renderer The renderer, e.g. {@link SilentRenderer#INSTANCE} for headless games
+     */
+    public void setRenderer(IGameRenderer renderer) {
+        this.renderer = (renderer == null) ? SilentRenderer.INSTANCE : renderer;
+    }
+
     /**
      * This method performs the main game loop until a winner is determined.
      */
     public void start() {
+        start(new Scanner(System.in));
+    }
+
+    /**
+     * This method performs the main game loop until a winner is determined and reads
+     * the figures to move from the given scanner, e.g. the one that has already read
+     * the setup of the game. The scanner is closed at the end of the game.
+     *
+     * @param scanner The scanner for the input of the players
+     */
+    public void start(Scanner scanner) {
         // Start the game
-        System.out.println("");
-        System.out.println("The game is starting.");
-        System.out.println("Determining the first player...");
-        System.out.println("");
+        renderer.message("");
+        renderer.message("The game is starting.");
+        renderer.message("Determining the first player...");
+        renderer.message("");
 
         // Determine the current player
         Color[] playerColors = getAllPlayers();
         int rolledColorIndex = colorDice.roll() - 1;
         setColorOnTurn(playerColors[rolledColorIndex]);
-        System.out.println("Player " + getColorOnTurn() + " begins.");
-
-        Scanner scanner = new Scanner(System.in);
+        renderer.message("Player " + getColorOnTurn() + " is the current player.");
+        renderer.message("Player " + getColorOnTurn() + " begins.");
 
         // Play rounds
         boolean gameRunning = true;
         while (gameRunning) {
-            System.out.println();
-            System.out.println(toString());
-            System.out.println();
+            renderer.message("");
+            renderer.renderGame(this);
+            renderer.message("");
 
             // Roll the dice
             int roll1 = numberDice.roll();
             int roll2 = numberDice.roll();
-            int[] totalRoll = {roll1, roll2};
 
-            System.out.println("Player " + getColorOnTurn() + " rolls the dice: ");
-            System.out.println(roll1 + " and " + roll2);
+            renderer.message("Player " + getColorOnTurn() + " rolls the dice: ");
+            renderer.message(roll1 + " and " + roll2);
 
             // Move a figure
             String figureName = "";
             while (figureName.isEmpty()) {
-                System.out.println("Which figure should be moved?");
+                renderer.prompt("Which figure should be moved?\n");
+                if (!scanner.hasNextLine()) {
+                    renderer.message("No more input.");
+                    renderer.flush();
+                    return;
+                }
                 String input = scanner.nextLine().toUpperCase();
                 if (!input.isEmpty()) {
                     figureName = input;
                 }
             }
-            System.out.println("");
-            boolean successfullyMoved = moveCharacter(figureName, totalRoll);
+            renderer.message("");
+            boolean successfullyMoved = moveCharacter(figureName, roll1, roll2);
 
             if (!successfullyMoved) {
-                System.out.println("Figure not found or couldn't be moved.");
+                renderer.message("Figure not found or couldn't be moved.");
             }
 
             // Check for game end
             Color winner = getWinner();
             if (winner != null) {
-                System.out.println("Player " + winner + " has won!");
+                renderer.message("Player " + winner + " has won!");
                 gameRunning = false;
                 continue;
             }
 
+            if (turnScheduler.getPendingSkips(currentPlayerIndex) > 0) {
+                renderer.message("Player " + getColorOnTurn() + " is lost in the labyrinth and skips the next turn.");
+            }
+
             //Next player's turn
-            int currentPlayerIndex = Arrays.asList(getAllPlayers()).indexOf(getColorOnTurn());
-            Color nextColor = getAllPlayers()[(currentPlayerIndex + 1) % getAllPlayers().length];
-            setColorOnTurn(nextColor);
+            nextTurn();
+            renderer.message("Player " + getColorOnTurn() + " is the current player.");
         }
 
         scanner.close();
 
         // End the game
-        System.out.println("The game is over.");
+        renderer.message("The game is over.");
+        renderer.flush();
     }
 
+    /**
+     * This method describes the current position of the game. Like the other
+     * methods, it must be called by the thread that plays the game; other threads
+     * use {@link #describePublishedSnapshot()}.
+     *
+     * @return The positions of all figures and the player on turn
+     */
     public String toString() {
-        // Print the game board
-        /*
-         * String gameBoardString = "Game Board:\n"; for (int i = 0; i < 64; i++) {
-         * gameBoardString += String.format("%02d: %s\n", i,
-         * gameBoard[i].getDescription()); }
-         */
-
-        // Print figures
-        StringBuilder figuresString = new StringBuilder("Figures:\n");
-        for (Player player : players) {
-            for (Figure figure : player.getCharacters()) {
-                figuresString.append(String.format("%s: %d\n", figure.getName(), figure.getPosition().getPositionNumber()));
-            }
+        StringBuilder result = new StringBuilder("Figures:\n");
+        for (Figure figure : figuresById) {
+            result.append(figure.getName()).append(": ").append(figure.getPosition().getPositionNumber()).append('\n');
         }
+        result.append("Current Player: ").append(currentPlayer == null ? null : currentPlayer.getColor()).append('\n');
+        return result.toString();
+    }
 
-        // Print current player
-        String currentPlayerString = String.format("Current Player: %s\n", currentPlayer.getColor());
-
-        return figuresString + currentPlayerString;
-    }
-
-    /**
-     * This method initializes the game board with the corresponding field types and
-     * connects them.
-     */
-    private void initializeGameBoard() {
-        for (int i = 0; i < 64; i++) {
-            Field field;
-            if (i == 5 || i == 9) {
-                field = new Field(i); // Misfortune TODO
-            } else if (i == 6) {
-                field = new BridgeField(i);
-            } else if (i == 14 || i == 18 || i == 27 || i == 32 || i == 36 || i == 50) {
-                field = new LuckField(i);
-            } else if (i == 19) {
-                field = new Field(i); // Labyrinth TODO
-            } else if (i == 24 || i == 41 || i == 54) {
-                field = new Field(i); // Disaster TODO
-            } else if (i == 52) {
-                field = new AscensionField(i);
-            } else if (i == 58) {
-                field = new Field(i); // New Beginning TODO
-            } else if (i == 63) {
-                field = new ParadiseField(i);
-            } else {
-                field = new Field(i);
-            }
-
-            // Connect the current field with the previous field
-            if (i > 0) {
-                Field previousField = this.gameBoard.get(i - 1);
-                field.setPreviousField(previousField);
-                previousField.setNextField(field);
-            }
-
-            this.gameBoard.add(field);
+    /**
+     * This method sets the game board of this game and looks up the transition table
+     * for its layout.
+     *
+     * @param board The game board
+     */
+    private void initializeGameBoard(GameBoard board) {
+        if (board.getParadiseField() == null) {
+            throw new IllegalArgumentException("The game board has no paradise field.");
         }
+        this.board = board;
+        this.transitionTable = TransitionTable.forBoard(board, numberDice.getFaceCount());
+    }
+
+    /**
+     * This method creates a new standard game board with its own fields. Games on the
+     * standard board share one board instead (see {@link BoardDefinition#getGameBoard()}).
+     *
+     * @return The indexed standard game board
+     */
+    public static GameBoard createGameBoard() {
+        return BoardDefinition.standard().createGameBoard();
     }
 
     /**
      * This method sets the players' figures on the start field.
+     *
+     * @throws IllegalArgumentException If there are more players than the turn entry
+     *                                  of an undo frame can hold
      */
     private void initializePlayers(Color... colors) {
+        if (colors.length > UNDO_SEAT_MASK) {
+            throw new IllegalArgumentException("A game has at most " + UNDO_SEAT_MASK + " players: " + colors.length);
+        }
         colorDice = new Dice(colors.length);
+        turnScheduler = new TurnScheduler(colors.length);
         for (Color color : colors) {
             players.add(new Player(color));
         }
+
+        figuresById = new Figure[players.size() * Player.NUMBER_OF_FIGURES];
+        for (int i = 0; i < players.size(); i++) {
+            List<Figure> figures = players.get(i).getCharacters();
+            for (int j = 0; j < figures.size(); j++) {
+                figuresById[i * Player.NUMBER_OF_FIGURES + j] = figures.get(j);
+                figures.get(j).setId(i * Player.NUMBER_OF_FIGURES + j);
+                figuresByName.putIfAbsent(figures.get(j).getName(), figures.get(j));
+            }
+        }
     }
 
     /**
@@ -234,7 +735,7 @@ public class ParadiseGame implements IParadiseGame {
     private void placePlayerFiguresOnStartField() {
         for (Player player : players) {
             for (Figure figure : player.getCharacters()) {
-                figure.setPosition(gameBoard.get(0));
+                figure.setPosition(board.getField(0));
             }
         }
     }
@@ -244,11 +745,12 @@ public class ParadiseGame implements IParadiseGame {
      * configuration.
      *
      * @param config The configuration of the figures
+     * @throws IllegalArgumentException If a position is not on the game board
      */
     private void placePlayerFiguresWithConfigOnStartField(String config) {
         for (Player player : players) {
             for (Figure figure : player.getCharacters()) {
-                figure.setPosition(gameBoard.get(0));
+                figure.setPosition(board.getField(0));
             }
         }
 
@@ -258,11 +760,168 @@ public class ParadiseGame implements IParadiseGame {
             int position = Integer.parseInt(parts[1]);
             Figure figure = getFigureByName(name);
             if (figure != null) {
-                figure.setPosition(gameBoard.get(position));
+                Field field = board.getField(position);
+                if (field == null) {
+                    throw new IllegalArgumentException("Invalid position of " + name + ": " + position);
+                }
+                figure.setPosition(field);
             }
         }
     }
 
+    /**
+     * This method gives the turn to the player on the given seat and updates the
+     * Zobrist hash and the packed key.
+     *
+     * @param newPlayerIndex The seat index, or -1 for no player on turn
+     */
+    private void setPlayerOnTurn(int newPlayerIndex) {
+        zobristHash ^= StateKeys.turnKey(currentPlayerIndex) ^ StateKeys.turnKey(newPlayerIndex);
+        stateKeyHigh = StateKeys.withPlayerOnTurn(stateKeyHigh, newPlayerIndex);
+        currentPlayerIndex = newPlayerIndex;
+        currentPlayer = (newPlayerIndex < 0) ? null : players.get(newPlayerIndex);
+        turnScheduler.setCurrent(newPlayerIndex);
+    }
+
+    /**
+     * This method computes the Zobrist hash, the packed key and the progress of the
+     * players from the current positions of all figures and the player on turn, and
+     * publishes the first snapshot if publishing is switched on.
+     */
+    private void initializeDerivedState() {
+        progress = new GameProgress(players.size(), board.getParadiseField().getPositionNumber());
+        zobristHash = StateKeys.turnKey(currentPlayerIndex);
+        stateKeyLow = 0;
+        stateKeyHigh = StateKeys.withPlayerCount(0, players.size());
+        stateKeyHigh = StateKeys.withPlayerOnTurn(stateKeyHigh, currentPlayerIndex);
+        for (Figure figure : figuresById) {
+            int position = figure.getPosition().getPositionNumber();
+            zobristHash ^= StateKeys.figureKey(figure.getId(), position);
+            stateKeyLow = StateKeys.withPositionLow(stateKeyLow, figure.getId(), position);
+            stateKeyHigh = StateKeys.withPositionHigh(stateKeyHigh, figure.getId(), position);
+            progress.update(figure.getId(), 0, position);
+        }
+        publishSnapshot();
+    }
+
+    /**
+     * This method updates the Zobrist hash, the packed key and the progress of the
+     * players after a figure has moved from one field to another.
+     *
+     * @param figureId    The id of the moved figure
+     * @param oldPosition The position number of the field the figure left
+     * @param newPosition The position number of the field the figure reached
+     */
+    private void updateDerivedState(int figureId, int oldPosition, int newPosition) {
+        zobristHash ^= StateKeys.figureKey(figureId, oldPosition) ^ StateKeys.figureKey(figureId, newPosition);
+        stateKeyLow = StateKeys.withPositionLow(stateKeyLow, figureId, newPosition);
+        stateKeyHigh = StateKeys.withPositionHigh(stateKeyHigh, figureId, newPosition);
+        progress.update(figureId, oldPosition, newPosition);
+    }
+
+    /**
+     * This method moves a figure that may be moved, updates the derived state and
+     * lets the player skip turns if the move has ended in the labyrinth.
+     *
+     * @param figure The figure to be moved
+     * @param die1   The value of the first die
+     * @param die2   The value of the second die
+     * @return The bit mask of the field events fired by the move
+     */
+    private int applyMove(Figure figure, int die1, int die2) {
+        int position = figure.getPosition().getPositionNumber();
+        figure.setDiceValues(die1, die2);
+        int firedEvents;
+        if (transitionTable.contains(position, die1, die2)) {
+            int destination = transitionTable.getDestination(position, die1, die2);
+            figure.setPosition(board.getField(destination));
+            figure.setTargetPositionNumber(destination);
+            firedEvents = transitionTable.getEvents(position, die1, die2);
+        } else {
+            board.moveFigure(figure, die1 + die2);
+            firedEvents = figure.getFiredEvents();
+        }
+        updateDerivedState(figure.getId(), position, figure.getPosition().getPositionNumber());
+        if ((firedEvents & LABYRINTH_EVENT) != 0) {
+            turnScheduler.skipTurns(figure.getId() / Player.NUMBER_OF_FIGURES, LabyrinthField.SKIPPED_TURNS);
+        }
+        return firedEvents;
+    }
+
+    /**
+     * This method publishes a snapshot of the current position unless publishing is
+     * switched off. The single writing thread replaces the whole snapshot, so readers
+     * never see a partly applied move.
+     */
+    private void publishSnapshot() {
+        if (snapshotPublishing) {
+            publishedSnapshot.set(getSnapshot());
+        }
+    }
+
+    /**
+     * This method publishes the last snapshot with the new position of one figure.
+     *
+     * @param figureId The id of the moved figure
+     * @param position The position number of the field the figure reached
+     */
+    private void publishPosition(int figureId, int position) {
+        if (snapshotPublishing) {
+            publishedSnapshot.set(withCurrentSkips(publishedSnapshot.get().withPosition(figureId, position)));
+        }
+    }
+
+    /**
+     * This method publishes the last snapshot with the current player on turn.
+     */
+    private void publishTurn() {
+        if (snapshotPublishing) {
+            publishedSnapshot.set(withCurrentSkips(publishedSnapshot.get().withPlayerOnTurn(currentPlayerIndex)));
+        }
+    }
+
+    /**
+     * This method updates the skipped turns of a snapshot where they differ from the
+     * turn scheduler, e.g. after a move into the labyrinth or a change of turn that
+     * has passed over a player.
+     *
+     * @param snapshot The snapshot
+     * @return The snapshot with the current skipped turns
+     */
+    private GameSnapshot withCurrentSkips(GameSnapshot snapshot) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            int pendingSkips = turnScheduler.getPendingSkips(seat);
+            if (snapshot.getPendingSkips(seat) != pendingSkips) {
+                snapshot = snapshot.withPendingSkips(seat, pendingSkips);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * This method records a successful move in the engine metrics.
+     *
+     * @param figure      The moved figure
+     * @param firedEvents The bit mask of the field events fired by the move
+     * @param startNanos  The time the move started
+     */
+    private void recordMoveMetrics(Figure figure, int firedEvents, long startNanos) {
+        EngineMetrics metrics = EngineMetrics.get();
+        metrics.recordMove(firedEvents, System.nanoTime() - startNanos);
+        if (progress.getWinner() == figure.getId() / Player.NUMBER_OF_FIGURES) {
+            metrics.recordFinishedGame();
+        }
+    }
+
+    /**
+     * This method checks that the game fits into a packed key.
+     */
+    private void checkPackedKeysSupported() {
+        if (board.size() > StateKeys.MAX_PACKED_BOARD_SIZE || figuresById.length > StateKeys.MAX_PACKED_FIGURES) {
+            throw new UnsupportedOperationException("The game is too large for a packed key.");
+        }
+    }
+
     /**
      * This method searches for a figure with the given name.
      *
@@ -271,14 +930,34 @@ public class ParadiseGame implements IParadiseGame {
      *         was found.
      */
     private Figure getFigureByName(String figureName) {
-        for (Player player : players) {
-            Optional<Figure> optionalFigure = player.getCharacters().stream().filter(f -> f.getName().equals(figureName))
-                    .findFirst();
-            if (optionalFigure.isPresent()) {
-                return optionalFigure.get();
-            }
+        return figureName == null ? null : figuresByName.get(figureName);
+    }
+
+    /**
+     * This method returns the figure with the given id. Figure ids are dense and
+     * follow the seating order: the figures of the first player have the ids 0 and 1,
+     * those of the second player 2 and 3, and so on.
+     *
+     * @param figureId The id of the figure
+     * @return The figure with the given id, or null if the id is out of range.
+     */
+    private Figure getFigureById(int figureId) {
+        if (figureId < 0 || figureId >= figuresById.length) {
+            return null;
+        }
+        return figuresById[figureId];
+    }
+
+    /**
+     * This method checks that all moves made with {@link #makeMove(int, int, int)}
+     * have been taken back.
+     *
+     * @throws IllegalStateException If the undo stack is not empty
+     */
+    private void checkNoUndoPending() {
+        if (undoSize != 0) {
+            throw new IllegalStateException(getUndoDepth() + " moves made with makeMove have not been taken back.");
         }
-        return null;
     }
 
     /**
@@ -288,11 +967,11 @@ public class ParadiseGame implements IParadiseGame {
      * @return true if the figure should not be moved, otherwise false
      */
     private boolean shouldNotMoveFigure(Figure figureToMove) {
-        if (figureToMove == null) {
+        if (figureToMove == null || currentPlayer == null) {
             return true;
         }
 
-        boolean wrongFigureSelected = !(figureToMove.getColor().equals(currentPlayer.getColor()));
+        boolean wrongFigureSelected = !currentPlayer.getCharacters().contains(figureToMove);
         boolean thereIsAWinner = (getWinner() != null);
         boolean figureIsAlreadyInParadise = figureToMove.getPosition() instanceof ParadiseField;
 
@@ -1,6 +1,7 @@
 package main.java.com.paradise;
 
 import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.ParadiseField;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,13 @@ import java.util.List;
  * @version 0.1.0
  */
 public class Player {
+    /**
+     * The number of figures of each player.
+     */
+    public static final int NUMBER_OF_FIGURES = 2;
+
+    private static final String[][] FIGURE_NAMES = createFigureNames();
+
     private final Color color;
     private final List<Figure> figures;
 
@@ -24,8 +32,32 @@ public class Player {
     public Player(Color color) {
         this.color = color;
         figures = new ArrayList<>();
-        figures.add(new Figure(color, color.name() + "-A"));
-        figures.add(new Figure(color, color.name() + "-B"));
+        for (int i = 0; i < NUMBER_OF_FIGURES; i++) {
+            figures.add(new Figure(color, getFigureName(color, i)));
+        }
+    }
+
+    /**
+     * Returns the name of a figure of the given color, e.g. "BLUE-A" for the first
+     * figure of the blue player. The names are created once and shared.
+     *
+     * @param color The color of the figure.
+     * @param index The index of the figure within its player (0 for A, 1 for B).
+     * @return The name of the figure.
+     */
+    public static String getFigureName(Color color, int index) {
+        return FIGURE_NAMES[color.ordinal()][index];
+    }
+
+    private static String[][] createFigureNames() {
+        Color[] colors = Color.values();
+        String[][] names = new String[colors.length][NUMBER_OF_FIGURES];
+        for (Color color : colors) {
+            for (int i = 0; i < NUMBER_OF_FIGURES; i++) {
+                names[color.ordinal()][i] = color.name() + "-" + (char) ('A' + i);
+            }
+        }
+        return names;
     }
 
     public Color getColor() {
@@ -43,8 +75,8 @@ public class Player {
      */
     public int getNumberOfCharactersInParadise() {
         int count = 0;
-        for (Figure p : figures) {
-            if (p.getPosition().getPositionNumber() == 63) {
+        for (int i = 0; i < figures.size(); i++) {
+            if (figures.get(i).getPosition() instanceof ParadiseField) {
                 count++;
             }
         }
@@ -0,0 +1,191 @@
+package main.java.com.paradise;
+
+import main.java.com.paradise.state.StateKeys;
+
+import java.util.Arrays;
+
+/**
+ * The TurnScheduler class determines which player is on turn. The players sit in a
+ * ring and the turn passes to the next seat, except that a player with pending
+ * skipped turns (e.g. after a figure has ended its move in the labyrinth) is passed
+ * over once per skipped turn. Advancing the turn does not allocate and takes
+ * constant time for the at most six players of a game. The scheduler keeps the
+ * Zobrist keys of the pending skipped turns (see {@link StateKeys#skipKey(int, int)})
+ * up to date, so games can include them in their hash without recomputing it.
+ *
+ * <p>The scheduler is used by the interactive game loop and by the headless engines
+ * alike, so all of them follow the same turn order.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class TurnScheduler {
+    private final int playerCount;
+    private final int[] pendingSkips;
+    private int current = -1;
+    private int passedOnLastAdvance;
+    private long skipHash;
+
+    /**
+     * Creates a scheduler without a player on turn.
+     *
+     * @param playerCount The number of players.
+     */
+    public TurnScheduler(int playerCount) {
+        if (playerCount < 1) {
+            throw new IllegalArgumentException("At least one player is required.");
+        }
+        this.playerCount = playerCount;
+        this.pendingSkips = new int[playerCount];
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Returns the seat of the player on turn.
+     *
+     * @return The seat index, or -1 if no player is on turn yet.
+     */
+    public int getCurrent() {
+        return current;
+    }
+
+    /**
+     * Gives the turn to the given seat, e.g. to the first player determined with the
+     * color die. Pending skipped turns are kept.
+     *
+     * @param seat The seat index, or -1 for no player on turn.
+     */
+    public void setCurrent(int seat) {
+        if (seat < -1 || seat >= playerCount) {
+            throw new IllegalArgumentException("Invalid seat: " + seat);
+        }
+        current = seat;
+    }
+
+    /**
+     * Passes the turn to the next seat in the ring whose player does not have to skip
+     * it. Every player that is passed over has one pending skipped turn fewer.
+     *
+     * @return The seat index of the new player on turn.
+     */
+    public int advance() {
+        int seat = current;
+        int passed = 0;
+        while (true) {
+            seat = (seat + 1 == playerCount) ? 0 : seat + 1;
+            if (pendingSkips[seat] == 0) {
+                current = seat;
+                passedOnLastAdvance = passed;
+                return seat;
+            }
+            setPendingSkips(seat, pendingSkips[seat] - 1);
+            passed++;
+        }
+    }
+
+    /**
+     * Returns the number of players that were passed over by the last call of
+     * {@link #advance()}, counting a player once for every skipped turn.
+     *
+     * @return The number of skipped turns consumed by the last advance.
+     */
+    public int getPassedOnLastAdvance() {
+        return passedOnLastAdvance;
+    }
+
+    /**
+     * Takes back a call of {@link #advance()}: the turn returns to the given seat and
+     * the players that were passed over get their skipped turns back.
+     *
+     * @param previous The seat that was on turn before the advance.
+     * @param passed   The number of players passed over by the advance, see
+     *                 {@link #getPassedOnLastAdvance()}.
+     */
+    public void revertAdvance(int previous, int passed) {
+        int seat = previous;
+        for (int i = 0; i < passed; i++) {
+            seat = (seat + 1 == playerCount) ? 0 : seat + 1;
+            setPendingSkips(seat, pendingSkips[seat] + 1);
+        }
+        current = previous;
+    }
+
+    /**
+     * Lets the player on the given seat skip its next turns.
+     *
+     * @param seat  The seat index of the player.
+     * @param turns The number of turns to skip in addition to the pending ones.
+     */
+    public void skipTurns(int seat, int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("The number of turns must not be negative.");
+        }
+        setPendingSkips(seat, pendingSkips[seat] + turns);
+    }
+
+    /**
+     * Takes back turns the player on the given seat was to skip, e.g. when the move
+     * into the labyrinth is taken back.
+     *
+     * @param seat  The seat index of the player.
+     * @param turns The number of pending turns to remove.
+     */
+    public void cancelSkippedTurns(int seat, int turns) {
+        if (turns < 0 || turns > pendingSkips[seat]) {
+            throw new IllegalArgumentException("Invalid number of turns: " + turns);
+        }
+        setPendingSkips(seat, pendingSkips[seat] - turns);
+    }
+
+    /**
+     * Returns the number of turns the player on the given seat still has to skip.
+     *
+     * @param seat The seat index of the player.
+     * @return The number of pending skipped turns.
+     */
+    public int getPendingSkips(int seat) {
+        return pendingSkips[seat];
+    }
+
+    /**
+     * Returns the XOR of the Zobrist keys of all pending skipped turns.
+     *
+     * @return The part of the Zobrist hash contributed by the skipped turns.
+     */
+    public long getSkipHash() {
+        return skipHash;
+    }
+
+    /**
+     * Removes the player on turn and all pending skipped turns.
+     */
+    public void reset() {
+        current = -1;
+        passedOnLastAdvance = 0;
+        skipHash = 0;
+        Arrays.fill(pendingSkips, 0);
+    }
+
+    /**
+     * Sets the number of turns the player on the given seat still has to skip, e.g.
+     * when a game is restored.
+     *
+     * @param seat  The seat index of the player.
+     * @param turns The number of pending skipped turns.
+     */
+    public void setPendingSkips(int seat, int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("The number of turns must not be negative.");
+        }
+        skipHash ^= StateKeys.skipKey(seat, pendingSkips[seat]) ^ StateKeys.skipKey(seat, turns);
+        pendingSkips[seat] = turns;
+    }
+
+    @Override
+    public String toString() {
+        return "TurnScheduler{current=" + current + ", pendingSkips=" + Arrays.toString(pendingSkips) + '}';
+    }
+}
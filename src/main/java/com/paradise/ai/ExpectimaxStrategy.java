@@ -0,0 +1,239 @@
+package main.java.com.paradise.ai;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.analysis.MarkovChainAnalyzer;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.LabyrinthField;
+import main.java.com.paradise.fields.TransitionTable;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+
+/**
+ * The ExpectimaxStrategy is a computer player that chooses the figure to move with
+ * an expectimax search over the player's future dice rolls. Figures of different
+ * players never interact, so the search only covers the player's own turns: every
+ * max node chooses between figure A and B, every chance node averages over all dice
+ * outcomes, and the leaves are rated by the expected number of moves each figure
+ * still needs on its own (taken from the {@link MarkovChainAnalyzer}). The strategy
+ * minimizes the expected number of turns until both figures are in paradise. A move
+ * into the labyrinth costs the turn the player has to skip afterwards.
+ *
+ * <p>The search deepens iteratively until the time budget or the maximum depth is
+ * reached and then uses the decision of the deepest completed iteration. Node values
+ * depend only on the positions and the remaining depth, so they are kept in a
+ * per-thread {@link TranspositionTable} across decisions.</p>
+ *
+ * <p>With a time budget the reached depth depends on the speed of the machine, so
+ * the same position can lead to different decisions. Such a strategy does not report
+ * {@link #usesOnlyOwnFigures()} and cannot be analyzed. A strategy created with
+ * {@link #NO_TIME_LIMIT} always searches to the maximum depth and decides the same
+ * way every time.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class ExpectimaxStrategy implements FigureSelectionStrategy {
+    /**
+     * The time budget of a strategy that always searches to its maximum depth.
+     */
+    public static final long NO_TIME_LIMIT = 0;
+
+    /**
+     * The maximum search depth, limited by the depth bits of the transposition table
+     * keys.
+     */
+    public static final int MAX_DEPTH = 0xFF;
+
+    private static final int TABLE_CAPACITY = 1 << 18;
+    private static final int NODES_BETWEEN_TIME_CHECKS = 256;
+
+    private final TransitionTable transitionTable;
+    private final int boardSize;
+    private final int paradisePosition;
+    private final int faceCount;
+    private final double[] expectedMoves;
+    private final long timeBudgetNanos;
+    private final int maxDepth;
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+
+    /**
+     * Creates a strategy for the standard game board that decides within 500
+     * microseconds and searches at most 8 turns ahead.
+     */
+    public ExpectimaxStrategy() {
+        this(ParadiseGame.createGameBoard(), ParadiseGame.NUMBER_DICE_FACES, 500_000, 8);
+    }
+
+    /**
+     * Creates a strategy for the given game board.
+     *
+     * @param board           The game board.
+     * @param faceCount       The number of faces of each of the two dice.
+     * @param timeBudgetNanos The time after which no further iteration is started or
+     *                        a running one is aborted, or {@link #NO_TIME_LIMIT}.
+     * @param maxDepth        The maximum number of own turns to search ahead, from 1
+     *                        to {@link #MAX_DEPTH}.
+     * @throws IllegalArgumentException If the time budget is negative or the maximum
+     *                                  depth is out of range.
+     */
+    public ExpectimaxStrategy(GameBoard board, int faceCount, long timeBudgetNanos, int maxDepth) {
+        if (timeBudgetNanos < 0) {
+            throw new IllegalArgumentException("The time budget must not be negative: " + timeBudgetNanos);
+        }
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new IllegalArgumentException("The maximum depth must be between 1 and " + MAX_DEPTH + ": " + maxDepth);
+        }
+        this.transitionTable = TransitionTable.forBoard(board, faceCount);
+        this.boardSize = board.size();
+        this.paradisePosition = board.getParadiseField().getPositionNumber();
+        this.faceCount = faceCount;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxDepth = maxDepth;
+
+        MarkovChainAnalyzer analyzer = MarkovChainAnalyzer.forBoard(board, faceCount);
+        this.expectedMoves = new double[boardSize];
+        for (int position = 0; position < boardSize; position++) {
+            expectedMoves[position] = analyzer.getMoveDistribution(position).getExpectedTurns();
+        }
+    }
+
+    @Override
+    public int selectFigure(int[] positions, int playerIndex, int die1, int die2) {
+        int first = playerIndex * 2;
+        return searches.get().selectFigure(positions[first], positions[first + 1], die1, die2);
+    }
+
+    /**
+     * Returns whether the strategy can be analyzed per player. Only strategies without
+     * a time budget qualify, because only their decisions depend on nothing but the
+     * player's own figures and the dice.
+     *
+     * @return true if the strategy has no time budget.
+     */
+    @Override
+    public boolean usesOnlyOwnFigures() {
+        return timeBudgetNanos == NO_TIME_LIMIT;
+    }
+
+    /**
+     * Returns the depth reached by the last decision of the calling thread.
+     *
+     * @return The depth of the deepest completed iteration.
+     */
+    public int getLastDepth() {
+        return searches.get().completedDepth;
+    }
+
+    /**
+     * Returns the transposition table of the calling thread.
+     *
+     * @return The transposition table.
+     */
+    public TranspositionTable getTranspositionTable() {
+        return searches.get().table;
+    }
+
+    /**
+     * The search state of one thread.
+     */
+    private class Search {
+        private final TranspositionTable table = new TranspositionTable(TABLE_CAPACITY);
+        private long deadline;
+        private int nodesUntilTimeCheck;
+        private boolean aborted;
+        private int completedDepth;
+
+        int selectFigure(int a, int b, int die1, int die2) {
+            if (a == paradisePosition) {
+                return 1;
+            }
+            if (b == paradisePosition) {
+                return 0;
+            }
+            int afterA = transitionTable.getDestination(a, die1, die2);
+            int afterB = transitionTable.getDestination(b, die1, die2);
+            int skipA = skippedTurns(a, die1, die2);
+            int skipB = skippedTurns(b, die1, die2);
+
+            deadline = timeBudgetNanos == NO_TIME_LIMIT ? Long.MAX_VALUE : System.nanoTime() + timeBudgetNanos;
+            nodesUntilTimeCheck = NODES_BETWEEN_TIME_CHECKS;
+            aborted = false;
+            completedDepth = 0;
+
+            // Depth 0 rates the two successors by the leaf heuristic alone
+            int best = skipA + cost(afterA, b, 0) <= skipB + cost(a, afterB, 0) ? 0 : 1;
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                double costA = skipA + cost(afterA, b, depth);
+                double costB = aborted ? 0 : skipB + cost(a, afterB, depth);
+                if (aborted) {
+                    break;
+                }
+                best = costA <= costB ? 0 : 1;
+                completedDepth = depth;
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Returns the expected number of further turns until both figures are in
+         * paradise, searching the given number of turns ahead.
+         */
+        double cost(int a, int b, int depth) {
+            if (a == paradisePosition && b == paradisePosition) {
+                return 0;
+            }
+            if (depth == 0) {
+                return expectedMoves[a] + expectedMoves[b];
+            }
+            long key = (((long) a * boardSize + b) << 8) | depth;
+            if (table.contains(key)) {
+                return table.get(key);
+            }
+            if (--nodesUntilTimeCheck <= 0) {
+                nodesUntilTimeCheck = NODES_BETWEEN_TIME_CHECKS;
+                if (System.nanoTime() >= deadline) {
+                    aborted = true;
+                }
+            }
+            if (aborted) {
+                return 0;
+            }
+
+            double sum = 0;
+            for (int die1 = 1; die1 <= faceCount; die1++) {
+                for (int die2 = 1; die2 <= faceCount; die2++) {
+                    double moveA = Double.MAX_VALUE;
+                    double moveB = Double.MAX_VALUE;
+                    if (a != paradisePosition) {
+                        moveA = skippedTurns(a, die1, die2)
+                                + cost(transitionTable.getDestination(a, die1, die2), b, depth - 1);
+                    }
+                    if (b != paradisePosition) {
+                        moveB = skippedTurns(b, die1, die2)
+                                + cost(a, transitionTable.getDestination(b, die1, die2), depth - 1);
+                    }
+                    sum += Math.min(moveA, moveB);
+                }
+            }
+            double value = 1 + sum / (faceCount * faceCount);
+            if (!aborted) {
+                table.put(key, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of turns the player has to skip after the given move.
+     */
+    private int skippedTurns(int position, int die1, int die2) {
+        return transitionTable.skipsTurn(position, die1, die2) ? LabyrinthField.SKIPPED_TURNS : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ExpectimaxStrategy{timeBudgetNanos=" + timeBudgetNanos + ", maxDepth=" + maxDepth + '}';
+    }
+}
@@ -0,0 +1,103 @@
+package main.java.com.paradise.ai;
+
+import java.util.Arrays;
+
+/**
+ * The TranspositionTable class caches search values by state key in a fixed-size,
+ * open-addressed table of primitive arrays. When a bucket is taken by another key
+ * the old entry is replaced, so the memory use never grows. The table is not
+ * thread-safe.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class TranspositionTable {
+    private static final long EMPTY = -1L;
+
+    private final long[] keys;
+    private final double[] values;
+    private final int mask;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates a table with at least the given number of entries.
+     *
+     * @param minimumCapacity The minimum number of entries; rounded up to a power of two.
+     */
+    public TranspositionTable(int minimumCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, minimumCapacity - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new double[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Checks whether a value for the key is stored. The value can then be read with
+     * {@link #get(long)}.
+     *
+     * @param key The non-negative key of the state.
+     * @return true if the table holds a value for the key.
+     */
+    public boolean contains(long key) {
+        boolean found = keys[index(key)] == key;
+        if (found) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return found;
+    }
+
+    /**
+     * Returns the value stored for the key. Only valid after {@link #contains(long)}
+     * returned true for the same key.
+     *
+     * @param key The non-negative key of the state.
+     * @return The stored value.
+     */
+    public double get(long key) {
+        return values[index(key)];
+    }
+
+    /**
+     * Stores a value for the key, replacing whatever was stored in its bucket.
+     *
+     * @param key   The non-negative key of the state.
+     * @param value The value to be stored.
+     */
+    public void put(long key, double value) {
+        int index = index(key);
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hits = 0;
+        misses = 0;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    private int index(long key) {
+        long hash = key * 0x9e3779b97f4a7c15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "TranspositionTable{capacity=" + keys.length + ", hits=" + hits + ", misses=" + misses + '}';
+    }
+}
@@ -0,0 +1,296 @@
+package main.java.com.paradise.analysis;
+
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.enums.FieldType;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.fields.Field;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.interfaces.IMoveListener;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The FieldHeatmap class counts per field and player how often figures land on a
+ * field, pass over it and trigger its event. It consumes the moves of games as an
+ * {@link IMoveListener}, so it can be attached to any game, and replays every move
+ * step by step on the fields of the board to see the fields in between:
+ * <ul>
+ *     <li>landed: the move ended on the field,</li>
+ *     <li>passed: the figure entered the field during the move but did not stop there,
+ *     e.g. a field it walked over or the start of a luck jump,</li>
+ *     <li>triggered: the event of the field was executed.</li>
+ * </ul>
+ * Fields skipped by a bridge or luck jump are not passed.
+ *
+ * <p>The counts are kept in primitive arrays with one row per seat, because every
+ * seat has its own strategy. Instances are not thread-safe; every worker fills its own
+ * heatmap and the partial results are combined with {@link #merge(FieldHeatmap)}.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class FieldHeatmap implements IMoveListener {
+    private static final String CSV_HEADER = "players,seat,color,strategy,field,type,landed,passed,triggered";
+
+    private final BoardDefinition definition;
+    private final GameBoard board;
+    private final Color[] colors;
+    private final String[] strategyNames;
+    private final int boardSize;
+    // The count of seat s and field f is at index s * boardSize + f
+    private final long[] landed;
+    private final long[] passed;
+    private final long[] triggered;
+    private final PathProbe probe = new PathProbe();
+    private long moves;
+
+    /**
+     * Creates an empty heatmap for games on the standard board.
+     *
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public FieldHeatmap(Color[] colors, FigureSelectionStrategy... strategies) {
+        this(BoardDefinition.standard(), colors, strategies);
+    }
+
+    /**
+     * Creates an empty heatmap.
+     *
+     * @param definition The definition of the board the games are played on.
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public FieldHeatmap(BoardDefinition definition, Color[] colors, FigureSelectionStrategy... strategies) {
+        if (colors.length != strategies.length) {
+            throw new IllegalArgumentException("Exactly one strategy per player is required.");
+        }
+        this.definition = definition;
+        this.board = definition.getGameBoard();
+        this.colors = colors.clone();
+        this.strategyNames = new String[strategies.length];
+        for (int i = 0; i < strategies.length; i++) {
+            strategyNames[i] = String.valueOf(strategies[i]);
+        }
+        this.boardSize = definition.size();
+        this.landed = new long[colors.length * boardSize];
+        this.passed = new long[colors.length * boardSize];
+        this.triggered = new long[colors.length * boardSize];
+    }
+
+    /**
+     * Counts the fields of one move.
+     *
+     * @throws IllegalArgumentException If the move does not belong to a player of
+     *                                  the heatmap or does not match the board.
+     */
+    @Override
+    public void onMove(Color color, int figureId, int die1, int die2, int fromPosition, int toPosition) {
+        int seat = figureId / Player.NUMBER_OF_FIGURES;
+        if (figureId < 0 || seat >= colors.length || colors[seat] != color) {
+            throw new IllegalArgumentException("The figure " + figureId + " does not belong to " + color + ".");
+        }
+        Field start = board.getField(fromPosition);
+        if (start == null) {
+            throw new IllegalArgumentException("Invalid start field: " + fromPosition);
+        }
+
+        // The move is checked on a dry walk first, so a rejected move leaves no counts
+        int destination = walk(start, die1, die2, -1);
+        if (destination != toPosition) {
+            throw new IllegalArgumentException("The move from " + fromPosition + " with " + die1 + " and " + die2
+                    + " ends on field " + destination + " of the board, not on " + toPosition + ".");
+        }
+        walk(start, die1, die2, seat * boardSize);
+        // The destination has been counted as passed when the figure entered it
+        passed[seat * boardSize + destination]--;
+        landed[seat * boardSize + destination]++;
+        moves++;
+    }
+
+    /**
+     * Walks the probe step by step from a field with the given dice.
+     *
+     * @param start  The field the move starts on.
+     * @param die1   The value of the first die.
+     * @param die2   The value of the second die.
+     * @param offset The index of the row of the seat to be counted, or -1 to count nothing.
+     * @return The position number of the field the move ends on.
+     */
+    private int walk(Field start, int die1, int die2, int offset) {
+        probe.offset = -1;
+        probe.setPosition(start);
+        probe.setDiceValues(die1, die2);
+        probe.offset = offset;
+        for (int step = 0; step < die1 + die2; step++) {
+            probe.getPosition().moveToNextOrPrev(probe);
+        }
+        probe.offset = -1;
+        return probe.getPosition().getPositionNumber();
+    }
+
+    /**
+     * Adds the counts of another heatmap of the same board and players to this one.
+     *
+     * @param other The heatmap to be merged into this one.
+     * @return This heatmap.
+     */
+    public FieldHeatmap merge(FieldHeatmap other) {
+        if (boardSize != other.boardSize || !Arrays.equals(colors, other.colors)
+                || !Arrays.equals(strategyNames, other.strategyNames)) {
+            throw new IllegalArgumentException("Heatmaps of different boards or players cannot be merged.");
+        }
+        for (int i = 0; i < landed.length; i++) {
+            landed[i] += other.landed[i];
+            passed[i] += other.passed[i];
+            triggered[i] += other.triggered[i];
+        }
+        moves += other.moves;
+        return this;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public Color[] getColors() {
+        return colors.clone();
+    }
+
+    public long getLanded(int seat, int position) {
+        return landed[seat * boardSize + position];
+    }
+
+    public long getPassed(int seat, int position) {
+        return passed[seat * boardSize + position];
+    }
+
+    public long getTriggered(int seat, int position) {
+        return triggered[seat * boardSize + position];
+    }
+
+    /**
+     * Returns how often any figure has landed on the given field.
+     *
+     * @param position The position number of the field.
+     * @return The number of moves of all players that ended on the field.
+     */
+    public long getLanded(int position) {
+        long total = 0;
+        for (int seat = 0; seat < colors.length; seat++) {
+            total += landed[seat * boardSize + position];
+        }
+        return total;
+    }
+
+    /**
+     * Writes the heatmap as CSV with one row per seat and field and a header line.
+     *
+     * @param writer The writer to write to; it is not closed.
+     * @throws IOException If writing fails.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writeCsv(writer, this);
+    }
+
+    /**
+     * Writes the heatmap as CSV to a file, replacing an existing file.
+     *
+     * @param path The path of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeCsv(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeCsv(writer, this);
+        }
+    }
+
+    /**
+     * Writes several heatmaps, e.g. of different player counts and strategies, into
+     * one CSV table with a single header line.
+     *
+     * @param writer   The writer to write to; it is not closed.
+     * @param heatmaps The heatmaps to be written.
+     * @throws IOException If writing fails.
+     */
+    public static void writeCsv(Writer writer, FieldHeatmap... heatmaps) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        for (FieldHeatmap heatmap : heatmaps) {
+            heatmap.writeCsvRows(writer);
+        }
+    }
+
+    private void writeCsvRows(Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int seat = 0; seat < colors.length; seat++) {
+            for (int position = 0; position < boardSize; position++) {
+                int index = seat * boardSize + position;
+                line.setLength(0);
+                line.append(colors.length).append(',')
+                        .append(seat).append(',')
+                        .append(colors[seat]).append(',')
+                        .append(csvValue(strategyNames[seat])).append(',')
+                        .append(position).append(',')
+                        .append(definition.getFieldType(position).getKeyword()).append(',')
+                        .append(landed[index]).append(',')
+                        .append(passed[index]).append(',')
+                        .append(triggered[index]).append('\n');
+                writer.write(line.toString());
+            }
+        }
+    }
+
+    private static String csvValue(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public String toString() {
+        return "FieldHeatmap{players=" + colors.length + ", boardSize=" + boardSize + ", moves=" + moves + '}';
+    }
+
+    /**
+     * The figure that replays the moves. It counts every field it enters and every
+     * event it triggers in the row given by {@code offset}, or nothing if the offset
+     * is negative.
+     */
+    private final class PathProbe extends Figure {
+        private int offset = -1;
+
+        PathProbe() {
+            super(null, "heatmap-probe");
+        }
+
+        @Override
+        public void setPosition(Field position) {
+            if (offset >= 0 && position != null) {
+                passed[offset + position.getPositionNumber()]++;
+            }
+            super.setPosition(position);
+        }
+
+        @Override
+        public void recordEvent(FieldType type) {
+            super.recordEvent(type);
+            if (offset >= 0) {
+                triggered[offset + getPosition().getPositionNumber()]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package main.java.com.paradise.analysis;
+
+import main.java.com.paradise.enums.Color;
+
+/**
+ * The GameOdds class holds the exact win probability and the turn distributions of
+ * every player of a game.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class GameOdds {
+    private final Color[] colors;
+    private final double[] winProbabilities;
+    private final PlayerAnalysis[] playerAnalyses;
+
+    /**
+     * Creates new game odds.
+     *
+     * @param colors           The colors of the players in seating order.
+     * @param winProbabilities The win probability of each player.
+     * @param playerAnalyses   The turn distributions of each player.
+     */
+    public GameOdds(Color[] colors, double[] winProbabilities, PlayerAnalysis[] playerAnalyses) {
+        this.colors = colors.clone();
+        this.winProbabilities = winProbabilities.clone();
+        this.playerAnalyses = playerAnalyses.clone();
+    }
+
+    /**
+     * Returns the probability that the player with the given color wins the game.
+     *
+     * @param color The color of the player.
+     * @return The win probability, or 0 if the color does not play.
+     */
+    public double getWinProbability(Color color) {
+        int index = indexOf(color);
+        return index < 0 ? 0 : winProbabilities[index];
+    }
+
+    /**
+     * Returns the turn distributions of the player with the given color.
+     *
+     * @param color The color of the player.
+     * @return The analysis of the player, or null if the color does not play.
+     */
+    public PlayerAnalysis getPlayerAnalysis(Color color) {
+        int index = indexOf(color);
+        return index < 0 ? null : playerAnalyses[index];
+    }
+
+    public Color[] getColors() {
+        return colors.clone();
+    }
+
+    private int indexOf(Color color) {
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] == color) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Odds:\n");
+        for (int i = 0; i < colors.length; i++) {
+            result.append(String.format("%s: %.4f%% (%.2f turns)\n", colors[i], 100 * winProbabilities[i],
+                    playerAnalyses[i].getPlayerDistribution().getExpectedTurns()));
+        }
+        return result.toString();
+    }
+}
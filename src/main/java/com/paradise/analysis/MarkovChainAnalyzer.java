@@ -0,0 +1,405 @@
+package main.java.com.paradise.analysis;
+
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.Field;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.LayoutCache;
+import main.java.com.paradise.fields.TransitionTable;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The MarkovChainAnalyzer computes exact odds for a game board by treating the game
+ * as an absorbing Markov chain. The moves are taken from the {@link TransitionTable}
+ * of the board, so the analysis follows the real field rules. Because the players
+ * cannot influence each other's figures, every player is a separate chain over the
+ * positions of its two figures, and the win probabilities follow from the turn
+ * order. A move that ends in the labyrinth leads to a copy of the state that only
+ * waits for one turn, so skipped turns are counted like played ones.
+ *
+ * <p>Analyzers and their results are cached for the {@value #CACHE_CAPACITY} board
+ * layouts used most recently. The strategies must be deterministic and only look at
+ * the figures of the player on turn (see
+ * {@link FigureSelectionStrategy#usesOnlyOwnFigures()}), and the same strategy
+ * instance should be passed to benefit from the cache.</p>
+ *
+ * <p>The analysis of a player keeps one successor state per pair of figure
+ * positions and dice outcome for every strategy, i.e. boardSize² × faceCount² ints.
+ * That is 0.6 MB for the standard board, but grows quadratically with the board, so
+ * boards are limited to {@value #MAX_SUCCESSOR_ENTRIES} entries (256 fields with
+ * six-sided dice, 9 MB per strategy). Larger boards are rejected when the analyzer
+ * is created.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class MarkovChainAnalyzer {
+    /**
+     * The probability mass below which a distribution is cut off.
+     */
+    private static final double TAIL_TOLERANCE = 1e-15;
+    private static final int MAX_TURNS = 1_000_000;
+    private static final long MAX_SUCCESSOR_ENTRIES = 256L * 256 * 36;
+    private static final int CACHE_CAPACITY = 8;
+    private static final LayoutCache<MarkovChainAnalyzer> CACHE = new LayoutCache<>(CACHE_CAPACITY);
+
+    private final TransitionTable transitionTable;
+    private final int boardSize;
+    private final int paradisePosition;
+    private final int outcomeCount;
+    private final Map<Integer, TurnDistribution> moveDistributions = new ConcurrentHashMap<>();
+    private final Map<FigureSelectionStrategy, int[]> successors = new ConcurrentHashMap<>();
+    private final Map<FigureSelectionStrategy, Map<Integer, PlayerAnalysis>> playerAnalyses = new ConcurrentHashMap<>();
+
+    private MarkovChainAnalyzer(GameBoard board, int faceCount) {
+        Field paradiseField = board.getParadiseField();
+        if (paradiseField == null) {
+            throw new IllegalArgumentException("The game board has no paradise field.");
+        }
+        long successorEntries = (long) board.size() * board.size() * faceCount * faceCount;
+        if (successorEntries > MAX_SUCCESSOR_ENTRIES) {
+            throw new IllegalArgumentException("A board with " + board.size() + " fields and dice with " + faceCount
+                    + " faces needs " + (successorEntries * Integer.BYTES >> 20) + " MB per strategy to be analyzed, at most "
+                    + (MAX_SUCCESSOR_ENTRIES * Integer.BYTES >> 20) + " MB are supported.");
+        }
+        this.transitionTable = TransitionTable.forBoard(board, faceCount);
+        this.boardSize = board.size();
+        this.paradisePosition = paradiseField.getPositionNumber();
+        this.outcomeCount = faceCount * faceCount;
+    }
+
+    /**
+     * Returns the analyzer for the layout of the given board.
+     *
+     * @param board     The game board.
+     * @param faceCount The number of faces of each of the two dice.
+     * @return The analyzer for the board layout.
+     * @throws IllegalArgumentException If the board has no paradise field or is too
+     *                                  large to be analyzed.
+     */
+    public static MarkovChainAnalyzer forBoard(GameBoard board, int faceCount) {
+        String key = faceCount + ":" + board.getLayoutKey();
+        return CACHE.get(key, k -> new MarkovChainAnalyzer(board, faceCount));
+    }
+
+    /**
+     * Returns the distribution of the number of moves a single figure needs from the
+     * given field to paradise.
+     *
+     * @param startPosition The position number of the start field.
+     * @return The distribution of the number of moves.
+     */
+    public TurnDistribution getMoveDistribution(int startPosition) {
+        return moveDistributions.computeIfAbsent(startPosition, this::computeMoveDistribution);
+    }
+
+    /**
+     * Returns the turn distributions of a player whose figures stand on the given
+     * fields and who always selects the figure to move with the given strategy.
+     *
+     * @param positionA The position number of figure A.
+     * @param positionB The position number of figure B.
+     * @param strategy  The deterministic strategy of the player.
+     * @return The turn distributions of the player and its figures.
+     * @throws IllegalArgumentException If the strategy looks at the figures of other
+     *                                  players.
+     */
+    public PlayerAnalysis analyzePlayer(int positionA, int positionB, FigureSelectionStrategy strategy) {
+        if (!strategy.usesOnlyOwnFigures()) {
+            throw new IllegalArgumentException("The strategy " + strategy
+                    + " looks at other players' figures and cannot be analyzed per player.");
+        }
+        return playerAnalyses.computeIfAbsent(strategy, s -> new ConcurrentHashMap<>())
+                .computeIfAbsent(positionA * boardSize + positionB, state -> computePlayerAnalysis(state, strategy));
+    }
+
+    /**
+     * Computes the win probability of every player of a game in progress.
+     *
+     * @param colors       The colors of the players in seating order.
+     * @param positions    The position numbers of all figures, two consecutive
+     *                     entries per player (figure A first, then figure B).
+     * @param playerOnTurn The seat index of the player who moves next, or -1 if the
+     *                     first player is still to be determined by the color die.
+     * @param strategies   The deterministic strategy of each player.
+     * @return The odds of the game.
+     */
+    public GameOdds analyzeGame(Color[] colors, int[] positions, int playerOnTurn, FigureSelectionStrategy... strategies) {
+        return analyzeGame(colors, positions, new int[colors.length], playerOnTurn, strategies);
+    }
+
+    /**
+     * Computes the win probability of every player of a game in progress in which
+     * players may still have to skip turns, e.g. after a figure has ended its move in
+     * the labyrinth.
+     *
+     * @param colors       The colors of the players in seating order.
+     * @param positions    The position numbers of all figures, two consecutive
+     *                     entries per player (figure A first, then figure B).
+     * @param pendingSkips The number of turns each player still has to skip before
+     *                     its next move.
+     * @param playerOnTurn The seat index of the player who moves next, or -1 if the
+     *                     first player is still to be determined by the color die.
+     *                     This player cannot have turns to skip.
+     * @param strategies   The deterministic strategy of each player.
+     * @return The odds of the game.
+     */
+    public GameOdds analyzeGame(Color[] colors, int[] positions, int[] pendingSkips, int playerOnTurn,
+                                FigureSelectionStrategy... strategies) {
+        int playerCount = colors.length;
+        if (positions.length != 2 * playerCount || strategies.length != playerCount
+                || pendingSkips.length != playerCount) {
+            throw new IllegalArgumentException("Two positions, one skip count and one strategy per player are required.");
+        }
+        if (playerOnTurn >= 0 && pendingSkips[playerOnTurn] != 0) {
+            throw new IllegalArgumentException("The player on turn cannot have turns to skip.");
+        }
+
+        PlayerAnalysis[] analyses = new PlayerAnalysis[playerCount];
+        TurnDistribution[] distributions = new TurnDistribution[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            analyses[i] = analyzePlayer(positions[2 * i], positions[2 * i + 1], strategies[i])
+                    .delay(pendingSkips[i]);
+            distributions[i] = analyses[i].getPlayerDistribution();
+        }
+
+        double[] winProbabilities = new double[playerCount];
+        if (playerOnTurn < 0) {
+            for (int first = 0; first < playerCount; first++) {
+                addWinProbabilities(distributions, first, 1.0 / playerCount, winProbabilities);
+            }
+        } else {
+            addWinProbabilities(distributions, playerOnTurn, 1.0, winProbabilities);
+        }
+        return new GameOdds(colors, winProbabilities, analyses);
+    }
+
+    /**
+     * Computes the odds of a new game where all figures stand on the start field.
+     *
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The deterministic strategy of each player.
+     * @return The odds of the game.
+     */
+    public GameOdds analyzeNewGame(Color[] colors, FigureSelectionStrategy... strategies) {
+        return analyzeGame(colors, new int[2 * colors.length], -1, strategies);
+    }
+
+    /**
+     * Adds the win probabilities for a fixed first player, weighted by the given
+     * factor. The player at order position k wins in its n-th turn if it finishes in
+     * exactly that turn, all players before it need more than n turns and all
+     * players after it more than n - 1 turns.
+     */
+    private void addWinProbabilities(TurnDistribution[] distributions, int firstPlayer, double weight,
+                                     double[] winProbabilities) {
+        int playerCount = distributions.length;
+
+        // A game that is already decided is won by the first finished player
+        for (int k = 0; k < playerCount; k++) {
+            int player = (firstPlayer + k) % playerCount;
+            if (distributions[player].getProbability(0) >= 1.0) {
+                winProbabilities[player] += weight;
+                return;
+            }
+        }
+
+        int maxTurns = 0;
+        for (TurnDistribution distribution : distributions) {
+            maxTurns = Math.max(maxTurns, distribution.getMaxTurns());
+        }
+        for (int turn = 1; turn <= maxTurns; turn++) {
+            for (int k = 0; k < playerCount; k++) {
+                int player = (firstPlayer + k) % playerCount;
+                double probability = distributions[player].getProbability(turn);
+                for (int j = 0; j < playerCount && probability > 0; j++) {
+                    int other = (firstPlayer + j) % playerCount;
+                    if (j < k) {
+                        probability *= 1 - distributions[other].getCumulativeProbability(turn);
+                    } else if (j > k) {
+                        probability *= 1 - distributions[other].getCumulativeProbability(turn - 1);
+                    }
+                }
+                winProbabilities[player] += weight * probability;
+            }
+        }
+    }
+
+    private TurnDistribution computeMoveDistribution(int startPosition) {
+        // Position p + boardSize is position p with a skipped turn pending
+        double[] mass = new double[2 * boardSize];
+        double[] next = new double[2 * boardSize];
+        double[] probabilities = new double[64];
+        mass[startPosition] = 1;
+
+        double remaining = 1;
+        int turn = 0;
+        if (startPosition == paradisePosition) {
+            probabilities[0] = 1;
+            remaining = 0;
+        }
+        while (remaining > TAIL_TOLERANCE && turn < MAX_TURNS) {
+            turn++;
+            Arrays.fill(next, 0);
+            for (int position = 0; position < boardSize; position++) {
+                double share = mass[position] / outcomeCount;
+                if (share == 0 || position == paradisePosition) {
+                    continue;
+                }
+                int faceCount = transitionTable.getFaceCount();
+                for (int die1 = 1; die1 <= faceCount; die1++) {
+                    for (int die2 = 1; die2 <= faceCount; die2++) {
+                        int destination = transitionTable.getDestination(position, die1, die2);
+                        next[transitionTable.skipsTurn(position, die1, die2) ? destination + boardSize : destination]
+                                += share;
+                    }
+                }
+            }
+            for (int position = 0; position < boardSize; position++) {
+                next[position] += mass[position + boardSize];
+            }
+            if (turn >= probabilities.length) {
+                probabilities = Arrays.copyOf(probabilities, probabilities.length * 2);
+            }
+            probabilities[turn] = next[paradisePosition];
+            next[paradisePosition] = 0;
+            remaining = sum(next);
+
+            double[] swap = mass;
+            mass = next;
+            next = swap;
+        }
+        return new TurnDistribution(Arrays.copyOf(probabilities, turn + 1));
+    }
+
+    private PlayerAnalysis computePlayerAnalysis(int startState, FigureSelectionStrategy strategy) {
+        int[] successor = successors.computeIfAbsent(strategy, this::computeSuccessors);
+        int stateCount = boardSize * boardSize;
+        int finishedState = paradisePosition * boardSize + paradisePosition;
+
+        // State s + stateCount is state s with a skipped turn pending
+        double[] mass = new double[2 * stateCount];
+        double[] next = new double[2 * stateCount];
+        double[] playerProbabilities = new double[64];
+        double[] figureAProbabilities = new double[64];
+        double[] figureBProbabilities = new double[64];
+        mass[startState] = 1;
+
+        // Probability of each figure being in paradise after the previous turn
+        double finishedA = (startState / boardSize == paradisePosition) ? 1 : 0;
+        double finishedB = (startState % boardSize == paradisePosition) ? 1 : 0;
+        double finishedPlayer = (startState == finishedState) ? 1 : 0;
+        playerProbabilities[0] = finishedPlayer;
+        figureAProbabilities[0] = finishedA;
+        figureBProbabilities[0] = finishedB;
+
+        // The mass still in play; 1 - finishedPlayer can stay above the tolerance
+        // through rounding errors after every state has been left
+        double remaining = 1 - finishedPlayer;
+        int turn = 0;
+        while (remaining > TAIL_TOLERANCE && turn < MAX_TURNS) {
+            turn++;
+            Arrays.fill(next, 0);
+            for (int state = 0; state < stateCount; state++) {
+                double share = mass[state] / outcomeCount;
+                if (share == 0 || state == finishedState) {
+                    continue;
+                }
+                int offset = state * outcomeCount;
+                for (int outcome = 0; outcome < outcomeCount; outcome++) {
+                    next[successor[offset + outcome]] += share;
+                }
+            }
+            for (int state = 0; state < stateCount; state++) {
+                next[state] += mass[state + stateCount];
+            }
+
+            double newlyFinished = next[finishedState];
+            next[finishedState] = 0;
+            remaining = sum(next);
+            double cumulativeA = finishedPlayer + newlyFinished;
+            double cumulativeB = finishedPlayer + newlyFinished;
+            for (int other = 0; other < boardSize; other++) {
+                int stateA = paradisePosition * boardSize + other;
+                int stateB = other * boardSize + paradisePosition;
+                cumulativeA += next[stateA] + next[stateA + stateCount];
+                cumulativeB += next[stateB] + next[stateB + stateCount];
+            }
+
+            if (turn >= playerProbabilities.length) {
+                playerProbabilities = Arrays.copyOf(playerProbabilities, playerProbabilities.length * 2);
+                figureAProbabilities = Arrays.copyOf(figureAProbabilities, figureAProbabilities.length * 2);
+                figureBProbabilities = Arrays.copyOf(figureBProbabilities, figureBProbabilities.length * 2);
+            }
+            playerProbabilities[turn] = newlyFinished;
+            figureAProbabilities[turn] = Math.max(0, cumulativeA - finishedA);
+            figureBProbabilities[turn] = Math.max(0, cumulativeB - finishedB);
+            finishedPlayer += newlyFinished;
+            finishedA = cumulativeA;
+            finishedB = cumulativeB;
+
+            double[] swap = mass;
+            mass = next;
+            next = swap;
+        }
+
+        return new PlayerAnalysis(new TurnDistribution(Arrays.copyOf(playerProbabilities, turn + 1)),
+                new TurnDistribution(Arrays.copyOf(figureAProbabilities, turn + 1)),
+                new TurnDistribution(Arrays.copyOf(figureBProbabilities, turn + 1)));
+    }
+
+    private static double sum(double[] values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Computes the successor state of every player state and dice outcome. A state
+     * encodes the positions of both figures as positionA * boardSize + positionB.
+     * The strategy is passed the positions of this player only, as seat 0, which is
+     * why it must only look at its own figures. As in the game, a figure in paradise
+     * is never moved. If the move ends in the labyrinth, the successor is the copy of
+     * the state with a pending skipped turn, i.e. the state plus boardSize * boardSize.
+     */
+    private int[] computeSuccessors(FigureSelectionStrategy strategy) {
+        int faceCount = transitionTable.getFaceCount();
+        int[] successor = new int[boardSize * boardSize * outcomeCount];
+        int[] positions = new int[2];
+        for (int a = 0; a < boardSize; a++) {
+            for (int b = 0; b < boardSize; b++) {
+                int offset = (a * boardSize + b) * outcomeCount;
+                for (int die1 = 1; die1 <= faceCount; die1++) {
+                    for (int die2 = 1; die2 <= faceCount; die2++) {
+                        int figure;
+                        if (a == paradisePosition) {
+                            figure = 1;
+                        } else if (b == paradisePosition) {
+                            figure = 0;
+                        } else {
+                            positions[0] = a;
+                            positions[1] = b;
+                            figure = strategy.selectFigure(positions, 0, die1, die2);
+                        }
+                        int newA = (figure == 0 && a != paradisePosition) ? transitionTable.getDestination(a, die1, die2) : a;
+                        int newB = (figure == 1 && b != paradisePosition) ? transitionTable.getDestination(b, die1, die2) : b;
+                        int moved = (figure == 0 && a != paradisePosition) ? a : b;
+                        int skipped = transitionTable.skipsTurn(moved, die1, die2) ? boardSize * boardSize : 0;
+                        successor[offset + (die1 - 1) * faceCount + die2 - 1] = newA * boardSize + newB + skipped;
+                    }
+                }
+            }
+        }
+        return successor;
+    }
+
+    @Override
+    public String toString() {
+        return "MarkovChainAnalyzer{boardSize=" + boardSize + ", paradisePosition=" + paradisePosition + '}';
+    }
+}
@@ -0,0 +1,62 @@
+package main.java.com.paradise.analysis;
+
+/**
+ * The PlayerAnalysis class holds the turn distributions of one player: how many of
+ * the player's own turns it takes until figure A, figure B and both figures are in
+ * paradise when the player follows a given strategy.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class PlayerAnalysis {
+    private final TurnDistribution playerDistribution;
+    private final TurnDistribution figureADistribution;
+    private final TurnDistribution figureBDistribution;
+
+    /**
+     * Creates a new player analysis.
+     *
+     * @param playerDistribution  The turns until both figures are in paradise.
+     * @param figureADistribution The turns until figure A is in paradise.
+     * @param figureBDistribution The turns until figure B is in paradise.
+     */
+    public PlayerAnalysis(TurnDistribution playerDistribution, TurnDistribution figureADistribution,
+                          TurnDistribution figureBDistribution) {
+        this.playerDistribution = playerDistribution;
+        this.figureADistribution = figureADistribution;
+        this.figureBDistribution = figureBDistribution;
+    }
+
+    public TurnDistribution getPlayerDistribution() {
+        return playerDistribution;
+    }
+
+    public TurnDistribution getFigureADistribution() {
+        return figureADistribution;
+    }
+
+    public TurnDistribution getFigureBDistribution() {
+        return figureBDistribution;
+    }
+
+    /**
+     * Returns this analysis for a player who first has to skip the given number of
+     * turns, e.g. after a figure has ended its move in the labyrinth.
+     *
+     * @param turns The number of skipped turns.
+     * @return The delayed analysis, or this analysis if no turn is skipped.
+     */
+    public PlayerAnalysis delay(int turns) {
+        if (turns == 0) {
+            return this;
+        }
+        return new PlayerAnalysis(playerDistribution.delay(turns), figureADistribution.delay(turns),
+                figureBDistribution.delay(turns));
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerAnalysis{player=" + playerDistribution + ", figureA=" + figureADistribution
+                + ", figureB=" + figureBDistribution + '}';
+    }
+}
@@ -0,0 +1,99 @@
+package main.java.com.paradise.analysis;
+
+import java.util.Arrays;
+
+/**
+ * The TurnDistribution class holds the probability distribution of the number of
+ * turns until something finishes, e.g. until a figure or all figures of a player
+ * reach paradise. The distribution is cut off once the remaining probability is
+ * below the precision of a double.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class TurnDistribution {
+    private final double[] probabilities;
+    private final double[] cumulativeProbabilities;
+    private final double expectedTurns;
+
+    /**
+     * Creates a distribution from the probabilities of finishing after exactly 0, 1,
+     * 2, ... turns.
+     *
+     * @param probabilities The probability of finishing after the turn at each index.
+     */
+    public TurnDistribution(double[] probabilities) {
+        this.probabilities = probabilities.clone();
+        this.cumulativeProbabilities = new double[probabilities.length];
+        double cumulative = 0;
+        double expected = 0;
+        for (int turns = 0; turns < probabilities.length; turns++) {
+            cumulative += probabilities[turns];
+            expected += turns * probabilities[turns];
+            cumulativeProbabilities[turns] = cumulative;
+        }
+        this.expectedTurns = expected;
+    }
+
+    /**
+     * Returns the probability of finishing after exactly the given number of turns.
+     *
+     * @param turns The number of turns.
+     * @return The probability of finishing in exactly this turn.
+     */
+    public double getProbability(int turns) {
+        return (turns < 0 || turns >= probabilities.length) ? 0 : probabilities[turns];
+    }
+
+    /**
+     * Returns the probability of finishing within the given number of turns.
+     *
+     * @param turns The number of turns.
+     * @return The probability of finishing in this turn or earlier.
+     */
+    public double getCumulativeProbability(int turns) {
+        if (turns < 0) {
+            return 0;
+        }
+        return cumulativeProbabilities[Math.min(turns, cumulativeProbabilities.length - 1)];
+    }
+
+    /**
+     * Returns this distribution for a player who first has to skip the given number
+     * of turns. A player who has already finished stays finished.
+     *
+     * @param turns The number of skipped turns.
+     * @return The delayed distribution, or this distribution if no turn is skipped.
+     */
+    public TurnDistribution delay(int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("The number of turns must not be negative.");
+        }
+        if (turns == 0) {
+            return this;
+        }
+        double[] delayed = new double[probabilities.length + turns];
+        delayed[0] = probabilities[0];
+        System.arraycopy(probabilities, 1, delayed, 1 + turns, probabilities.length - 1);
+        return new TurnDistribution(delayed);
+    }
+
+    public double getExpectedTurns() {
+        return expectedTurns;
+    }
+
+    /**
+     * Returns the largest number of turns with a non-negligible probability.
+     *
+     * @return The last turn of the distribution.
+     */
+    public int getMaxTurns() {
+        return probabilities.length - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "TurnDistribution{expectedTurns=" + expectedTurns + ", maxTurns=" + getMaxTurns()
+                + ", head=" + Arrays.toString(Arrays.copyOf(probabilities, Math.min(8, probabilities.length))) + '}';
+    }
+}
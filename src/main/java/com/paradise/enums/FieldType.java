@@ -0,0 +1,80 @@
+package main.java.com.paradise.enums;
+
+/**
+ * The FieldType enum lists the types of fields that can appear in a board
+ * definition, together with their keyword in the definition file.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public enum FieldType {
+    /**
+     * A plain field without an event.
+     */
+    FIELD("field"),
+
+    /**
+     * A bridge that moves a figure forward by its distance (6 by default).
+     */
+    BRIDGE("bridge"),
+
+    /**
+     * A luck field that moves a figure forward by the sum of its dice.
+     */
+    LUCK("luck"),
+
+    /**
+     * The ascension field that moves a figure to paradise on a double six.
+     */
+    ASCENSION("ascension"),
+
+    /**
+     * The paradise field; it must be the last field of the board.
+     */
+    PARADISE("paradise"),
+
+    /**
+     * A misfortune field. Its event is not implemented yet, so it acts as a plain field.
+     */
+    MISFORTUNE("misfortune"),
+
+    /**
+     * A labyrinth field; the player whose figure ends its move there skips the next turn.
+     */
+    LABYRINTH("labyrinth"),
+
+    /**
+     * A disaster field. Its event is not implemented yet, so it acts as a plain field.
+     */
+    DISASTER("disaster"),
+
+    /**
+     * A new beginning field. Its event is not implemented yet, so it acts as a plain field.
+     */
+    NEW_BEGINNING("newbeginning");
+
+    private final String keyword;
+
+    FieldType(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the field type with the given keyword.
+     *
+     * @param keyword The keyword used in board definitions.
+     * @return The field type, or null if the keyword is unknown.
+     */
+    public static FieldType fromKeyword(String keyword) {
+        for (FieldType type : values()) {
+            if (type.keyword.equals(keyword)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package main.java.com.paradise.fields;
 
 import main.java.com.paradise.Figure;
+import main.java.com.paradise.enums.FieldType;
 
 /**
  * The AscensionField class represents an event field where a figure, if it meets a specific condition,
@@ -31,12 +32,14 @@ public class AscensionField extends EventField {
     public void executeEvent(Figure figure) {
         if (shouldMoveToParadise(figure)) {
             Field paradiseField = findParadiseField();
+            figure.recordEvent(FieldType.ASCENSION);
             figure.setPosition(paradiseField);
         }
     }
 
     /**
-     * Moves the figure to the next or previous field.
+     * Moves the figure to the next or previous field. Only the event of a labyrinth
+     * field is executed there.
      *
      * @param figure The figure being moved.
      */
@@ -47,6 +50,7 @@ public class AscensionField extends EventField {
         } else {
             figure.setPosition(this.getPreviousField());
         }
+        executeEventIfLabyrinthField(figure);
     }
 
     /**
@@ -68,6 +72,9 @@ public class AscensionField extends EventField {
      * @return The Paradise field.
      */
     private Field findParadiseField() {
+        if (this.getGameBoard() != null && this.getGameBoard().getParadiseField() != null) {
+            return this.getGameBoard().getParadiseField();
+        }
         Field newField = this.getNextField();
         while (!(newField instanceof ParadiseField)) {
             newField = newField.getNextField();
@@ -0,0 +1,257 @@
+package main.java.com.paradise.fields;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.FieldType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The BoardDefinition class describes a game board: its size and the type and
+ * parameters of every special field. Definitions are read from a simple text format
+ * with one instruction per line:
+ *
+ * <pre>
+ * # The standard board
+ * size 64
+ * bridge 6 distance=6
+ * luck 14 18 27 32 36 50
+ * ascension 52
+ * paradise 63
+ * </pre>
+ *
+ * Every line names a {@link FieldType} followed by the positions of the fields of
+ * that type and optional {@code key=value} parameters; all other fields are plain.
+ * A definition is validated completely when it is loaded, including every possible
+ * move, and is immutable afterwards. Its {@link #getGameBoard() game board} is
+ * created once and shared by all games, which is possible because fields keep no
+ * state of their own.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class BoardDefinition {
+    /**
+     * The maximum number of fields of a board.
+     */
+    public static final int MAX_SIZE = 100_000;
+
+    /**
+     * The minimum number of fields of a board: the highest roll of both dice must
+     * lead from the start field to the paradise field and, bouncing back, from the
+     * paradise field to the start field.
+     */
+    public static final int MIN_SIZE = 2 * ParadiseGame.NUMBER_DICE_FACES + 1;
+
+    private static final String STANDARD_DEFINITION = String.join("\n",
+            "# The standard Paradise board",
+            "size 64",
+            "misfortune 5 9",
+            "bridge 6",
+            "luck 14 18 27 32 36 50",
+            "labyrinth 19",
+            "disaster 24 41 54",
+            "ascension 52",
+            "newbeginning 58",
+            "paradise 63");
+
+    private static final BoardDefinition STANDARD = parse(STANDARD_DEFINITION);
+
+    private final FieldType[] types;
+    private final int[] distances;
+    private final GameBoard gameBoard;
+
+    private BoardDefinition(FieldType[] types, int[] distances) {
+        this.types = types;
+        this.distances = distances;
+        this.gameBoard = createGameBoard();
+        // Resolves every possible move once, which rejects boards that figures can leave
+        TransitionTable.forBoard(gameBoard, ParadiseGame.NUMBER_DICE_FACES);
+    }
+
+    /**
+     * Returns the definition of the standard board with 64 fields.
+     *
+     * @return The standard board definition.
+     */
+    public static BoardDefinition standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Loads a board definition from a file.
+     *
+     * @param path The path of the definition file.
+     * @return The validated definition.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If the definition is invalid.
+     */
+    public static BoardDefinition load(Path path) throws IOException {
+        return parse(Files.readString(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a board definition.
+     *
+     * @param definition The text of the definition.
+     * @return The validated definition.
+     * @throws IllegalArgumentException If the definition is invalid.
+     */
+    public static BoardDefinition parse(String definition) {
+        FieldType[] types = null;
+        int[] distances = null;
+        boolean[] defined = null;
+        String[] lines = definition.split("\\R");
+        for (int lineNumber = 0; lineNumber < lines.length; lineNumber++) {
+            String line = lines[lineNumber].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] tokens = line.split("\\s+");
+            if (tokens[0].equals("size")) {
+                if (types != null || tokens.length != 2) {
+                    throw invalid(lineNumber, "The size must be given exactly once.");
+                }
+                int size = parseNumber(tokens[1], lineNumber);
+                if (size < MIN_SIZE || size > MAX_SIZE) {
+                    throw invalid(lineNumber, "The size must be between " + MIN_SIZE + " and " + MAX_SIZE
+                            + ", so that every roll of the dice stays on the board.");
+                }
+                types = new FieldType[size];
+                distances = new int[size];
+                defined = new boolean[size];
+                Arrays.fill(types, FieldType.FIELD);
+                continue;
+            }
+            if (types == null) {
+                throw invalid(lineNumber, "The size must be given before the fields.");
+            }
+
+            FieldType type = FieldType.fromKeyword(tokens[0]);
+            if (type == null) {
+                throw invalid(lineNumber, "Unknown field type '" + tokens[0] + "'.");
+            }
+            int distance = BridgeField.DEFAULT_DISTANCE;
+            int positionCount = 0;
+            int[] positions = new int[tokens.length - 1];
+            for (int i = 1; i < tokens.length; i++) {
+                if (type == FieldType.BRIDGE && tokens[i].startsWith("distance=")) {
+                    distance = parseNumber(tokens[i].substring("distance=".length()), lineNumber);
+                    if (distance < 1) {
+                        throw invalid(lineNumber, "The distance of a bridge must be positive.");
+                    }
+                } else {
+                    positions[positionCount++] = parseNumber(tokens[i], lineNumber);
+                }
+            }
+            for (int i = 0; i < positionCount; i++) {
+                int position = positions[i];
+                if (position < 1 || position >= types.length) {
+                    throw invalid(lineNumber, "Position " + position + " is not on the board.");
+                }
+                if (defined[position]) {
+                    throw invalid(lineNumber, "Position " + position + " is defined twice.");
+                }
+                defined[position] = true;
+                types[position] = type;
+                distances[position] = (type == FieldType.BRIDGE) ? distance : 0;
+            }
+        }
+        if (types == null) {
+            throw new IllegalArgumentException("The board definition has no size.");
+        }
+
+        for (int position = 0; position < types.length - 1; position++) {
+            if (types[position] == FieldType.PARADISE) {
+                throw new IllegalArgumentException("Only the last field can be the paradise field.");
+            }
+        }
+        if (types[types.length - 1] != FieldType.PARADISE) {
+            throw new IllegalArgumentException("The last field must be the paradise field.");
+        }
+        return new BoardDefinition(types, distances);
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    public FieldType getFieldType(int position) {
+        return types[position];
+    }
+
+    /**
+     * Returns the distance of a bridge.
+     *
+     * @param position The position of the bridge.
+     * @return The number of fields the bridge moves a figure forward, or 0 if the
+     *         field is not a bridge.
+     */
+    public int getBridgeDistance(int position) {
+        return distances[position];
+    }
+
+    /**
+     * Returns the game board of this definition, which is shared by all games on it.
+     *
+     * @return The shared game board.
+     */
+    public GameBoard getGameBoard() {
+        return gameBoard;
+    }
+
+    /**
+     * Creates a new game board with its own fields.
+     *
+     * @return A new indexed game board.
+     */
+    public GameBoard createGameBoard() {
+        Field[] fields = new Field[types.length];
+        for (int position = 0; position < fields.length; position++) {
+            fields[position] = createField(position);
+            if (position > 0) {
+                fields[position].setPreviousField(fields[position - 1]);
+                fields[position - 1].setNextField(fields[position]);
+            }
+        }
+        return new GameBoard(Arrays.asList(fields));
+    }
+
+    private Field createField(int position) {
+        switch (types[position]) {
+            case BRIDGE:
+                return new BridgeField(position, distances[position]);
+            case LUCK:
+                return new LuckField(position);
+            case ASCENSION:
+                return new AscensionField(position);
+            case PARADISE:
+                return new ParadiseField(position);
+            case LABYRINTH:
+                return new LabyrinthField(position);
+            default:
+                // Misfortune, disaster and new beginning have no event yet
+                return new Field(position);
+        }
+    }
+
+    private static int parseNumber(String token, int lineNumber) {
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw invalid(lineNumber, "'" + token + "' is not a number.");
+        }
+    }
+
+    private static IllegalArgumentException invalid(int lineNumber, String message) {
+        return new IllegalArgumentException("Line " + (lineNumber + 1) + ": " + message);
+    }
+
+    @Override
+    public String toString() {
+        return "BoardDefinition{size=" + types.length + '}';
+    }
+}
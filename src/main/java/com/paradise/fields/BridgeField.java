@@ -1,10 +1,12 @@
 package main.java.com.paradise.fields;
 
 import main.java.com.paradise.Figure;
+import main.java.com.paradise.enums.FieldType;
 
 /**
  * The BridgeField class represents an event field with a bridge.
- * When a figure lands on this field, it is moved six fields forward,
+ * When a figure lands on this field, it is moved six fields forward (or the distance
+ * given in the board definition),
  * and the event of the destination field is executed if it is an event field.
  * This class inherits from the EventField class.
  *
@@ -12,6 +14,12 @@ import main.java.com.paradise.Figure;
  * @version 0.1.0
  */
 public class BridgeField extends EventField {
+    /**
+     * The distance of the bridge on the standard game board.
+     */
+    public static final int DEFAULT_DISTANCE = 6;
+
+    private final int distance;
 
     /**
      * Constructor for BridgeField. Takes the position as an argument.
@@ -19,11 +27,30 @@ public class BridgeField extends EventField {
      * @param position The position of the field on the game board.
      */
     public BridgeField(int position) {
+        this(position, DEFAULT_DISTANCE);
+    }
+
+    /**
+     * Constructor for a BridgeField with a custom distance.
+     *
+     * @param position The position of the field on the game board.
+     * @param distance The number of fields the bridge moves a figure forward.
+     */
+    public BridgeField(int position, int distance) {
         super(position);
+        if (distance < 1) {
+            throw new IllegalArgumentException("The distance of a bridge must be positive.");
+        }
+        this.distance = distance;
+    }
+
+    public int getDistance() {
+        return distance;
     }
 
     /**
-     * Executes the event on the BridgeField by moving the figure six fields forward
+     * Executes the event on the BridgeField by moving the figure the distance of the
+     * bridge forward
      * and executing the event of the destination field if it is an event field.
      *
      * @param figureToMove The character located on the BridgeField.
@@ -31,16 +58,17 @@ public class BridgeField extends EventField {
     @Override
     public void executeEvent(Figure figureToMove) {
         if (shouldExecuteEvent(figureToMove)) {
-            moveSixFieldsForward(figureToMove);
-            int numberOfFieldsToTraverse = 6;
-            updateTargetPosition(figureToMove, numberOfFieldsToTraverse);
+            figureToMove.recordEvent(FieldType.BRIDGE);
+            moveAcrossBridge(figureToMove);
+            updateTargetPosition(figureToMove, distance);
             executeEventIfEventField(figureToMove);
         }
     }
 
     /**
      * Moves the figure either to the next or previous field. Executes the
-     * BridgeField event if the figure is moving forward.
+     * BridgeField event if the figure is moving forward. Moving backward, only the
+     * event of a labyrinth field is executed.
      *
      * @param figureToMove The character to be moved.
      */
@@ -50,6 +78,7 @@ public class BridgeField extends EventField {
             this.executeEvent(figureToMove);
         } else {
             figureToMove.setPosition(this.getPreviousField());
+            executeEventIfLabyrinthField(figureToMove);
         }
     }
 
@@ -67,16 +96,12 @@ public class BridgeField extends EventField {
     }
 
     /**
-     * Moves the figure six fields forward.
+     * Moves the figure the distance of the bridge forward.
      *
-     * @param figureToMove The figure to jump six fields forward.
+     * @param figureToMove The figure to jump forward.
      */
-    private void moveSixFieldsForward(Figure figureToMove) {
-        Field newField = this.getNextField();
-        for (int i = 0; i < 5; i++) {
-            newField = newField.getNextField();
-        }
-        figureToMove.setPosition(newField);
+    private void moveAcrossBridge(Figure figureToMove) {
+        figureToMove.setPosition(this.getFieldAtOffset(distance));
     }
 
     /**
@@ -90,6 +115,11 @@ public class BridgeField extends EventField {
         figureToMove.setTargetPositionNumber(newTargetPositionNumber);
     }
 
+    @Override
+    public String getLayoutToken() {
+        return distance == DEFAULT_DISTANCE ? super.getLayoutToken() : super.getLayoutToken() + "(" + distance + ")";
+    }
+
     /**
      * Returns a string representation of the BridgeField object.
      *
@@ -97,7 +127,7 @@ public class BridgeField extends EventField {
      */
     @Override
     public String toString() {
-        return "BridgeField{position=" + getPositionNumber() + "}";
+        return "BridgeField{position=" + getPositionNumber() + ", distance=" + distance + "}";
     }
 
 }
\ No newline at end of file
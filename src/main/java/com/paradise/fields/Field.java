@@ -13,6 +13,7 @@ public class Field {
     private final int positionNumber;
     private Field previousField;
     private Field nextField;
+    private GameBoard gameBoard;
 
     /**
      * Creates a new field with the specified position on the game board.
@@ -43,6 +44,53 @@ public class Field {
         this.nextField = nextField;
     }
 
+    public GameBoard getGameBoard() {
+        return gameBoard;
+    }
+
+    /**
+     * Attaches the field to its game board. A field belongs to exactly one board,
+     * which may be shared by any number of games.
+     *
+     * @param gameBoard The game board of the field.
+     */
+    public void setGameBoard(GameBoard gameBoard) {
+        if (this.gameBoard != null && this.gameBoard != gameBoard) {
+            throw new IllegalStateException("The field already belongs to another game board.");
+        }
+        this.gameBoard = gameBoard;
+    }
+
+    /**
+     * Returns the token that identifies the type and the parameters of this field in
+     * the layout key of a game board. Fields with equal tokens move figures
+     * identically.
+     *
+     * @return The layout token of the field.
+     */
+    public String getLayoutToken() {
+        return getClass().getName();
+    }
+
+    /**
+     * Returns the field that lies the given number of fields after (positive offset)
+     * or before (negative offset) this field. If the field belongs to an indexed game
+     * board, the field is looked up directly, otherwise the linked fields are walked.
+     *
+     * @param offset The number of fields to move away from this field.
+     * @return The field at the offset, or null if it is not on the game board.
+     */
+    public Field getFieldAtOffset(int offset) {
+        if (gameBoard != null) {
+            return gameBoard.getField(positionNumber + offset);
+        }
+        Field field = this;
+        for (int i = 0; i < Math.abs(offset) && field != null; i++) {
+            field = (offset > 0) ? field.getNextField() : field.getPreviousField();
+        }
+        return field;
+    }
+
     /**
      * Moves a figure to the next or previous position on the game board,
      * depending on the figure's movement direction.
@@ -68,6 +116,20 @@ public class Field {
         }
     }
 
+    /**
+     * Executes the event of a labyrinth field if the new position of the figure is
+     * one. Fields that step figures on without the event of the next field call this,
+     * so a player still skips a turn when a figure steps off such a field into the
+     * labyrinth.
+     *
+     * @param figureToMove The figure that was moved on the game board.
+     */
+    public void executeEventIfLabyrinthField(Figure figureToMove) {
+        if (figureToMove.getPosition() instanceof LabyrinthField) {
+            ((LabyrinthField) figureToMove.getPosition()).executeEvent(figureToMove);
+        }
+    }
+
     /**
      * Calculates the new position of a figure based on its current movement direction.
      *
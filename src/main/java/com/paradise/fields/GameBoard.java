@@ -0,0 +1,166 @@
+package main.java.com.paradise.fields;
+
+import main.java.com.paradise.Figure;
+
+import java.util.List;
+
+/**
+ * The GameBoard class provides indexed access to the linked fields of a game board.
+ * Every field can be looked up by its position number in constant time, and
+ * stretches of plain fields can be crossed with a single lookup instead of one
+ * {@link Field#getNextField()} or {@link Field#getPreviousField()} hop per step.
+ * The fields remain linked, so the linked-list API keeps working unchanged.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class GameBoard {
+    private final Field[] fields;
+    private final Field paradiseField;
+    private final String layoutKey;
+    private final int[] plainStepsForward;
+    private final int[] plainStepsBackward;
+    private volatile TransitionTable transitionTable;
+
+    /**
+     * Creates an indexed game board from connected fields and attaches the board to
+     * every field.
+     *
+     * @param fields The fields of the game board; the field at index i must have the
+     *               position number i.
+     */
+    public GameBoard(List<Field> fields) {
+        this.fields = fields.toArray(new Field[0]);
+        this.plainStepsForward = new int[this.fields.length];
+        this.plainStepsBackward = new int[this.fields.length];
+
+        Field paradise = null;
+        for (int i = 0; i < this.fields.length; i++) {
+            Field field = this.fields[i];
+            if (field.getPositionNumber() != i) {
+                throw new IllegalArgumentException("Field at index " + i + " has position " + field.getPositionNumber());
+            }
+            if (paradise == null && field instanceof ParadiseField) {
+                paradise = field;
+            }
+            field.setGameBoard(this);
+        }
+        this.paradiseField = paradise;
+
+        // Plain fields are implied by the size, so the key grows with the special fields only
+        StringBuilder layout = new StringBuilder().append(this.fields.length).append('|');
+        for (int i = 0; i < this.fields.length; i++) {
+            if (!isPlain(i)) {
+                layout.append(i).append(':').append(this.fields[i].getLayoutToken()).append(';');
+            }
+        }
+        this.layoutKey = layout.toString();
+
+        // Distance to the nearest special field (or the end of the board) in both directions
+        int last = this.fields.length - 1;
+        for (int i = last; i >= 0; i--) {
+            plainStepsForward[i] = (i == last) ? 0 : (isPlain(i + 1) ? plainStepsForward[i + 1] + 1 : 1);
+        }
+        for (int i = 0; i <= last; i++) {
+            plainStepsBackward[i] = (i == 0) ? 0 : (isPlain(i - 1) ? plainStepsBackward[i - 1] + 1 : 1);
+        }
+    }
+
+    /**
+     * Returns the field with the given position number.
+     *
+     * @param positionNumber The position number of the field.
+     * @return The field, or null if the position is not on the game board.
+     */
+    public Field getField(int positionNumber) {
+        if (positionNumber < 0 || positionNumber >= fields.length) {
+            return null;
+        }
+        return fields[positionNumber];
+    }
+
+    /**
+     * Returns the first Paradise field of the game board.
+     *
+     * @return The Paradise field, or null if the game board has none.
+     */
+    public Field getParadiseField() {
+        return paradiseField;
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+    /**
+     * Returns a key that identifies the layout of the game board, i.e. its size and
+     * the position, type and parameters of every special field. Boards with equal
+     * keys move figures identically.
+     *
+     * @return The layout key of the game board.
+     */
+    public String getLayoutKey() {
+        return layoutKey;
+    }
+
+    /**
+     * Moves a figure by the given number of steps. The result is the same as calling
+     * {@link Field#moveToNextOrPrev(Figure)} once per step, but runs of plain fields
+     * are skipped with one lookup. Only the field where such a run ends can be an
+     * event field, and its event is executed exactly as in a single step.
+     *
+     * @param figureToMove The figure to be moved; its dice values must already be set.
+     * @param steps        The number of steps to move.
+     */
+    public void moveFigure(Figure figureToMove, int steps) {
+        int remainingSteps = steps;
+        while (remainingSteps > 0) {
+            Field current = figureToMove.getPosition();
+            if (current == null) {
+                throw new IllegalStateException("The figure has left the game board.");
+            }
+            int position = current.getPositionNumber();
+            int target = figureToMove.getTargetPositionNumber();
+
+            int jump = 0;
+            if (current.getClass() == Field.class) {
+                if (target > position) {
+                    jump = Math.min(Math.min(remainingSteps, target - position), plainStepsForward[position]);
+                } else if (target < position) {
+                    jump = -Math.min(Math.min(remainingSteps, position - target), plainStepsBackward[position]);
+                }
+            }
+
+            if (jump == 0) {
+                current.moveToNextOrPrev(figureToMove);
+                remainingSteps--;
+            } else {
+                Field destination = fields[position + jump];
+                figureToMove.setPosition(destination);
+                destination.executeEventIfEventField(figureToMove);
+                remainingSteps -= Math.abs(jump);
+            }
+        }
+    }
+
+    /**
+     * Returns the transition table last used with this board, so that games sharing
+     * the board do not have to look it up by the layout key.
+     */
+    TransitionTable getCachedTransitionTable() {
+        return transitionTable;
+    }
+
+    void setCachedTransitionTable(TransitionTable transitionTable) {
+        this.transitionTable = transitionTable;
+    }
+
+    private boolean isPlain(int positionNumber) {
+        return fields[positionNumber].getClass() == Field.class;
+    }
+
+    @Override
+    public String toString() {
+        return "GameBoard{size=" + fields.length + '}';
+    }
+}
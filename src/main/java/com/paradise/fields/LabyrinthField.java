@@ -0,0 +1,47 @@
+package main.java.com.paradise.fields;
+
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.enums.FieldType;
+
+/**
+ * The LabyrinthField class represents an event field where a figure gets lost: the
+ * player whose figure ends its move on this field skips the next turn. The field
+ * does not move the figure, it only records its event on the figure; the turn
+ * order is handled by the {@link main.java.com.paradise.TurnScheduler} of the game.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class LabyrinthField extends EventField {
+    /**
+     * The number of turns a player skips after a figure has ended its move here.
+     */
+    public static final int SKIPPED_TURNS = 1;
+
+    /**
+     * Creates a new LabyrinthField with the specified position.
+     *
+     * @param position The position of the field on the game board.
+     */
+    public LabyrinthField(int position) {
+        super(position);
+    }
+
+    /**
+     * Records the labyrinth event if the figure ends its move on this field. Figures
+     * that only pass the field are not affected.
+     *
+     * @param figure The figure that has entered the field.
+     */
+    @Override
+    public void executeEvent(Figure figure) {
+        if (figure.getTargetPositionNumber() == this.getPositionNumber()) {
+            figure.recordEvent(FieldType.LABYRINTH);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LabyrinthField{position=" + getPositionNumber() + "}";
+    }
+}
@@ -0,0 +1,68 @@
+package main.java.com.paradise.fields;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The LayoutCache class keeps the values derived from board layouts, e.g. transition
+ * tables, for the boards used most recently. Games create their own boards, but most
+ * share a few layouts, so a small cache avoids computing the same value once per game
+ * without keeping the values of every layout ever seen: when the cache is full, the
+ * value used least recently is dropped.
+ *
+ * <p>All methods are thread-safe. A missing value is computed while the cache is
+ * locked, so it is computed only once.</p>
+ *
+ * @param <V> The type of the cached values.
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class LayoutCache<V> {
+    private final int capacity;
+    private final Map<String, V> values;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity The maximum number of cached values.
+     */
+    public LayoutCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > LayoutCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value for a key, computing it if it is not cached.
+     *
+     * @param key     The key, e.g. made of the layout key of a board.
+     * @param compute The function computing a missing value.
+     * @return The cached or computed value.
+     */
+    public synchronized V get(String key, Function<String, V> compute) {
+        return values.computeIfAbsent(key, compute);
+    }
+
+    public synchronized int size() {
+        return values.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LayoutCache{size=" + values.size() + ", capacity=" + capacity + '}';
+    }
+}
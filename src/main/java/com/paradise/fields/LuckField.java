@@ -1,6 +1,7 @@
 package main.java.com.paradise.fields;
 
 import main.java.com.paradise.Figure;
+import main.java.com.paradise.enums.FieldType;
 
 /**
  * The LuckField class represents an event field where a piece can change its
@@ -30,6 +31,7 @@ public class LuckField extends EventField {
     public void executeEvent(Figure figureToMove) {
         if (figureToMove.getTargetPositionNumber() == this.getPositionNumber()) {
             Field newField = calculateNewField(figureToMove);
+            figureToMove.recordEvent(FieldType.LUCK);
             figureToMove.setPosition(newField);
             updateTargetPosition(figureToMove);
             executeEventIfEventField(figureToMove);
@@ -38,7 +40,7 @@ public class LuckField extends EventField {
 
     /**
      * Moves the piece to the next or previous position depending on its
-     * movement direction.
+     * movement direction. Only the event of a labyrinth field is executed there.
      *
      * @param figureToMove The character to be moved on the game board.
      */
@@ -47,6 +49,7 @@ public class LuckField extends EventField {
         boolean forward = figureToMove.forward();
         Field newField = forward ? this.getNextField() : this.getPreviousField();
         figureToMove.setPosition(newField);
+        executeEventIfLabyrinthField(figureToMove);
     }
 
     /**
@@ -56,12 +59,8 @@ public class LuckField extends EventField {
      * @return The new field where the piece will be placed.
      */
     private Field calculateNewField(Figure figureToMove) {
-        Field newField = this.getNextField();
         int stepsToTarget = figureToMove.getDiceValues()[0] + figureToMove.getDiceValues()[1];
-        for (int i = 1; i < stepsToTarget; i++) {
-            newField = newField.getNextField();
-        }
-        return newField;
+        return this.getFieldAtOffset(stepsToTarget);
     }
 
     /**
@@ -0,0 +1,188 @@
+package main.java.com.paradise.fields;
+
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.enums.FieldType;
+
+/**
+ * The TransitionTable class stores the destination of every possible move on a game
+ * board: for each start field and each combination of two dice values it holds the
+ * field where the figure ends up after all field events have been executed. The
+ * table is computed by moving a probe figure through the real fields, so a lookup
+ * gives exactly the same result as walking the board. Along with the destination the
+ * table keeps the field events fired on the way, so they can be counted without
+ * walking the board.
+ *
+ * <p>Every board keeps its table, and the tables of the {@value #CACHE_CAPACITY}
+ * layouts used most recently are cached per layout and number of dice faces, so new
+ * boards with a common layout share one table. A board with a different layout
+ * automatically gets its own table.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class TransitionTable {
+    private static final int CACHE_CAPACITY = 16;
+    private static final LayoutCache<TransitionTable> CACHE = new LayoutCache<>(CACHE_CAPACITY);
+    private static final int LABYRINTH_EVENT = 1 << FieldType.LABYRINTH.ordinal();
+
+    private final int faceCount;
+    private final int boardSize;
+    private final int[] destinations;
+    private final short[] events;
+
+    private TransitionTable(GameBoard board, int faceCount) {
+        this.faceCount = faceCount;
+        this.boardSize = board.size();
+        this.destinations = new int[boardSize * faceCount * faceCount];
+        this.events = new short[destinations.length];
+
+        Figure probe = new Figure(null, "probe");
+        for (int position = 0; position < boardSize; position++) {
+            for (int die1 = 1; die1 <= faceCount; die1++) {
+                for (int die2 = 1; die2 <= faceCount; die2++) {
+                    probe.setPosition(board.getField(position));
+                    probe.setDiceValues(die1, die2);
+                    try {
+                        board.moveFigure(probe, die1 + die2);
+                    } catch (IllegalStateException e) {
+                        probe.setPosition(null);
+                    }
+                    if (probe.getPosition() == null) {
+                        throw new IllegalArgumentException("A move from field " + position + " with "
+                                + die1 + " and " + die2 + " leaves the game board.");
+                    }
+                    destinations[index(position, die1, die2)] = probe.getPosition().getPositionNumber();
+                    events[index(position, die1, die2)] = (short) probe.getFiredEvents();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the transition table for the layout of the given board, computing it
+     * on first use.
+     *
+     * @param board     The game board.
+     * @param faceCount The number of faces of each of the two dice.
+     * @return The transition table for the board layout.
+     * @throws IllegalArgumentException If a move leaves the game board.
+     */
+    public static TransitionTable forBoard(GameBoard board, int faceCount) {
+        TransitionTable cached = board.getCachedTransitionTable();
+        if (cached != null && cached.faceCount == faceCount) {
+            return cached;
+        }
+        String key = faceCount + ":" + board.getLayoutKey();
+        TransitionTable table = CACHE.get(key, k -> new TransitionTable(board, faceCount));
+        board.setCachedTransitionTable(table);
+        return table;
+    }
+
+    /**
+     * Returns the field number a figure reaches when it starts on the given field and
+     * the given dice values are rolled.
+     *
+     * @param position The position number of the start field.
+     * @param die1     The value of the first die.
+     * @param die2     The value of the second die.
+     * @return The position number of the destination field.
+     */
+    public int getDestination(int position, int die1, int die2) {
+        return destinations[index(position, die1, die2)];
+    }
+
+    /**
+     * Returns the destination of a move by the combined outcome of both dice,
+     * {@code (die1 - 1) * faceCount + (die2 - 1)}. This saves splitting a random
+     * outcome into two dice values when only the destination is needed.
+     *
+     * @param position The position number of the start field.
+     * @param outcome  The combined outcome of both dice.
+     * @return The position number of the destination field.
+     */
+    public int getDestinationByOutcome(int position, int outcome) {
+        return destinations[position * faceCount * faceCount + outcome];
+    }
+
+    /**
+     * Returns the field events fired by a move as a bit mask with the bit
+     * {@code 1 << type.ordinal()} set for every {@link FieldType}
+     * whose event is executed (see {@link Figure#getFiredEvents()}).
+     *
+     * @param position The position number of the start field.
+     * @param die1     The value of the first die.
+     * @param die2     The value of the second die.
+     * @return The bit mask of the fired events.
+     */
+    public int getEvents(int position, int die1, int die2) {
+        return events[index(position, die1, die2)];
+    }
+
+    /**
+     * Returns the field events fired by a move by the combined outcome of both dice
+     * (see {@link #getDestinationByOutcome(int, int)}).
+     *
+     * @param position The position number of the start field.
+     * @param outcome  The combined outcome of both dice.
+     * @return The bit mask of the fired events.
+     */
+    public int getEventsByOutcome(int position, int outcome) {
+        return events[position * faceCount * faceCount + outcome];
+    }
+
+    /**
+     * Checks whether the player skips the next turn after a move, because the figure
+     * ends it on a {@link LabyrinthField}.
+     *
+     * @param position The position number of the start field.
+     * @param die1     The value of the first die.
+     * @param die2     The value of the second die.
+     * @return true if the player skips the next turn.
+     */
+    public boolean skipsTurn(int position, int die1, int die2) {
+        return (events[index(position, die1, die2)] & LABYRINTH_EVENT) != 0;
+    }
+
+    /**
+     * Checks whether the player skips the next turn after a move, by the combined
+     * outcome of both dice.
+     *
+     * @param position The position number of the start field.
+     * @param outcome  The combined outcome of both dice.
+     * @return true if the player skips the next turn.
+     */
+    public boolean skipsTurnByOutcome(int position, int outcome) {
+        return (events[position * faceCount * faceCount + outcome] & LABYRINTH_EVENT) != 0;
+    }
+
+    /**
+     * Checks whether a move with the given values can be answered by this table.
+     *
+     * @param position The position number of the start field.
+     * @param die1     The value of the first die.
+     * @param die2     The value of the second die.
+     * @return true if the start field and both dice values are within the table.
+     */
+    public boolean contains(int position, int die1, int die2) {
+        return position >= 0 && position < boardSize
+                && die1 >= 1 && die1 <= faceCount
+                && die2 >= 1 && die2 <= faceCount;
+    }
+
+    public int getFaceCount() {
+        return faceCount;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    private int index(int position, int die1, int die2) {
+        return (position * faceCount + die1 - 1) * faceCount + die2 - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "TransitionTable{boardSize=" + boardSize + ", faceCount=" + faceCount + '}';
+    }
+}
@@ -0,0 +1,87 @@
+package main.java.com.paradise.interfaces;
+
+import javax.management.MXBean;
+import java.util.Map;
+
+/**
+ * The management interface of the engine metrics, exported over JMX as
+ * {@code main.java.com.paradise:type=EngineMetrics}. All counts are totals since the
+ * start of the process or the last {@link #reset()}.
+ */
+@MXBean
+public interface IEngineMetrics {
+
+    /**
+     * This method returns the number of successful moves.
+     *
+     * @return The number of moves
+     */
+    public long getMoveCount();
+
+    /**
+     * This method returns the average number of moves per second.
+     *
+     * @return The moves per second since the start or the last reset
+     */
+    public double getMovesPerSecond();
+
+    /**
+     * This method returns the number of moves rejected by the game, e.g. because the
+     * figure does not belong to the player on turn or is already in paradise.
+     *
+     * @return The number of rejected moves
+     */
+    public long getRejectedMoveCount();
+
+    /**
+     * This method returns the number of completed turns of hosted games.
+     *
+     * @return The number of turns
+     */
+    public long getTurnCount();
+
+    /**
+     * This method returns the number of games that have been won.
+     *
+     * @return The number of finished games
+     */
+    public long getFinishedGameCount();
+
+    public long getLuckEventCount();
+
+    public long getBridgeEventCount();
+
+    public long getAscensionEventCount();
+
+    /**
+     * This method returns the number of fired events per field type.
+     *
+     * @return The event counts by the name of the field type
+     */
+    public Map<String, Long> getEventCounts();
+
+    public double getMeanMoveNanos();
+
+    public long getMedianMoveNanos();
+
+    public long get99thPercentileMoveNanos();
+
+    public long getMaxMoveNanos();
+
+    /**
+     * This method returns the mean time between the roll and the move of a turn of a
+     * hosted game.
+     *
+     * @return The mean turn duration in milliseconds
+     */
+    public double getMeanTurnMillis();
+
+    public long getMedianTurnMillis();
+
+    public long get99thPercentileTurnMillis();
+
+    /**
+     * This method sets all counts and histograms back to zero.
+     */
+    public void reset();
+}
@@ -0,0 +1,46 @@
+package main.java.com.paradise.interfaces;
+
+import main.java.com.paradise.ParadiseGame;
+
+/**
+ * The output of the console game: messages, prompts and the positions of the
+ * figures. Implementations decide how and when the output is written, e.g. buffered,
+ * redrawing only what has changed, or not at all.
+ */
+public interface IGameRenderer extends AutoCloseable {
+
+    /**
+     * This method writes one line of text.
+     *
+     * @param line The text of the line
+     */
+    public void message(String line);
+
+    /**
+     * This method writes a prompt without a line break and makes all output visible,
+     * because the user is asked for input next.
+     *
+     * @param text The text of the prompt
+     */
+    public void prompt(String text);
+
+    /**
+     * This method shows the positions of all figures of the game and the player on
+     * turn.
+     *
+     * @param game The game to be shown
+     */
+    public void renderGame(ParadiseGame game);
+
+    /**
+     * This method makes all buffered output visible.
+     */
+    public void flush();
+
+    /**
+     * This method flushes the output and restores the terminal if necessary. The
+     * underlying stream is not closed.
+     */
+    @Override
+    public void close();
+}
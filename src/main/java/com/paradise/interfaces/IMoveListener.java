@@ -0,0 +1,36 @@
+package main.java.com.paradise.interfaces;
+
+import main.java.com.paradise.enums.Color;
+
+/**
+ * A listener that is informed about every successful move of a game, e.g. to record
+ * the game or collect statistics. It is called on the thread that performs the move,
+ * so implementations should return quickly and must not allocate if the move path is
+ * meant to stay allocation-free.
+ */
+public interface IMoveListener {
+
+    /**
+     * This method is called before a figure is moved, once the move has been found
+     * valid. A listener that cannot take the move, e.g. because its journal is
+     * closed, throws an exception here, so the game is left unchanged. By default
+     * every move is accepted.
+     *
+     * @param color    The color of the figure to be moved
+     * @param figureId The id of the figure within its game
+     */
+    public default void beforeMove(Color color, int figureId) {
+    }
+
+    /**
+     * This method is called after a figure has been moved.
+     *
+     * @param color        The color of the moved figure
+     * @param figureId     The id of the moved figure within its game
+     * @param die1         The value of the first die
+     * @param die2         The value of the second die
+     * @param fromPosition The field number before the move
+     * @param toPosition   The field number after the move
+     */
+    public void onMove(Color color, int figureId, int die1, int die2, int fromPosition, int toPosition);
+}
@@ -33,6 +33,28 @@ public interface IParadiseGame {
      */
     public int getCharacterPosition(String character);
 
+    /**
+     * This method returns the id of the piece with the given name. Ids are dense and
+     * follow the seating order: the pieces of the first player have the ids 0 (A) and
+     * 1 (B), those of the second player 2 and 3, and so on.
+     *
+     * @param figure The name of the searched piece (e.g., "BLUE-A")
+     *
+     * @return The id of the piece, or -1 if it does not exist
+     */
+    public int getFigureId(String figure);
+
+    /**
+     * This method returns the current position (field number) of the piece with the
+     * given id.
+     *
+     * @param figureId The id of the searched piece
+     *
+     * @return The current position or field number of the piece, or -1 if the id
+     *         does not exist
+     */
+    public int getCharacterPosition(int figureId);
+
     /**
      * This method moves the specified piece to a new position. The number of squares
      * the piece should move is determined by the sum of the two dice rolls.
@@ -46,6 +68,19 @@ public interface IParadiseGame {
      */
     public boolean moveCharacter(String figure, int... dice);
 
+    /**
+     * This method moves the piece with the given id to a new position. The number of
+     * squares the piece should move is determined by the sum of the two dice rolls.
+     *
+     * @param figureId The id of the figure to be moved
+     * @param die1     The value of the first die
+     * @param die2     The value of the second die
+     *
+     * @return true if the piece could be moved or was allowed to move; otherwise
+     *         false. The method also returns false if the id does not exist.
+     */
+    public boolean moveCharacter(int figureId, int die1, int die2);
+
     /**
      * This method returns the color of the winner.
      *
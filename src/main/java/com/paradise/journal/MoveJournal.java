@@ -0,0 +1,82 @@
+package main.java.com.paradise.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The MoveJournal class defines the binary format of move journals. A journal starts
+ * with a {@value #HEADER_SIZE}-byte header followed by fixed-size records of
+ * {@value #RECORD_SIZE} bytes, all little-endian:
+ *
+ * <pre>
+ * header: int magic, short version, short record size, 8 reserved bytes
+ * move:   long game id, byte color ordinal + 1, byte figure id, byte die 1,
+ *         byte die 2, int resulting position
+ * start:  long game id, byte 0xFF, byte player count, byte first seat, byte 0,
+ *         int color ordinals in seating order, 4 bits per seat from the lowest
+ * </pre>
+ *
+ * Every game starts with a start record, which tells a reader the seating order even
+ * of players that never moved. Bytes 8 to 11 of a record are written last as one
+ * int, and the color byte is never 0 in a complete record. A record that was
+ * reserved but not (fully) written, e.g. because the process died, therefore has a
+ * 0 color byte; readers skip such holes. Version 1 journals have no start records.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class MoveJournal {
+    public static final int MAGIC = 0x4C4E4A50; // "PJNL"
+    public static final short VERSION = 2;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 16;
+
+    static final int GAME_ID_OFFSET = 0;
+    static final int COLOR_OFFSET = 8;
+    static final int FIGURE_ID_OFFSET = 9;
+    static final int DIE1_OFFSET = 10;
+    static final int DIE2_OFFSET = 11;
+    static final int POSITION_OFFSET = 12;
+    static final int PLAYER_COUNT_OFFSET = FIGURE_ID_OFFSET;
+    static final int FIRST_SEAT_OFFSET = DIE1_OFFSET;
+    static final int SEAT_COLORS_OFFSET = POSITION_OFFSET;
+
+    /**
+     * The value of the color byte that marks the start record of a game.
+     */
+    static final byte GAME_START = (byte) 0xFF;
+    static final int BITS_PER_SEAT_COLOR = 4;
+
+    private MoveJournal() {
+    }
+
+    /**
+     * Creates the header of a new journal.
+     *
+     * @return The header bytes, ready to be written.
+     */
+    static ByteBuffer createHeader() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE);
+        header.clear();
+        return header;
+    }
+
+    /**
+     * Checks the header of an existing journal.
+     *
+     * @param header The header bytes.
+     * @throws IllegalArgumentException If the bytes are not a supported journal header.
+     */
+    static void checkHeader(ByteBuffer header) {
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        if (header.remaining() < HEADER_SIZE || header.getInt(header.position()) != MAGIC) {
+            throw new IllegalArgumentException("Not a move journal.");
+        }
+        short version = header.getShort(header.position() + 4);
+        short recordSize = header.getShort(header.position() + 6);
+        if (version < 1 || version > VERSION || recordSize != RECORD_SIZE) {
+            throw new IllegalArgumentException("Unsupported move journal version " + version + ".");
+        }
+    }
+}
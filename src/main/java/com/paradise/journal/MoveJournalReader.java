@@ -0,0 +1,235 @@
+package main.java.com.paradise.journal;
+
+import main.java.com.paradise.enums.Color;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The MoveJournalReader streams the records of a move journal (see
+ * {@link MoveJournal}). The reader is a flyweight: {@link #next()} advances to the
+ * next record and the getters return the values of the current record, so reading
+ * a journal of any length does not allocate per record. A record is either the
+ * start record of a game ({@link #isGameStart()}) or a move; holes left by a crash
+ * of the writer are skipped and counted. Unused space after the last record, e.g.
+ * of a journal that could not be truncated, is not a hole.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class MoveJournalReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = MoveJournal.RECORD_SIZE * 4096;
+    private static final Color[] COLORS = Color.values();
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long fileOffset = MoveJournal.HEADER_SIZE;
+    private int recordIndex = -MoveJournal.RECORD_SIZE;
+    private boolean finished;
+    private long recordNumber = -1;
+    private long skippedRecords;
+
+    private MoveJournalReader(FileChannel channel) {
+        this.channel = channel;
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Opens a journal for reading.
+     *
+     * @param path The path of the journal file.
+     * @return The reader, positioned before the first record.
+     * @throws IOException If the file cannot be read or is not a journal.
+     */
+    public static MoveJournalReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            checkHeader(channel);
+            return new MoveJournalReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advances to the next record.
+     *
+     * @return true if there is a next record, false at the end of the journal.
+     * @throws IOException If the file cannot be read.
+     */
+    public boolean next() throws IOException {
+        if (finished) {
+            return false;
+        }
+        recordIndex += MoveJournal.RECORD_SIZE;
+        // Empty records only count as holes if a record follows them
+        long holes = 0;
+        while (true) {
+            if (recordIndex + MoveJournal.RECORD_SIZE > buffer.limit() && !fill()) {
+                finished = true;
+                return false;
+            }
+            if (buffer.get(recordIndex + MoveJournal.COLOR_OFFSET) != 0) {
+                recordNumber++;
+                skippedRecords += holes;
+                return true;
+            }
+            holes++;
+            recordIndex += MoveJournal.RECORD_SIZE;
+        }
+    }
+
+    /**
+     * @return The number of the current record, starting with 0.
+     */
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * @return The number of incomplete records skipped so far, not counting the
+     *         unused space after the last record.
+     */
+    public long getSkippedRecords() {
+        return skippedRecords;
+    }
+
+    /**
+     * @return true if the current record is the start record of a game, false if it
+     *         is a move.
+     */
+    public boolean isGameStart() {
+        return buffer.get(recordIndex + MoveJournal.COLOR_OFFSET) == MoveJournal.GAME_START;
+    }
+
+    /**
+     * @return The number of players of the game started by the current record.
+     */
+    public int getPlayerCount() {
+        return buffer.get(recordIndex + MoveJournal.PLAYER_COUNT_OFFSET);
+    }
+
+    /**
+     * @return The seat index of the first player of the game started by the current
+     *         record.
+     */
+    public int getFirstSeat() {
+        return buffer.get(recordIndex + MoveJournal.FIRST_SEAT_OFFSET);
+    }
+
+    /**
+     * @param seat The seat index.
+     * @return The color of the player on the given seat of the game started by the
+     *         current record.
+     */
+    public Color getSeatColor(int seat) {
+        if (seat < 0 || seat >= getPlayerCount()) {
+            throw new IndexOutOfBoundsException("Seat " + seat + " of " + getPlayerCount());
+        }
+        int seatColors = buffer.getInt(recordIndex + MoveJournal.SEAT_COLORS_OFFSET);
+        return COLORS[seatColors >>> seat * MoveJournal.BITS_PER_SEAT_COLOR & ((1 << MoveJournal.BITS_PER_SEAT_COLOR) - 1)];
+    }
+
+    /**
+     * @return The id of the game of the current record.
+     */
+    public long getGameId() {
+        return buffer.getLong(recordIndex + MoveJournal.GAME_ID_OFFSET);
+    }
+
+    /**
+     * @return The color of the figure moved in the current record, which must be a
+     *         move.
+     */
+    public Color getColor() {
+        if (isGameStart()) {
+            throw new IllegalStateException("The current record is the start of game " + getGameId() + ".");
+        }
+        return COLORS[buffer.get(recordIndex + MoveJournal.COLOR_OFFSET) - 1];
+    }
+
+    /**
+     * @return The id of the figure moved in the current record.
+     */
+    public int getFigureId() {
+        return buffer.get(recordIndex + MoveJournal.FIGURE_ID_OFFSET);
+    }
+
+    /**
+     * @return The value of the first die of the current record.
+     */
+    public int getDie1() {
+        return buffer.get(recordIndex + MoveJournal.DIE1_OFFSET);
+    }
+
+    /**
+     * @return The value of the second die of the current record.
+     */
+    public int getDie2() {
+        return buffer.get(recordIndex + MoveJournal.DIE2_OFFSET);
+    }
+
+    /**
+     * @return The field number of the figure after the move of the current record.
+     */
+    public int getPosition() {
+        return buffer.getInt(recordIndex + MoveJournal.POSITION_OFFSET);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Finds the end of the last complete record of a journal. Incomplete records
+     * before it are holes, which are kept; only the space after it is unused.
+     *
+     * @param channel The channel of the journal file.
+     * @return The file offset after the last complete record, or the header size if
+     *         the journal has no complete record.
+     * @throws IOException If the file cannot be read or is not a journal.
+     */
+    static long findEnd(FileChannel channel) throws IOException {
+        checkHeader(channel);
+        MoveJournalReader reader = new MoveJournalReader(channel);
+        long end = MoveJournal.HEADER_SIZE;
+        while (reader.next()) {
+            end = reader.fileOffset - reader.buffer.limit() + reader.recordIndex + MoveJournal.RECORD_SIZE;
+        }
+        return end;
+    }
+
+    private static void checkHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(MoveJournal.HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) > 0) {
+            // read the complete header
+        }
+        header.flip();
+        MoveJournal.checkHeader(header);
+    }
+
+    /**
+     * Reads the next block of whole records into the buffer.
+     */
+    private boolean fill() throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, fileOffset + buffer.position());
+            if (read < 0) {
+                break;
+            }
+        }
+        int whole = buffer.position() - buffer.position() % MoveJournal.RECORD_SIZE;
+        fileOffset += whole;
+        buffer.flip();
+        buffer.limit(whole);
+        recordIndex = 0;
+        return whole > 0;
+    }
+}
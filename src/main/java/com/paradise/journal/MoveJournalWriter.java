@@ -0,0 +1,326 @@
+package main.java.com.paradise.journal;
+
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.interfaces.IMoveListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The MoveJournalWriter appends move records to a memory-mapped journal file (see
+ * {@link MoveJournal} for the format). Appending reserves a slot with one atomic
+ * increment and writes the record directly into the mapped memory, so any number of
+ * threads can append concurrently without locks or system calls. A background
+ * thread forces the written pages to disk in batches, but only up to the first
+ * record that is still being written, so a flushed journal never has a hole before
+ * a flushed record.
+ *
+ * <p>Closing waits for the appends that are in progress, so the file is never cut
+ * off below a reserved record. Opening a journal for appending keeps every complete
+ * record; holes left by a crash are kept as well and skipped by the readers. Games
+ * that record their moves through {@link #listenerFor(long)} are rejected before a
+ * move is applied once the journal is closed.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class MoveJournalWriter implements AutoCloseable {
+    private static final int REGION_SIZE = 1 << 24;
+    private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 100;
+    // Bytes 8 to 11 of a record, written with release semantics to complete it
+    private static final VarHandle COMMIT_WORD =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final FileChannel channel;
+    private final AtomicLong nextOffset;
+    private final AtomicInteger activeWriters = new AtomicInteger();
+    private final ScheduledExecutorService flusher;
+    private volatile MappedByteBuffer[] regions = new MappedByteBuffer[0];
+    private volatile boolean closed;
+    private long flushedOffset;
+
+    private MoveJournalWriter(FileChannel channel, long endOffset, long flushIntervalMillis) {
+        this.channel = channel;
+        this.nextOffset = new AtomicLong(endOffset);
+        this.flushedOffset = endOffset;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "paradise-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new journal, replacing an existing file.
+     *
+     * @param path The path of the journal file.
+     * @return The writer of the journal.
+     * @throws IOException If the file cannot be created.
+     */
+    public static MoveJournalWriter create(Path path) throws IOException {
+        return open(path, false, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Opens a journal for writing.
+     *
+     * @param path                The path of the journal file.
+     * @param append              true to append to an existing journal, false to
+     *                            replace it.
+     * @param flushIntervalMillis The time between two batched flushes to disk.
+     * @return The writer of the journal.
+     * @throws IOException If the file cannot be opened or is not a journal.
+     */
+    public static MoveJournalWriter open(Path path, boolean append, long flushIntervalMillis) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long endOffset;
+            if (append && channel.size() >= MoveJournal.HEADER_SIZE) {
+                // Only the unused space after the last complete record is cut off
+                endOffset = MoveJournalReader.findEnd(channel);
+                channel.truncate(endOffset);
+                channel.write(MoveJournal.createHeader(), 0);
+            } else {
+                channel.truncate(0);
+                channel.write(MoveJournal.createHeader(), 0);
+                endOffset = MoveJournal.HEADER_SIZE;
+            }
+            return new MoveJournalWriter(channel, endOffset, flushIntervalMillis);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends one move record. The method is thread-safe and does not block.
+     *
+     * @param gameId   The id of the game.
+     * @param color    The color of the moved figure.
+     * @param figureId The id of the figure within its game.
+     * @param die1     The value of the first die.
+     * @param die2     The value of the second die.
+     * @param position The field number after the move.
+     */
+    public void append(long gameId, Color color, int figureId, int die1, int die2, int position) {
+        int commitWord = (color.ordinal() + 1) | (figureId & 0xFF) << 8 | (die1 & 0xFF) << 16 | (die2 & 0xFF) << 24;
+        write(gameId, commitWord, position);
+    }
+
+    /**
+     * Appends the start record of a game, which has to precede its moves. The method
+     * is thread-safe and does not block.
+     *
+     * @param gameId    The id of the game.
+     * @param colors    The colors of the players in seating order.
+     * @param firstSeat The seat index of the player who moves first.
+     */
+    public void appendGameStart(long gameId, Color[] colors, int firstSeat) {
+        if (colors.length * MoveJournal.BITS_PER_SEAT_COLOR > Integer.SIZE) {
+            throw new IllegalArgumentException("Too many players: " + colors.length);
+        }
+        if (firstSeat < 0 || firstSeat >= colors.length) {
+            throw new IllegalArgumentException("Invalid first seat: " + firstSeat);
+        }
+        int seatColors = 0;
+        for (int seat = 0; seat < colors.length; seat++) {
+            seatColors |= colors[seat].ordinal() << seat * MoveJournal.BITS_PER_SEAT_COLOR;
+        }
+        int commitWord = (MoveJournal.GAME_START & 0xFF) | colors.length << 8 | firstSeat << 16;
+        write(gameId, commitWord, seatColors);
+    }
+
+    /**
+     * Reserves a slot and writes one record. The word with the color byte is written
+     * last, so the record only becomes visible to {@link #flush()} when it is complete.
+     */
+    private void write(long gameId, int commitWord, int position) {
+        activeWriters.incrementAndGet();
+        try {
+            // Checked after registering, so close() either sees this writer or it sees closed
+            checkOpen();
+            long offset = nextOffset.getAndAdd(MoveJournal.RECORD_SIZE);
+            ByteBuffer region = region((int) (offset / REGION_SIZE));
+            int index = (int) (offset % REGION_SIZE);
+            region.putLong(index + MoveJournal.GAME_ID_OFFSET, gameId);
+            region.putInt(index + MoveJournal.POSITION_OFFSET, position);
+            COMMIT_WORD.setRelease(region, index + MoveJournal.COLOR_OFFSET, commitWord);
+        } finally {
+            activeWriters.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a listener that appends every move of one game to this journal.
+     *
+     * @param gameId The id under which the moves are recorded.
+     * @return The listener for the game.
+     */
+    public IMoveListener listenerFor(long gameId) {
+        return new IMoveListener() {
+            @Override
+            public void beforeMove(Color color, int figureId) {
+                checkOpen();
+            }
+
+            @Override
+            public void onMove(Color color, int figureId, int die1, int die2, int fromPosition, int toPosition) {
+                append(gameId, color, figureId, die1, die2, toPosition);
+            }
+        };
+    }
+
+    /**
+     * Checks that the journal still accepts records.
+     *
+     * @throws IllegalStateException If the journal is closed.
+     */
+    public void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The journal is closed.");
+        }
+    }
+
+    /**
+     * Returns the number of records appended so far, including those of earlier
+     * sessions and their holes when the journal was opened for appending.
+     *
+     * @return The number of records.
+     */
+    public long getRecordCount() {
+        return (nextOffset.get() - MoveJournal.HEADER_SIZE) / MoveJournal.RECORD_SIZE;
+    }
+
+    /**
+     * Forces the records written so far to disk, up to the first record that is still
+     * being written. This is called periodically by the background thread and does
+     * not need to be called by the writers.
+     */
+    public synchronized void flush() {
+        MappedByteBuffer[] current = regions;
+        long end = flushedOffset;
+        while (end < nextOffset.get()) {
+            int regionIndex = (int) (end / REGION_SIZE);
+            if (regionIndex >= current.length || current[regionIndex] == null) {
+                break;
+            }
+            int index = (int) (end % REGION_SIZE) + MoveJournal.COLOR_OFFSET;
+            if (((int) COMMIT_WORD.getAcquire((ByteBuffer) current[regionIndex], index) & 0xFF) == 0) {
+                break;
+            }
+            end += MoveJournal.RECORD_SIZE;
+        }
+        force(end);
+    }
+
+    /**
+     * Forces the mapped pages from the flushed offset up to the given offset to disk.
+     */
+    private synchronized void force(long end) {
+        MappedByteBuffer[] current = regions;
+        while (flushedOffset < end) {
+            int regionIndex = (int) (flushedOffset / REGION_SIZE);
+            if (regionIndex >= current.length || current[regionIndex] == null) {
+                break;
+            }
+            int from = (int) (flushedOffset % REGION_SIZE);
+            int to = (int) Math.min(REGION_SIZE, end - (long) regionIndex * REGION_SIZE);
+            current[regionIndex].force(from, to - from);
+            flushedOffset = (long) regionIndex * REGION_SIZE + to;
+        }
+    }
+
+    /**
+     * Waits for the appends in progress, flushes the journal, cuts off the unused
+     * mapped space and closes the file. Appends that start after this method was
+     * called fail with an {@link IllegalStateException}.
+     *
+     * <p>The mapped regions are dropped before the file is truncated, and no thread
+     * can reach them afterwards: touching a mapping beyond the new end of the file
+     * raises SIGBUS on Linux. Windows refuses to shrink a file until its mappings have
+     * been garbage collected; then the unused space is left in place, the readers
+     * ignore it and the next writer that appends to the journal cuts it off.</p>
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flusher.shutdown();
+        // Not under the lock, because a writer may need it to map a region
+        while (activeWriters.get() != 0) {
+            Thread.onSpinWait();
+        }
+        synchronized (this) {
+            // Every reserved record is complete now, apart from holes of failed appends.
+            // The flusher takes this lock as well, so it holds no region any more.
+            force(nextOffset.get());
+            MappedByteBuffer[] mapped = regions;
+            regions = new MappedByteBuffer[0];
+            Arrays.fill(mapped, null);
+            try {
+                channel.truncate(nextOffset.get());
+            } catch (IOException e) {
+                // The platform keeps the file at its mapped size while the dropped
+                // regions are still mapped; the unused space is harmless
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the mapped region with the given index, mapping it on first use. The
+     * header is part of region 0, so records never cross a region boundary.
+     */
+    private MappedByteBuffer region(int regionIndex) {
+        MappedByteBuffer[] current = regions;
+        if (regionIndex < current.length && current[regionIndex] != null) {
+            return current[regionIndex];
+        }
+        synchronized (this) {
+            current = regions;
+            if (regionIndex >= current.length) {
+                current = Arrays.copyOf(current, Math.max(regionIndex + 1, current.length * 2));
+            }
+            if (current[regionIndex] == null) {
+                try {
+                    MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE,
+                            (long) regionIndex * REGION_SIZE, REGION_SIZE);
+                    mapped.order(ByteOrder.LITTLE_ENDIAN);
+                    current[regionIndex] = mapped;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            regions = current;
+            return current[regionIndex];
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MoveJournalWriter{records=" + getRecordCount() + '}';
+    }
+}
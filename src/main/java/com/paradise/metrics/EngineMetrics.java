@@ -0,0 +1,247 @@
+package main.java.com.paradise.metrics;
+
+import main.java.com.paradise.enums.FieldType;
+import main.java.com.paradise.interfaces.IEngineMetrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The EngineMetrics class counts what the engine does: moves, rejected moves, turns,
+ * finished games and fired field events, plus histograms of the time a move takes
+ * and of the time between roll and move in hosted games. All counters are
+ * {@link LongAdder}s, so games on different threads do not contend.
+ *
+ * <p>Metrics are switched on with the system property {@code paradise.metrics=true}.
+ * Every call site checks the constant {@link #ENABLED} first; when it is false the
+ * JIT compiler removes the whole block, so disabled metrics cost nothing on the
+ * move path.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class EngineMetrics implements IEngineMetrics {
+    /**
+     * Whether metrics are recorded, read once from the system property
+     * {@code paradise.metrics}.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("paradise.metrics");
+
+    /**
+     * The name under which the metrics are registered with the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "main.java.com.paradise:type=EngineMetrics";
+
+    private static final FieldType[] FIELD_TYPES = FieldType.values();
+    private static final EngineMetrics INSTANCE = new EngineMetrics();
+
+    private final LongAdder moves = new LongAdder();
+    private final LongAdder rejectedMoves = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder finishedGames = new LongAdder();
+    private final LongAdder[] events = new LongAdder[FIELD_TYPES.length];
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private final LatencyHistogram turnDuration = new LatencyHistogram();
+    private volatile long startNanos = System.nanoTime();
+
+    private EngineMetrics() {
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the metrics of this process. Callers should check {@link #ENABLED}
+     * before recording.
+     *
+     * @return The engine metrics.
+     */
+    public static EngineMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, so they can be read with
+     * JConsole or any other JMX client. Registering twice has no effect.
+     *
+     * @throws IllegalStateException If the metrics cannot be registered.
+     */
+    public static void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("The engine metrics cannot be registered.", e);
+        }
+    }
+
+    /**
+     * Records a successful move.
+     *
+     * @param firedEvents The bit mask of the field events fired by the move
+     *                    (see {@link main.java.com.paradise.Figure#getFiredEvents()}).
+     * @param nanos       The time the move took in nanoseconds.
+     */
+    public void recordMove(int firedEvents, long nanos) {
+        moves.increment();
+        moveLatency.record(nanos);
+        int remaining = firedEvents;
+        while (remaining != 0) {
+            events[Integer.numberOfTrailingZeros(remaining)].increment();
+            remaining &= remaining - 1;
+        }
+    }
+
+    public void recordRejectedMove() {
+        rejectedMoves.increment();
+    }
+
+    /**
+     * Records a completed turn of a hosted game.
+     *
+     * @param nanos The time between the roll and the move in nanoseconds.
+     */
+    public void recordTurn(long nanos) {
+        turns.increment();
+        turnDuration.record(nanos);
+    }
+
+    public void recordFinishedGame() {
+        finishedGames.increment();
+    }
+
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    public LatencyHistogram getTurnDuration() {
+        return turnDuration;
+    }
+
+    /**
+     * Returns the number of fired events of the given field type.
+     *
+     * @param type The field type.
+     * @return The number of events.
+     */
+    public long getEventCount(FieldType type) {
+        return events[type.ordinal()].sum();
+    }
+
+    @Override
+    public long getMoveCount() {
+        return moves.sum();
+    }
+
+    @Override
+    public double getMovesPerSecond() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return seconds <= 0 ? 0 : moves.sum() / seconds;
+    }
+
+    @Override
+    public long getRejectedMoveCount() {
+        return rejectedMoves.sum();
+    }
+
+    @Override
+    public long getTurnCount() {
+        return turns.sum();
+    }
+
+    @Override
+    public long getFinishedGameCount() {
+        return finishedGames.sum();
+    }
+
+    @Override
+    public long getLuckEventCount() {
+        return getEventCount(FieldType.LUCK);
+    }
+
+    @Override
+    public long getBridgeEventCount() {
+        return getEventCount(FieldType.BRIDGE);
+    }
+
+    @Override
+    public long getAscensionEventCount() {
+        return getEventCount(FieldType.ASCENSION);
+    }
+
+    @Override
+    public Map<String, Long> getEventCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FieldType type : FIELD_TYPES) {
+            long count = events[type.ordinal()].sum();
+            if (count > 0) {
+                counts.put(type.name(), count);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public double getMeanMoveNanos() {
+        return moveLatency.getMeanNanos();
+    }
+
+    @Override
+    public long getMedianMoveNanos() {
+        return moveLatency.getPercentileNanos(50);
+    }
+
+    @Override
+    public long get99thPercentileMoveNanos() {
+        return moveLatency.getPercentileNanos(99);
+    }
+
+    @Override
+    public long getMaxMoveNanos() {
+        return moveLatency.getMaxNanos();
+    }
+
+    @Override
+    public double getMeanTurnMillis() {
+        return turnDuration.getMeanNanos() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getMedianTurnMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(turnDuration.getPercentileNanos(50));
+    }
+
+    @Override
+    public long get99thPercentileTurnMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(turnDuration.getPercentileNanos(99));
+    }
+
+    @Override
+    public void reset() {
+        moves.reset();
+        rejectedMoves.reset();
+        turns.reset();
+        finishedGames.reset();
+        for (LongAdder counter : events) {
+            counter.reset();
+        }
+        moveLatency.reset();
+        turnDuration.reset();
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "EngineMetrics{moves=" + getMoveCount() + ", rejectedMoves=" + getRejectedMoveCount() + ", turns="
+                + getTurnCount() + ", finishedGames=" + getFinishedGameCount() + ", events=" + getEventCounts() + '}';
+    }
+}
@@ -0,0 +1,99 @@
+package main.java.com.paradise.render;
+
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * The AnsiRenderer keeps the positions of the figures in a fixed table at the top
+ * of an ANSI terminal. Messages scroll in the region below the table, and after a
+ * move only the lines of the figures that have moved and of the player on turn are
+ * overwritten with cursor movement escape sequences.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class AnsiRenderer extends TextRenderer {
+    private static final String CSI = "\u001b[";
+    private static final String SAVE_CURSOR = "\u001b7";
+    private static final String RESTORE_CURSOR = "\u001b8";
+
+    /**
+     * Creates a renderer that writes to the given stream in the default charset.
+     *
+     * @param out The stream; it is flushed but never closed.
+     */
+    public AnsiRenderer(OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * Creates a renderer that writes to the given writer.
+     *
+     * @param out The writer; it is flushed but never closed.
+     */
+    public AnsiRenderer(Writer out) {
+        super(out);
+    }
+
+    /**
+     * Checks whether the standard output is an interactive terminal that understands
+     * ANSI escape sequences.
+     *
+     * @return true if the console supports ANSI escape sequences.
+     */
+    public static boolean isSupported() {
+        String terminal = System.getenv("TERM");
+        return System.console() != null && terminal != null && !terminal.equals("dumb");
+    }
+
+    /**
+     * Resets the scroll region to the whole screen and flushes the output.
+     */
+    @Override
+    public synchronized void close() {
+        buffer.append(SAVE_CURSOR).append(CSI).append('r').append(RESTORE_CURSOR);
+        super.close();
+    }
+
+    /**
+     * Draws the whole table on a redraw and restricts scrolling to the lines below it.
+     * Otherwise only the changed lines of the table are overwritten and the cursor is
+     * returned to the scroll region.
+     *
+     * @param redraw Whether the game is rendered for the first time.
+     */
+    @Override
+    protected void drawFigures(boolean redraw) {
+        // Line 1 is the title, then one line per figure, the player on turn and a gap
+        int turnRow = positions.length + 2;
+        if (redraw) {
+            buffer.append(CSI).append('r').append(CSI).append("2J").append(CSI).append('H');
+            buffer.append("Figures:\n");
+            for (int figureId = 0; figureId < positions.length; figureId++) {
+                appendFigure(figureId).append('\n');
+            }
+            appendTurn().append('\n');
+            // Setting the scroll region moves the cursor home, so it is placed again
+            buffer.append(CSI).append(turnRow + 2).append('r');
+            buffer.append(CSI).append(turnRow + 2).append(";1H");
+            return;
+        }
+
+        buffer.append(SAVE_CURSOR);
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            if (changed[figureId]) {
+                moveTo(figureId + 2);
+                appendFigure(figureId).append(CSI).append('K');
+            }
+        }
+        if (turnChanged) {
+            moveTo(turnRow);
+            appendTurn().append(CSI).append('K');
+        }
+        buffer.append(RESTORE_CURSOR);
+    }
+
+    private void moveTo(int row) {
+        buffer.append(CSI).append(row).append(";1H");
+    }
+}
@@ -0,0 +1,46 @@
+package main.java.com.paradise.render;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.interfaces.IGameRenderer;
+
+/**
+ * The SilentRenderer discards all output. It is used for headless games, where
+ * nobody reads the console.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class SilentRenderer implements IGameRenderer {
+    /**
+     * The shared instance; the renderer has no state.
+     */
+    public static final SilentRenderer INSTANCE = new SilentRenderer();
+
+    private SilentRenderer() {
+    }
+
+    @Override
+    public void message(String line) {
+    }
+
+    @Override
+    public void prompt(String text) {
+    }
+
+    @Override
+    public void renderGame(ParadiseGame game) {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "SilentRenderer";
+    }
+}
@@ -0,0 +1,219 @@
+package main.java.com.paradise.render;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.interfaces.IGameRenderer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * The TextRenderer writes the console game as plain text, e.g. to a terminal without
+ * cursor control or to a log file. All output is collected in one reusable
+ * {@link StringBuilder} and only written when a prompt asks for input, on
+ * {@link #flush()}, or when the buffer is full, so long bot-vs-bot sessions do not
+ * pay for one system call per line.
+ *
+ * <p>The positions of all figures are listed only the first time a game is rendered;
+ * afterwards only the figures that have moved and a change of the player on turn are
+ * written. Subclasses can draw the figures differently by overriding
+ * {@link #drawFigures(boolean)}.</p>
+ *
+ * <p>All methods are synchronized, so one renderer can be shared by several games.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class TextRenderer implements IGameRenderer {
+    private static final int FLUSH_THRESHOLD = 8 * 1024;
+
+    /**
+     * The output that has not been written yet.
+     */
+    protected final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 1024);
+
+    /**
+     * The names of the figures of the rendered game, indexed by figure id.
+     */
+    protected String[] figureNames = new String[0];
+
+    /**
+     * The positions of the figures as last drawn, indexed by figure id.
+     */
+    protected int[] positions = new int[0];
+
+    /**
+     * Whether the figure with the same id has moved since it was last drawn.
+     */
+    protected boolean[] changed = new boolean[0];
+
+    /**
+     * The color of the player on turn as last drawn.
+     */
+    protected Color colorOnTurn;
+
+    /**
+     * Whether the player on turn has changed since the figures were last drawn.
+     */
+    protected boolean turnChanged;
+
+    private final Writer out;
+    private ParadiseGame renderedGame;
+
+    /**
+     * Creates a renderer that writes to the given stream in the default charset.
+     *
+     * @param out The stream; it is flushed but never closed.
+     */
+    public TextRenderer(OutputStream out) {
+        this(new OutputStreamWriter(out, Charset.defaultCharset()));
+    }
+
+    /**
+     * Creates a renderer that writes to the given writer.
+     *
+     * @param out The writer; it is flushed but never closed.
+     */
+    public TextRenderer(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Returns the shared renderer for {@code System.out}.
+     *
+     * @return The console renderer.
+     */
+    public static TextRenderer console() {
+        return ConsoleHolder.CONSOLE;
+    }
+
+    @Override
+    public synchronized void message(String line) {
+        buffer.append(line).append('\n');
+        flushIfFull();
+    }
+
+    @Override
+    public synchronized void prompt(String text) {
+        buffer.append(text);
+        flush();
+    }
+
+    @Override
+    public synchronized void renderGame(ParadiseGame game) {
+        boolean redraw = game != renderedGame;
+        if (redraw) {
+            startGame(game);
+        }
+        boolean anyChanged = redraw;
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            int position = game.getCharacterPosition(figureId);
+            changed[figureId] = redraw || position != positions[figureId];
+            anyChanged |= changed[figureId];
+            positions[figureId] = position;
+        }
+        Color turn = game.getColorOnTurn();
+        turnChanged = redraw || turn != colorOnTurn;
+        colorOnTurn = turn;
+        if (anyChanged || turnChanged) {
+            drawFigures(redraw);
+        }
+        flushIfFull();
+    }
+
+    @Override
+    public synchronized void flush() {
+        try {
+            out.append(buffer);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.setLength(0);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        flush();
+    }
+
+    /**
+     * Appends the figures that have changed, or all figures on a redraw, to the
+     * buffer, followed by the player on turn if it has changed. The figures to draw
+     * are marked in {@link #changed}.
+     *
+     * @param redraw Whether the game is rendered for the first time.
+     */
+    protected void drawFigures(boolean redraw) {
+        if (redraw) {
+            buffer.append("Figures:\n");
+        }
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            if (changed[figureId]) {
+                appendFigure(figureId).append('\n');
+            }
+        }
+        if (turnChanged) {
+            appendTurn().append('\n');
+        }
+    }
+
+    /**
+     * Appends the line of one figure without a line break, e.g. "BLUE-A: 12".
+     *
+     * @param figureId The id of the figure.
+     * @return The buffer.
+     */
+    protected StringBuilder appendFigure(int figureId) {
+        return buffer.append(figureNames[figureId]).append(": ").append(positions[figureId]);
+    }
+
+    /**
+     * Appends the line of the player on turn without a line break.
+     *
+     * @return The buffer.
+     */
+    protected StringBuilder appendTurn() {
+        return buffer.append("Current Player: ").append(colorOnTurn);
+    }
+
+    private void startGame(ParadiseGame game) {
+        Color[] colors = game.getAllPlayers();
+        int figureCount = colors.length * Player.NUMBER_OF_FIGURES;
+        renderedGame = game;
+        colorOnTurn = null;
+        if (figureNames.length != figureCount) {
+            figureNames = new String[figureCount];
+            positions = new int[figureCount];
+            changed = new boolean[figureCount];
+        }
+        for (int figureId = 0; figureId < figureCount; figureId++) {
+            figureNames[figureId] = Player.getFigureName(colors[figureId / Player.NUMBER_OF_FIGURES],
+                    figureId % Player.NUMBER_OF_FIGURES);
+        }
+    }
+
+    private void flushIfFull() {
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{buffered=" + buffer.length() + '}';
+    }
+
+    /**
+     * Creates the console renderer on first use.
+     */
+    private static final class ConsoleHolder {
+        static final TextRenderer CONSOLE = new TextRenderer(System.out);
+    }
+}
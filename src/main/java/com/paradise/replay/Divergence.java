@@ -0,0 +1,130 @@
+package main.java.com.paradise.replay;
+
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+
+/**
+ * The Divergence class describes a recorded move whose result differs from the
+ * result of the current rules, or that was made by a player who was not on turn
+ * according to the current rules.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class Divergence {
+    private final long gameId;
+    private final int moveNumber;
+    private final Color color;
+    private final int figureId;
+    private final int die1;
+    private final int die2;
+    private final int fromPosition;
+    private final int recordedPosition;
+    private final int replayedPosition;
+    private final int seatOnTurn;
+
+    /**
+     * Creates a new divergence of a move that was made in turn.
+     *
+     * @param gameId           The id of the game.
+     * @param moveNumber       The number of the move within the game, starting with 0.
+     * @param color            The color of the moved figure.
+     * @param figureId         The id of the moved figure.
+     * @param die1             The value of the first die.
+     * @param die2             The value of the second die.
+     * @param fromPosition     The field number before the move.
+     * @param recordedPosition The field number after the move according to the log.
+     * @param replayedPosition The field number after the move according to the
+     *                         current rules, or -1 if the move is outside the board.
+     */
+    public Divergence(long gameId, int moveNumber, Color color, int figureId, int die1, int die2,
+                      int fromPosition, int recordedPosition, int replayedPosition) {
+        this(gameId, moveNumber, color, figureId, die1, die2, fromPosition, recordedPosition, replayedPosition,
+                figureId / Player.NUMBER_OF_FIGURES);
+    }
+
+    /**
+     * Creates a new divergence.
+     *
+     * @param gameId           The id of the game.
+     * @param moveNumber       The number of the move within the game, starting with 0.
+     * @param color            The color of the moved figure.
+     * @param figureId         The id of the moved figure.
+     * @param die1             The value of the first die.
+     * @param die2             The value of the second die.
+     * @param fromPosition     The field number before the move.
+     * @param recordedPosition The field number after the move according to the log.
+     * @param replayedPosition The field number after the move according to the
+     *                         current rules, or -1 if the move is outside the board.
+     * @param seatOnTurn       The seat index of the player on turn according to the
+     *                         current rules.
+     */
+    public Divergence(long gameId, int moveNumber, Color color, int figureId, int die1, int die2,
+                      int fromPosition, int recordedPosition, int replayedPosition, int seatOnTurn) {
+        this.gameId = gameId;
+        this.moveNumber = moveNumber;
+        this.color = color;
+        this.figureId = figureId;
+        this.die1 = die1;
+        this.die2 = die2;
+        this.fromPosition = fromPosition;
+        this.recordedPosition = recordedPosition;
+        this.replayedPosition = replayedPosition;
+        this.seatOnTurn = seatOnTurn;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getMoveNumber() {
+        return moveNumber;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public int getFigureId() {
+        return figureId;
+    }
+
+    public int getDie1() {
+        return die1;
+    }
+
+    public int getDie2() {
+        return die2;
+    }
+
+    public int getFromPosition() {
+        return fromPosition;
+    }
+
+    public int getRecordedPosition() {
+        return recordedPosition;
+    }
+
+    public int getReplayedPosition() {
+        return replayedPosition;
+    }
+
+    public int getSeatOnTurn() {
+        return seatOnTurn;
+    }
+
+    /**
+     * @return true if the move was made by a player who was not on turn.
+     */
+    public boolean isOutOfTurn() {
+        return figureId / Player.NUMBER_OF_FIGURES != seatOnTurn;
+    }
+
+    @Override
+    public String toString() {
+        return "Game " + gameId + ", move " + moveNumber + ": " + color + " figure " + figureId
+                + " rolled " + die1 + "+" + die2 + " from field " + fromPosition
+                + ", recorded field " + recordedPosition + ", replayed field " + replayedPosition
+                + (isOutOfTurn() ? ", seat on turn " + seatOnTurn : "");
+    }
+}
@@ -0,0 +1,230 @@
+package main.java.com.paradise.replay;
+
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.journal.MoveJournalReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The RecordedGame class holds the moves of one game as read from a move journal.
+ * The moves are kept in primitive arrays, so even long archives of games take only a
+ * few bytes per move. The seating order of the players and the first player are
+ * taken from the start record of the game. Version 1 journals have no start records;
+ * for their games the seating order is derived from the figure ids, which are
+ * {@code seat * 2 + figure}, and the first player is the one of the first move.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class RecordedGame {
+    private final long gameId;
+    private Color[] colors = new Color[0];
+    private boolean started;
+    private int firstSeat = -1;
+    private byte[] figureIds = new byte[64];
+    private byte[] dice1 = new byte[64];
+    private byte[] dice2 = new byte[64];
+    private int[] positions = new int[64];
+    private int moveCount;
+
+    /**
+     * Creates an empty recorded game.
+     *
+     * @param gameId The id of the game in the journal.
+     */
+    public RecordedGame(long gameId) {
+        this.gameId = gameId;
+    }
+
+    /**
+     * Reads all moves of one game from a journal.
+     *
+     * @param journal The path of the journal file.
+     * @param gameId  The id of the game.
+     * @return The recorded game; it has no moves if the game is not in the journal.
+     * @throws IOException If the journal cannot be read.
+     */
+    public static RecordedGame read(Path journal, long gameId) throws IOException {
+        RecordedGame game = new RecordedGame(gameId);
+        try (MoveJournalReader reader = MoveJournalReader.open(journal)) {
+            while (reader.next()) {
+                if (reader.getGameId() == gameId) {
+                    game.addRecord(reader);
+                }
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Reads all games of a journal.
+     *
+     * @param journal The path of the journal file.
+     * @return The games by their id, in the order of their first move.
+     * @throws IOException If the journal cannot be read.
+     */
+    public static Map<Long, RecordedGame> readAll(Path journal) throws IOException {
+        Map<Long, RecordedGame> games = new LinkedHashMap<>();
+        RecordedGame last = null;
+        try (MoveJournalReader reader = MoveJournalReader.open(journal)) {
+            while (reader.next()) {
+                long gameId = reader.getGameId();
+                if (last == null || last.gameId != gameId) {
+                    last = games.computeIfAbsent(gameId, RecordedGame::new);
+                }
+                last.addRecord(reader);
+            }
+        }
+        return games;
+    }
+
+    /**
+     * Sets the seating order and the first player from the start record of the game.
+     *
+     * @param colors    The colors of the players in seating order.
+     * @param firstSeat The seat index of the player who moved first.
+     * @throws IllegalStateException If the game has already been started or has moves.
+     */
+    public void start(Color[] colors, int firstSeat) {
+        if (started || moveCount > 0) {
+            throw new IllegalStateException("Game " + gameId + " has already been started.");
+        }
+        if (firstSeat < 0 || firstSeat >= colors.length) {
+            throw new IllegalArgumentException("Invalid first seat of game " + gameId + ": " + firstSeat);
+        }
+        this.colors = colors.clone();
+        this.firstSeat = firstSeat;
+        this.started = true;
+    }
+
+    /**
+     * Appends a move to the game.
+     *
+     * @param color    The color of the moved figure.
+     * @param figureId The id of the moved figure.
+     * @param die1     The value of the first die.
+     * @param die2     The value of the second die.
+     * @param position The recorded field number after the move.
+     * @throws IllegalArgumentException If the figure does not match the seating order
+     *                                  of the game.
+     */
+    public void addMove(Color color, int figureId, int die1, int die2, int position) {
+        int seat = figureId / Player.NUMBER_OF_FIGURES;
+        if (seat >= colors.length) {
+            if (started) {
+                throw new IllegalArgumentException("Figure " + figureId + " of game " + gameId
+                        + " has no seat among " + colors.length + " players.");
+            }
+            colors = Arrays.copyOf(colors, seat + 1);
+        }
+        if (firstSeat < 0) {
+            firstSeat = seat;
+        }
+        if (colors[seat] == null) {
+            colors[seat] = color;
+        } else if (colors[seat] != color) {
+            throw new IllegalArgumentException("Figure " + figureId + " of game " + gameId
+                    + " is recorded as " + colors[seat] + " and " + color + ".");
+        }
+        if (moveCount == positions.length) {
+            int capacity = moveCount * 2;
+            figureIds = Arrays.copyOf(figureIds, capacity);
+            dice1 = Arrays.copyOf(dice1, capacity);
+            dice2 = Arrays.copyOf(dice2, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+        }
+        figureIds[moveCount] = (byte) figureId;
+        dice1[moveCount] = (byte) die1;
+        dice2[moveCount] = (byte) die2;
+        positions[moveCount] = position;
+        moveCount++;
+    }
+
+    private void addRecord(MoveJournalReader reader) {
+        if (reader.isGameStart()) {
+            Color[] seatColors = new Color[reader.getPlayerCount()];
+            for (int seat = 0; seat < seatColors.length; seat++) {
+                seatColors[seat] = reader.getSeatColor(seat);
+            }
+            start(seatColors, reader.getFirstSeat());
+        } else {
+            addMove(reader.getColor(), reader.getFigureId(), reader.getDie1(), reader.getDie2(), reader.getPosition());
+        }
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * @return true if the seating order was read from the start record of the game,
+     *         false if it was derived from the moves.
+     */
+    public boolean hasStartRecord() {
+        return started;
+    }
+
+    /**
+     * @return The seat index of the player who moved first, or -1 if the game has
+     *         neither a start record nor moves.
+     */
+    public int getFirstSeat() {
+        return firstSeat;
+    }
+
+    /**
+     * Returns the colors of the players in seating order.
+     *
+     * @return The colors of the players.
+     * @throws IllegalStateException If a player never moved, so its color is unknown.
+     */
+    public Color[] getColors() {
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] == null) {
+                throw new IllegalStateException("The color of seat " + i + " of game " + gameId + " is unknown.");
+            }
+        }
+        return colors.clone();
+    }
+
+    public int getFigureCount() {
+        return colors.length * Player.NUMBER_OF_FIGURES;
+    }
+
+    public int getFigureId(int move) {
+        return figureIds[checkMove(move)];
+    }
+
+    public int getDie1(int move) {
+        return dice1[checkMove(move)];
+    }
+
+    public int getDie2(int move) {
+        return dice2[checkMove(move)];
+    }
+
+    public int getPosition(int move) {
+        return positions[checkMove(move)];
+    }
+
+    private int checkMove(int move) {
+        if (move < 0 || move >= moveCount) {
+            throw new IndexOutOfBoundsException("Move " + move + " of " + moveCount);
+        }
+        return move;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordedGame{id=" + gameId + ", moves=" + moveCount + '}';
+    }
+}
@@ -0,0 +1,386 @@
+package main.java.com.paradise.replay;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.TurnScheduler;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.LabyrinthField;
+import main.java.com.paradise.fields.TransitionTable;
+import main.java.com.paradise.journal.MoveJournalReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The ReplayEngine class replays a {@link RecordedGame} without any console output.
+ * Every recorded move is checked against the current rules, which are taken from the
+ * {@link TransitionTable} of the board and therefore from the field classes, so a
+ * changed field class shows up as the first divergence of a game. The player of
+ * every move is checked against the turn order, including the turns skipped in the
+ * labyrinth, for games whose journal has a start record. The recorded positions and
+ * players are authoritative: after a divergence the replay continues from the
+ * recorded state.
+ *
+ * <p>The state after every {@code snapshotInterval} moves, including the turn order
+ * and the turns still to be skipped, is kept as a snapshot, so {@link #seek(int)}
+ * restores the state after any move by copying the nearest snapshot and applying at
+ * most {@code snapshotInterval - 1} moves.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class ReplayEngine {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+    private final RecordedGame game;
+    private final TransitionTable transitionTable;
+    private final int snapshotInterval;
+    private final int figureCount;
+    private final Color[] colors;
+    private final int[] snapshots;
+    private final int[] turnSnapshots;
+    private final int[] positions;
+    private final GameCheck check;
+    private final Divergence firstDivergence;
+    private int moveNumber;
+
+    /**
+     * Creates a replay of a game on the standard board.
+     *
+     * @param game The recorded game.
+     */
+    public ReplayEngine(RecordedGame game) {
+        this(game, standardTransitionTable(), DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Creates a replay of a game. The whole game is replayed once to check every
+     * move and to take the snapshots; afterwards the engine is positioned at the start
+     * of the game.
+     *
+     * @param game             The recorded game.
+     * @param transitionTable  The rules the moves are checked against.
+     * @param snapshotInterval The number of moves between two snapshots.
+     */
+    public ReplayEngine(RecordedGame game, TransitionTable transitionTable, int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("The snapshot interval must be positive.");
+        }
+        this.game = game;
+        this.transitionTable = transitionTable;
+        this.snapshotInterval = snapshotInterval;
+        this.figureCount = game.getFigureCount();
+        this.positions = new int[figureCount];
+        this.colors = game.getMoveCount() > 0 ? game.getColors() : null;
+        int snapshotCount = game.getMoveCount() / snapshotInterval + 1;
+        this.snapshots = new int[snapshotCount * figureCount];
+        this.check = new GameCheck(positions,
+                game.hasStartRecord() ? figureCount / Player.NUMBER_OF_FIGURES : 0, game.getFirstSeat());
+        this.turnSnapshots = new int[snapshotCount * check.getTurnStateSize()];
+
+        Divergence divergence = null;
+        for (int move = 0; move < game.getMoveCount(); move++) {
+            if (move % snapshotInterval == 0) {
+                takeSnapshot(move / snapshotInterval);
+            }
+            Divergence moveDivergence = applyMove(move);
+            if (divergence == null) {
+                divergence = moveDivergence;
+            }
+        }
+        if (game.getMoveCount() % snapshotInterval == 0) {
+            takeSnapshot(game.getMoveCount() / snapshotInterval);
+        }
+        this.firstDivergence = divergence;
+        seek(0);
+    }
+
+    /**
+     * Replays all games of a journal against the given rules without keeping the
+     * games in memory. Only the first divergence of every game is reported. The turn
+     * order is only checked for games with a start record.
+     *
+     * @param journal         The path of the journal file.
+     * @param transitionTable The rules the moves are checked against.
+     * @return The first divergence of every game that diverges, in journal order.
+     * @throws IOException If the journal cannot be read.
+     */
+    public static List<Divergence> validate(Path journal, TransitionTable transitionTable) throws IOException {
+        List<Divergence> divergences = new ArrayList<>();
+        Map<Long, GameCheck> checks = new HashMap<>();
+        Set<Long> divergedGames = new HashSet<>();
+        int maxFigures = Color.values().length * Player.NUMBER_OF_FIGURES;
+
+        long lastGameId = 0;
+        GameCheck check = null;
+        try (MoveJournalReader reader = MoveJournalReader.open(journal)) {
+            while (reader.next()) {
+                long gameId = reader.getGameId();
+                if (reader.isGameStart()) {
+                    check = new GameCheck(new int[maxFigures], reader.getPlayerCount(), reader.getFirstSeat());
+                    if (checks.putIfAbsent(gameId, check) != null) {
+                        throw new IOException("Game " + gameId + " is started twice in " + journal + ".");
+                    }
+                    lastGameId = gameId;
+                    continue;
+                }
+                if (check == null || gameId != lastGameId) {
+                    check = checks.computeIfAbsent(gameId, id -> new GameCheck(new int[maxFigures], 0, -1));
+                    lastGameId = gameId;
+                }
+                Divergence divergence = check.apply(transitionTable, gameId, reader.getColor(), reader.getFigureId(),
+                        reader.getDie1(), reader.getDie2(), reader.getPosition());
+                if (divergence != null && divergedGames.add(gameId)) {
+                    divergences.add(divergence);
+                }
+            }
+        }
+        return divergences;
+    }
+
+    /**
+     * Restores the state after the given number of moves.
+     *
+     * @param moveNumber The number of moves, from 0 to the number of recorded moves.
+     */
+    public void seek(int moveNumber) {
+        if (moveNumber < 0 || moveNumber > game.getMoveCount()) {
+            throw new IndexOutOfBoundsException("Move " + moveNumber + " of " + game.getMoveCount());
+        }
+        int snapshot = moveNumber / snapshotInterval;
+        System.arraycopy(snapshots, snapshot * figureCount, positions, 0, figureCount);
+        check.restoreTurnState(snapshot * snapshotInterval, turnSnapshots, snapshot * check.getTurnStateSize());
+        for (int move = snapshot * snapshotInterval; move < moveNumber; move++) {
+            applyMove(move);
+        }
+        this.moveNumber = moveNumber;
+    }
+
+    /**
+     * Applies the next recorded move.
+     *
+     * @return false if all moves have been replayed.
+     */
+    public boolean step() {
+        if (moveNumber == game.getMoveCount()) {
+            return false;
+        }
+        applyMove(moveNumber);
+        moveNumber++;
+        return true;
+    }
+
+    public int getMoveNumber() {
+        return moveNumber;
+    }
+
+    public RecordedGame getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the first recorded move whose result differs from the current rules.
+     *
+     * @return The first divergence, or null if the whole game matches the rules.
+     */
+    public Divergence getFirstDivergence() {
+        return firstDivergence;
+    }
+
+    /**
+     * Returns the position of a figure in the current state.
+     *
+     * @param figureId The id of the figure.
+     * @return The field number of the figure.
+     */
+    public int getPosition(int figureId) {
+        return positions[figureId];
+    }
+
+    /**
+     * Returns the seat of the player who moves next in the current state. Before a
+     * recorded move this is the recorded player. After the last move of a game with
+     * a start record it follows the turn order, so players who have to skip turns are
+     * passed over; games without a start record simply pass the turn to the next seat.
+     *
+     * @return The seat index of the player on turn, or -1 if the game has neither a
+     *         start record nor moves.
+     */
+    public int getPlayerOnTurn() {
+        if (moveNumber < game.getMoveCount()) {
+            return game.getFigureId(moveNumber) / Player.NUMBER_OF_FIGURES;
+        }
+        if (game.hasStartRecord()) {
+            return check.getSeatOnTurn();
+        }
+        if (moveNumber == 0) {
+            return game.getFirstSeat();
+        }
+        int lastSeat = game.getFigureId(moveNumber - 1) / Player.NUMBER_OF_FIGURES;
+        return (lastSeat + 1) % (figureCount / Player.NUMBER_OF_FIGURES);
+    }
+
+    /**
+     * Returns the number of turns a player still has to skip in the current state.
+     * Skipped turns are only tracked for games with a start record.
+     *
+     * @param seat The seat index of the player.
+     * @return The number of pending skipped turns.
+     */
+    public int getPendingSkips(int seat) {
+        return check.getPendingSkips(seat);
+    }
+
+    /**
+     * Creates an interactive game in the current state of the replay.
+     *
+     * @return A new game with the recorded players, positions, player on turn and
+     *         skipped turns.
+     */
+    public ParadiseGame toParadiseGame() {
+        Color[] colors = game.getColors();
+        StringBuilder config = new StringBuilder();
+        for (int figureId = 0; figureId < figureCount; figureId++) {
+            if (figureId > 0) {
+                config.append(", ");
+            }
+            config.append(Player.getFigureName(colors[figureId / Player.NUMBER_OF_FIGURES],
+                    figureId % Player.NUMBER_OF_FIGURES)).append(':').append(positions[figureId]);
+        }
+        ParadiseGame paradiseGame = new ParadiseGame(config.toString(), colors);
+        for (int seat = 0; seat < colors.length; seat++) {
+            paradiseGame.setPendingSkips(colors[seat], getPendingSkips(seat));
+        }
+        int playerOnTurn = getPlayerOnTurn();
+        if (playerOnTurn >= 0) {
+            paradiseGame.setColorOnTurn(colors[playerOnTurn]);
+        }
+        return paradiseGame;
+    }
+
+    /**
+     * Checks and applies a recorded move to the current state.
+     */
+    private Divergence applyMove(int move) {
+        int figureId = game.getFigureId(move);
+        return check.apply(transitionTable, game.getGameId(), colors[figureId / Player.NUMBER_OF_FIGURES],
+                figureId, game.getDie1(move), game.getDie2(move), game.getPosition(move));
+    }
+
+    private void takeSnapshot(int snapshot) {
+        System.arraycopy(positions, 0, snapshots, snapshot * figureCount, figureCount);
+        check.saveTurnState(turnSnapshots, snapshot * check.getTurnStateSize());
+    }
+
+    /**
+     * The positions and the turn order of one game while its moves are checked. After
+     * every move the turn passes on, so the scheduler always holds the player who
+     * moves next and the turns still to be skipped.
+     */
+    private static final class GameCheck {
+        private final int[] positions;
+        private final TurnScheduler scheduler;
+        private int moveCount;
+
+        /**
+         * @param positions   The positions of the figures, updated by every move.
+         * @param playerCount The number of players, or 0 if the seating order is not
+         *                    known and the turn order cannot be checked.
+         * @param firstSeat   The seat index of the first player.
+         */
+        GameCheck(int[] positions, int playerCount, int firstSeat) {
+            this.positions = positions;
+            this.scheduler = playerCount > 0 ? new TurnScheduler(playerCount) : null;
+            if (scheduler != null) {
+                scheduler.setCurrent(firstSeat);
+            }
+        }
+
+        /**
+         * Returns the number of ints {@link #saveTurnState(int[], int)} writes.
+         */
+        int getTurnStateSize() {
+            return scheduler == null ? 0 : 1 + scheduler.getPlayerCount();
+        }
+
+        int getSeatOnTurn() {
+            return scheduler == null ? -1 : scheduler.getCurrent();
+        }
+
+        int getPendingSkips(int seat) {
+            return scheduler == null ? 0 : scheduler.getPendingSkips(seat);
+        }
+
+        void saveTurnState(int[] state, int offset) {
+            if (scheduler != null) {
+                state[offset] = scheduler.getCurrent();
+                for (int seat = 0; seat < scheduler.getPlayerCount(); seat++) {
+                    state[offset + 1 + seat] = scheduler.getPendingSkips(seat);
+                }
+            }
+        }
+
+        void restoreTurnState(int moveCount, int[] state, int offset) {
+            this.moveCount = moveCount;
+            if (scheduler != null) {
+                scheduler.setCurrent(state[offset]);
+                for (int seat = 0; seat < scheduler.getPlayerCount(); seat++) {
+                    scheduler.setPendingSkips(seat, state[offset + 1 + seat]);
+                }
+            }
+        }
+
+        /**
+         * Checks a recorded move against the rules and applies it.
+         *
+         * @return The divergence of the move, or null if it matches the rules.
+         */
+        Divergence apply(TransitionTable transitionTable, long gameId, Color color, int figureId,
+                         int die1, int die2, int recorded) {
+            int seat = figureId / Player.NUMBER_OF_FIGURES;
+            int seatOnTurn = seat;
+            if (scheduler != null) {
+                seatOnTurn = scheduler.getCurrent();
+                if (seat >= scheduler.getPlayerCount()) {
+                    throw new IllegalArgumentException("Figure " + figureId + " of game " + gameId
+                            + " has no seat among " + scheduler.getPlayerCount() + " players.");
+                }
+                scheduler.setCurrent(seat);
+            }
+            int from = positions[figureId];
+            int replayed = replayMove(transitionTable, from, die1, die2);
+            if (scheduler != null) {
+                if (replayed >= 0 && transitionTable.skipsTurn(from, die1, die2)) {
+                    scheduler.skipTurns(seat, LabyrinthField.SKIPPED_TURNS);
+                }
+                scheduler.advance();
+            }
+            positions[figureId] = recorded;
+            moveCount++;
+            if (replayed == recorded && seatOnTurn == seat) {
+                return null;
+            }
+            return new Divergence(gameId, moveCount - 1, color, figureId, die1, die2, from, recorded, replayed,
+                    seatOnTurn);
+        }
+    }
+
+    private static int replayMove(TransitionTable transitionTable, int from, int die1, int die2) {
+        return transitionTable.contains(from, die1, die2) ? transitionTable.getDestination(from, die1, die2) : -1;
+    }
+
+    private static TransitionTable standardTransitionTable() {
+        return TransitionTable.forBoard(ParadiseGame.createGameBoard(), ParadiseGame.NUMBER_DICE_FACES);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayEngine{game=" + game.getGameId() + ", move=" + moveNumber + '}';
+    }
+}
@@ -0,0 +1,203 @@
+package main.java.com.paradise.server;
+
+import main.java.com.paradise.enums.Color;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The ClientHandler class serves one client connection of the {@link GameServer}.
+ * It reads one command per line and answers each with one line:
+ *
+ * <ul>
+ *     <li>{@code NEW <COLOR> <COLOR> ...} creates a game and joins it</li>
+ *     <li>{@code JOIN <id>} joins an existing game</li>
+ *     <li>{@code CLAIM <COLOR>} takes the seat of a color in the joined game</li>
+ *     <li>{@code ROLL} rolls the dice for the player on turn</li>
+ *     <li>{@code MOVE <FIGURE>} moves a figure by the rolled dice</li>
+ *     <li>{@code STATE} describes the positions and the player on turn</li>
+ *     <li>{@code QUIT} closes the connection</li>
+ * </ul>
+ *
+ * Only the connection holding the seat on turn may roll and move; connections
+ * without a seat watch the game. The seats are released when the connection joins
+ * another game or is closed, e.g. after the idle timeout of the server.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class ClientHandler implements Runnable {
+    private static final Logger LOGGER = Logger.getLogger(ClientHandler.class.getName());
+
+    private final GameServer server;
+    private final Socket socket;
+    private GameSession session;
+    private int createdSessions;
+
+    /**
+     * Creates a handler for an accepted connection.
+     *
+     * @param server The server hosting the games.
+     * @param socket The socket of the client.
+     */
+    public ClientHandler(GameServer server, Socket socket) {
+        this.server = server;
+        this.socket = socket;
+    }
+
+    @Override
+    public void run() {
+        try (Socket client = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.trim();
+                if (command.equalsIgnoreCase("QUIT")) {
+                    out.write("BYE\n");
+                    out.flush();
+                    break;
+                }
+                out.write(handle(command));
+                out.write('\n');
+                // Only flush when the client has no further pipelined commands
+                if (!in.ready()) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (SocketTimeoutException e) {
+            // The client has been idle for too long; the socket is closed on leaving
+        } catch (IOException e) {
+            // The client has disconnected; unfinished games stay available for other connections
+        } finally {
+            leaveSession();
+            server.connectionClosed(socket);
+        }
+    }
+
+    /**
+     * Executes one command and returns the response line.
+     *
+     * @param command The command line sent by the client.
+     * @return The response line without line break.
+     */
+    String handle(String command) {
+        try {
+            return execute(command.toUpperCase(Locale.ROOT).split("\\s+"));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Command failed: " + command, e);
+            return "ERROR The command failed.";
+        }
+    }
+
+    private String execute(String[] parts) {
+        switch (parts[0]) {
+            case "NEW":
+                return newGame(parts);
+            case "JOIN":
+                return joinGame(parts);
+            case "CLAIM":
+                return claimSeat(parts);
+            case "ROLL":
+                return session == null ? "ERROR Join a game first." : session.roll(this);
+            case "MOVE":
+                if (session == null) {
+                    return "ERROR Join a game first.";
+                }
+                return parts.length == 2 ? session.move(this, parts[1]) : "ERROR Usage: MOVE <FIGURE>";
+            case "STATE":
+                return session == null ? "ERROR Join a game first." : session.state();
+            default:
+                return "ERROR Unknown command.";
+        }
+    }
+
+    private String newGame(String[] parts) {
+        if (parts.length < 3 || parts.length > Color.values().length + 1) {
+            return "ERROR Between 2 and " + Color.values().length + " colors are required.";
+        }
+        Color[] colors = new Color[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            try {
+                colors[i - 1] = Color.valueOf(parts[i]);
+            } catch (IllegalArgumentException e) {
+                return "ERROR This color does not exist: " + parts[i];
+            }
+            for (int j = 0; j < i - 1; j++) {
+                if (colors[j] == colors[i - 1]) {
+                    return "ERROR Color already chosen: " + parts[i];
+                }
+            }
+        }
+        if (createdSessions >= server.getMaxSessionsPerConnection()) {
+            return "ERROR This connection has already created " + createdSessions + " games.";
+        }
+        GameSession created;
+        try {
+            created = server.createSession(colors);
+        } catch (IllegalStateException e) {
+            return "ERROR " + e.getMessage();
+        }
+        createdSessions++;
+        leaveSession();
+        session = created;
+        return "GAME " + session.getId() + " " + session.state().substring("STATE ".length());
+    }
+
+    private String joinGame(String[] parts) {
+        if (parts.length != 2) {
+            return "ERROR Usage: JOIN <id>";
+        }
+        try {
+            GameSession joined = server.getSession(Long.parseLong(parts[1]));
+            if (joined == null) {
+                return "ERROR Game not found.";
+            }
+            if (joined != session) {
+                leaveSession();
+                session = joined;
+            }
+            return session.state();
+        } catch (NumberFormatException e) {
+            return "ERROR Usage: JOIN <id>";
+        }
+    }
+
+    private String claimSeat(String[] parts) {
+        if (parts.length != 2) {
+            return "ERROR Usage: CLAIM <COLOR>";
+        }
+        if (session == null) {
+            return "ERROR Join a game first.";
+        }
+        try {
+            return session.claim(Color.valueOf(parts[1]), this);
+        } catch (IllegalArgumentException e) {
+            return "ERROR This color does not exist: " + parts[1];
+        }
+    }
+
+    /**
+     * Releases the seats in the current game and removes the game if it is finished.
+     */
+    private void leaveSession() {
+        if (session != null) {
+            session.release(this);
+            if (session.isFinished()) {
+                server.removeSession(session.getId());
+            }
+            session = null;
+        }
+    }
+}
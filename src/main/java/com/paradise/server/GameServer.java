@@ -0,0 +1,326 @@
+package main.java.com.paradise.server;
+
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.journal.MoveJournalWriter;
+import main.java.com.paradise.metrics.EngineMetrics;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The GameServer class hosts any number of games in one process and serves them over
+ * a line-based TCP protocol (see {@link ClientHandler}). Every connection is served
+ * by its own thread. On Java 21 and later these are virtual threads, so thousands of
+ * connections cost little memory; on older runtimes a cached pool of platform
+ * threads is used.
+ *
+ * <p>A connection that sends no command within the idle timeout is closed, and the
+ * number of games is limited in total and per connection. When the total limit is
+ * reached, games that nobody has a seat in and that have been idle for longer than
+ * the idle timeout are removed to make room.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 6363;
+    public static final int DEFAULT_IDLE_TIMEOUT_MILLIS = (int) TimeUnit.MINUTES.toMillis(10);
+    public static final int DEFAULT_MAX_SESSIONS = 10_000;
+    public static final int DEFAULT_MAX_SESSIONS_PER_CONNECTION = 16;
+
+    /**
+     * The system property with the address the server started by {@link #main(String[])}
+     * listens on, e.g. {@code 0.0.0.0} for all interfaces. By default only the loopback
+     * interface is used.
+     */
+    public static final String ADDRESS_PROPERTY = "paradise.server.address";
+
+    private static final Logger LOGGER = Logger.getLogger(GameServer.class.getName());
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections;
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextSessionId = new AtomicLong(1);
+    private final Thread acceptThread;
+    private volatile MoveJournalWriter journal;
+    private volatile int idleTimeoutMillis = DEFAULT_IDLE_TIMEOUT_MILLIS;
+    private volatile int maxSessions = DEFAULT_MAX_SESSIONS;
+    private volatile int maxSessionsPerConnection = DEFAULT_MAX_SESSIONS_PER_CONNECTION;
+
+    /**
+     * Starts a server on the given port of the loopback interface.
+     *
+     * @param port The port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be opened.
+     */
+    public GameServer(int port) throws IOException {
+        this(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+    }
+
+    /**
+     * Starts a server on the given address.
+     *
+     * @param address The address to listen on.
+     * @throws IOException If the address cannot be bound.
+     */
+    public GameServer(InetSocketAddress address) throws IOException {
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.bind(address, 1024);
+        this.connections = createConnectionExecutor();
+        this.acceptThread = new Thread(this::acceptConnections, "paradise-server-accept");
+        this.acceptThread.start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        String address = System.getProperty(ADDRESS_PROPERTY);
+        GameServer server = new GameServer(address == null
+                ? new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+                : new InetSocketAddress(address, port));
+        if (args.length > 1) {
+            server.setMoveJournal(MoveJournalWriter.open(Paths.get(args[1]), true, 100));
+        }
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.register();
+        }
+        LOGGER.info("Paradise Game server listening on " + server.serverSocket.getLocalSocketAddress());
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    /**
+     * Sets the time after which a connection without commands is closed. It applies
+     * to connections accepted from now on.
+     *
+     * @param idleTimeoutMillis The timeout in milliseconds, or 0 for none.
+     */
+    public void setIdleTimeoutMillis(int idleTimeoutMillis) {
+        if (idleTimeoutMillis < 0) {
+            throw new IllegalArgumentException("The idle timeout must not be negative.");
+        }
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * Sets the maximum number of games hosted at the same time.
+     *
+     * @param maxSessions The maximum number of games.
+     */
+    public void setMaxSessions(int maxSessions) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("At least one game must be allowed.");
+        }
+        this.maxSessions = maxSessions;
+    }
+
+    public int getMaxSessionsPerConnection() {
+        return maxSessionsPerConnection;
+    }
+
+    /**
+     * Sets the maximum number of games one connection may create.
+     *
+     * @param maxSessionsPerConnection The maximum number of games per connection.
+     */
+    public void setMaxSessionsPerConnection(int maxSessionsPerConnection) {
+        if (maxSessionsPerConnection < 1) {
+            throw new IllegalArgumentException("At least one game per connection must be allowed.");
+        }
+        this.maxSessionsPerConnection = maxSessionsPerConnection;
+    }
+
+    /**
+     * Records the moves of all games created from now on in the given journal, each
+     * under the id of its session. The server does not close the journal.
+     *
+     * @param journal The journal, or null to stop recording.
+     */
+    public void setMoveJournal(MoveJournalWriter journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Creates and registers a new game.
+     *
+     * @param colors The colors of the players in seating order.
+     * @return The session of the new game.
+     * @throws IllegalStateException If the maximum number of games is reached.
+     */
+    public GameSession createSession(Color... colors) {
+        if (!reserveSession()) {
+            evictIdleSessions();
+            if (!reserveSession()) {
+                throw new IllegalStateException("The server already hosts " + maxSessions + " games.");
+            }
+        }
+        GameSession session;
+        try {
+            session = new GameSession(nextSessionId.getAndIncrement(), journal, colors);
+        } catch (RuntimeException e) {
+            sessionCount.decrementAndGet();
+            throw e;
+        }
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Returns the game with the given id.
+     *
+     * @param id The id of the game.
+     * @return The session, or null if no such game exists.
+     */
+    public GameSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Removes a game, e.g. after it has finished.
+     *
+     * @param id The id of the game.
+     */
+    public void removeSession(long id) {
+        if (sessions.remove(id) != null) {
+            sessionCount.decrementAndGet();
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones.
+     *
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket client : clients) {
+            closeQuietly(client);
+        }
+        connections.shutdownNow();
+        try {
+            acceptThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Forgets a connection whose handler has finished.
+     *
+     * @param socket The socket of the connection.
+     */
+    void connectionClosed(Socket socket) {
+        clients.remove(socket);
+    }
+
+    private boolean reserveSession() {
+        while (true) {
+            int count = sessionCount.get();
+            if (count >= maxSessions) {
+                return false;
+            }
+            if (sessionCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void evictIdleSessions() {
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        long now = System.nanoTime();
+        for (GameSession session : sessions.values()) {
+            if (session.isAbandoned(now, idleNanos)) {
+                removeSession(session.getId());
+            }
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                // The server socket has been closed
+                continue;
+            }
+            clients.add(socket);
+            try {
+                socket.setTcpNoDelay(true);
+                socket.setSoTimeout(idleTimeoutMillis);
+                if (serverSocket.isClosed()) {
+                    // close() may have missed the socket
+                    throw new IOException("The server is closed.");
+                }
+                connections.execute(new ClientHandler(this, socket));
+            } catch (IOException | RuntimeException e) {
+                if (!serverSocket.isClosed()) {
+                    LOGGER.log(Level.WARNING, "Cannot serve a connection", e);
+                }
+                clients.remove(socket);
+                closeQuietly(socket);
+            }
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // The connection is gone anyway
+        }
+    }
+
+    /**
+     * Creates an executor with one virtual thread per task if the runtime supports
+     * virtual threads, otherwise a cached pool of daemon platform threads.
+     */
+    private static ExecutorService createConnectionExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "paradise-server-connection");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GameServer{port=" + getPort() + ", sessions=" + sessions.size() + '}';
+    }
+}
@@ -0,0 +1,216 @@
+package main.java.com.paradise.server;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.journal.MoveJournalWriter;
+import main.java.com.paradise.metrics.EngineMetrics;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.snapshot.GameSnapshot;
+
+/**
+ * The GameSession class is one game hosted by the {@link GameServer}. It owns the
+ * dice, so clients cannot choose their rolls, and enforces the turn sequence of the
+ * interactive game: roll, move a figure, next player. Every seat is held by the
+ * player that claimed it, e.g. a client connection, and only the holder of the seat
+ * on turn may roll and move. The methods that change the game are synchronized
+ * because several connections may play at the same table.
+ * Spectators only read the snapshot the game publishes after every change, so
+ * {@link #state()} never waits for a move and never sees a half-applied one.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class GameSession {
+    private final long id;
+    private final ParadiseGame game;
+    private final Color[] colors;
+    private final int paradisePosition;
+    private final Dice numberDice = new Dice(ParadiseGame.NUMBER_DICE_FACES);
+    private final Object[] seatHolders;
+    private int[] pendingRoll;
+    private long rollNanos;
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    /**
+     * Creates a new session and determines the first player with the color die.
+     *
+     * @param id     The id of the session.
+     * @param colors The colors of the players in seating order.
+     */
+    public GameSession(long id, Color... colors) {
+        this(id, null, colors);
+    }
+
+    /**
+     * Creates a new session whose moves are recorded in a journal under the id of the
+     * session.
+     *
+     * @param id      The id of the session.
+     * @param journal The journal, or null if the moves are not recorded.
+     * @param colors  The colors of the players in seating order.
+     */
+    public GameSession(long id, MoveJournalWriter journal, Color... colors) {
+        this.id = id;
+        ParadiseGame paradiseGame = new ParadiseGame(colors);
+        paradiseGame.setRenderer(SilentRenderer.INSTANCE);
+        paradiseGame.setSnapshotPublishing(true);
+        if (journal != null) {
+            paradiseGame.setMoveListener(journal.listenerFor(id));
+        }
+        this.game = paradiseGame;
+        this.colors = game.getAllPlayers();
+        this.paradisePosition = game.getProgress().getParadisePosition();
+        this.seatHolders = new Object[this.colors.length];
+        int firstSeat = new Dice(this.colors.length).roll() - 1;
+        game.setColorOnTurn(this.colors[firstSeat]);
+        if (journal != null) {
+            journal.appendGameStart(id, this.colors, firstSeat);
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Claims the seat of a color for a player. A player may hold several seats.
+     *
+     * @param color  The color of the seat.
+     * @param holder The player, e.g. the handler of a client connection.
+     * @return The response line for the client.
+     */
+    public synchronized String claim(Color color, Object holder) {
+        for (int seat = 0; seat < colors.length; seat++) {
+            if (colors[seat] == color) {
+                if (seatHolders[seat] != null && seatHolders[seat] != holder) {
+                    return "ERROR Seat already taken: " + color;
+                }
+                seatHolders[seat] = holder;
+                lastActivityNanos = System.nanoTime();
+                return "SEATED " + color;
+            }
+        }
+        return "ERROR This color does not play in game " + id + ": " + color;
+    }
+
+    /**
+     * Releases all seats of a player, e.g. when its connection is closed, so other
+     * players can claim them.
+     *
+     * @param holder The player.
+     */
+    public synchronized void release(Object holder) {
+        for (int seat = 0; seat < seatHolders.length; seat++) {
+            if (seatHolders[seat] == holder) {
+                seatHolders[seat] = null;
+            }
+        }
+    }
+
+    /**
+     * Rolls the two dice for the player on turn.
+     *
+     * @param holder The player requesting the roll; it must hold the seat on turn.
+     * @return The response line for the client.
+     */
+    public synchronized String roll(Object holder) {
+        if (game.getWinner() != null) {
+            return "ERROR The game is over.";
+        }
+        if (!holdsSeatOnTurn(holder)) {
+            return "ERROR It is not your turn.";
+        }
+        if (pendingRoll == null) {
+            pendingRoll = new int[]{numberDice.roll(), numberDice.roll()};
+            rollNanos = System.nanoTime();
+            lastActivityNanos = rollNanos;
+        }
+        return "ROLLED " + game.getColorOnTurn() + " " + pendingRoll[0] + " " + pendingRoll[1];
+    }
+
+    /**
+     * Moves a figure of the player on turn by the pending roll and passes the turn to
+     * the next player. An invalid figure is rejected and the roll stays pending.
+     *
+     * @param holder     The player requesting the move; it must hold the seat on turn.
+     * @param figureName The name of the figure (e.g., "BLUE-A").
+     * @return The response line for the client.
+     */
+    public synchronized String move(Object holder, String figureName) {
+        if (game.getWinner() != null) {
+            return "ERROR The game is over.";
+        }
+        if (!holdsSeatOnTurn(holder)) {
+            return "ERROR It is not your turn.";
+        }
+        if (pendingRoll == null) {
+            return "ERROR Roll the dice first.";
+        }
+        if (!game.moveCharacter(figureName, pendingRoll[0], pendingRoll[1])) {
+            return "ERROR Figure not found or couldn't be moved.";
+        }
+        pendingRoll = null;
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.get().recordTurn(System.nanoTime() - rollNanos);
+        }
+
+        String moved = "MOVED " + figureName + " " + game.getCharacterPosition(figureName);
+        Color winner = game.getWinner();
+        if (winner != null) {
+            return moved + " WINNER " + winner;
+        }
+        return moved + " TURN " + game.nextTurn();
+    }
+
+    /**
+     * Describes the state of the game in one line. The description is taken from the
+     * last published snapshot without locking, so it may show a moved figure shortly
+     * before the turn has passed to the next player.
+     *
+     * @return The response line for the client.
+     */
+    public String state() {
+        GameSnapshot snapshot = game.getPublishedSnapshot();
+        StringBuilder result = new StringBuilder("STATE ").append(id);
+        for (int figureId = 0; figureId < snapshot.getFigureCount(); figureId++) {
+            result.append(' ').append(snapshot.getFigureName(figureId)).append(':').append(snapshot.getPosition(figureId));
+        }
+        int winner = snapshot.getWinner(paradisePosition);
+        if (winner >= 0) {
+            result.append(" WINNER ").append(colors[winner]);
+        } else {
+            result.append(" TURN ").append(colors[snapshot.getPlayerOnTurn()]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Tells whether nobody holds a seat and nothing has happened for the given time.
+     *
+     * @param now       The current {@link System#nanoTime()}.
+     * @param idleNanos The time without activity.
+     * @return true if the game may be removed.
+     */
+    public synchronized boolean isAbandoned(long now, long idleNanos) {
+        for (Object holder : seatHolders) {
+            if (holder != null) {
+                return false;
+            }
+        }
+        return now - lastActivityNanos > idleNanos;
+    }
+
+    private boolean holdsSeatOnTurn(Object holder) {
+        return holder != null && seatHolders[game.getPlayerIndexOnTurn()] == holder;
+    }
+
+    public boolean isFinished() {
+        return game.getPublishedSnapshot().getWinner(paradisePosition) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GameSession{id=" + id + '}';
+    }
+}
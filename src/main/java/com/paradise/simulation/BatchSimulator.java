@@ -0,0 +1,236 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.LabyrinthField;
+import main.java.com.paradise.fields.TransitionTable;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The BatchSimulator plays large numbers of games without creating any game objects.
+ * A game is reduced to one primitive array of figure positions, and every turn is
+ * a single lookup in the {@link TransitionTable} of the board, which also tells
+ * whether the player has to skip turns. The games are split into batches that are
+ * played by the tasks of a fork/join pool, and the statistics of the batches are
+ * merged at the end.
+ *
+ * <p>Game i draws its rolls from its own SplitMix64 stream seeded with
+ * {@code Dice.deriveSeed(masterSeed, i)}, and one draw yields both dice of a turn.
+ * The games are therefore reproducible and follow the same distribution as those of
+ * the {@link MonteCarloSimulator}, but do not replay its individual games.</p>
+ *
+ * <p>On a single worker the simulator plays roughly 5 to 8 times as many games per
+ * second as the {@link MonteCarloSimulator}, depending on the number of players;
+ * this is short of the tenfold speedup it was built for. The strategies are still
+ * asked for every choice between two figures, which bounds the gain. The figures
+ * can be reproduced with the {@code SimulatorBenchmark} of the benchmarks
+ * profile.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class BatchSimulator {
+    private static final int GAMES_PER_TASK = 20_000;
+    private static final int OUTCOMES_PER_ROLL = ParadiseGame.NUMBER_DICE_FACES * ParadiseGame.NUMBER_DICE_FACES;
+    private static final long OUTCOME_REJECTION_THRESHOLD = (1L << 32) % OUTCOMES_PER_ROLL;
+
+    private final Color[] colors;
+    private final FigureSelectionStrategy[] strategies;
+    private final ForkJoinPool pool;
+    private final TransitionTable transitionTable;
+    private final int paradisePosition;
+
+    /**
+     * Creates a simulator for the standard board that uses the common fork/join pool.
+     *
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public BatchSimulator(Color[] colors, FigureSelectionStrategy... strategies) {
+        this(BoardDefinition.standard().getGameBoard(), ForkJoinPool.commonPool(), colors, strategies);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param board      The game board.
+     * @param pool       The pool executing the simulation tasks.
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public BatchSimulator(GameBoard board, ForkJoinPool pool, Color[] colors, FigureSelectionStrategy... strategies) {
+        if (colors.length < 2 || colors.length > Color.values().length) {
+            throw new IllegalArgumentException("Between 2 and " + Color.values().length + " players are required.");
+        }
+        if (colors.length != strategies.length) {
+            throw new IllegalArgumentException("Exactly one strategy per player is required.");
+        }
+        if (board.getParadiseField() == null) {
+            throw new IllegalArgumentException("The game board has no paradise field.");
+        }
+        this.colors = colors.clone();
+        this.strategies = strategies.clone();
+        this.pool = pool;
+        this.transitionTable = TransitionTable.forBoard(board, ParadiseGame.NUMBER_DICE_FACES);
+        this.paradisePosition = board.getParadiseField().getPositionNumber();
+    }
+
+    /**
+     * Plays the given number of games with a random master seed.
+     *
+     * @param numberOfGames The number of games to be simulated.
+     * @return The statistics of all simulated games.
+     */
+    public SimulationStatistics simulate(long numberOfGames) {
+        return simulate(numberOfGames, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Plays the given number of games. The rolls of game i are determined by
+     * {@code Dice.deriveSeed(masterSeed, i)}.
+     *
+     * @param numberOfGames The number of games to be simulated.
+     * @param masterSeed    The seed from which the seed of every game is derived.
+     * @return The statistics of all simulated games.
+     */
+    public SimulationStatistics simulate(long numberOfGames, long masterSeed) {
+        return pool.invoke(new BatchTask(0, numberOfGames, masterSeed));
+    }
+
+    /**
+     * Plays the games with the given indices in the calling thread, e.g. for callers
+     * that distribute the batches themselves.
+     *
+     * @param from       The index of the first game (inclusive).
+     * @param to         The index after the last game (exclusive).
+     * @param masterSeed The seed from which the seed of every game is derived.
+     * @return The statistics of the played games.
+     */
+    SimulationStatistics simulateRange(long from, long to, long masterSeed) {
+        return playGames(from, to, masterSeed, null);
+    }
+
+    /**
+     * Plays the games with the given indices in the calling thread like
+     * {@link #simulateRange(long, long, long)} and also stores the winner of every
+     * game, e.g. for callers that compare games played with the same dice.
+     *
+     * @param from       The index of the first game (inclusive).
+     * @param to         The index after the last game (exclusive).
+     * @param masterSeed The seed from which the seed of every game is derived.
+     * @param winners    The array receiving the seat index of the winner of game
+     *                   {@code from + i} at index i.
+     * @return The statistics of the played games.
+     */
+    SimulationStatistics simulateRange(long from, long to, long masterSeed, byte[] winners) {
+        return playGames(from, to, masterSeed, winners);
+    }
+
+    /**
+     * Plays the games with the indices from {@code from} (inclusive) to {@code to}
+     * (exclusive). The state of the running game lives in local variables and one
+     * primitive position array, so a turn is one draw, at most one strategy call and
+     * one table lookup. If an array of winners is given, the winner of every game is
+     * stored in it as well.
+     */
+    private SimulationStatistics playGames(long from, long to, long masterSeed, byte[] winners) {
+        SimulationStatistics statistics = new SimulationStatistics(colors);
+        int playerCount = colors.length;
+        int[] positions = new int[playerCount * Player.NUMBER_OF_FIGURES];
+        // The pending skipped turns of every player, like in the TurnScheduler
+        int[] skips = new int[playerCount];
+        long playerLimit = Long.MAX_VALUE - Long.MAX_VALUE % playerCount;
+
+        for (long game = from; game < to; game++) {
+            long seed = Dice.deriveSeed(masterSeed, game);
+            long draws = 0;
+            Arrays.fill(positions, 0);
+            Arrays.fill(skips, 0);
+
+            // The first player is drawn uniformly, like with the color die
+            long draw = Dice.deriveSeed(seed, draws++) >>> 1;
+            while (draw >= playerLimit) {
+                draw = Dice.deriveSeed(seed, draws++) >>> 1;
+            }
+            int player = (int) (draw % playerCount);
+            int turns = 0;
+
+            while (true) {
+                // 32 random bits are mapped to one of the outcomes of both dice
+                // without bias (Lemire's method)
+                long product = (Dice.deriveSeed(seed, draws++) >>> 32) * OUTCOMES_PER_ROLL;
+                while ((product & 0xFFFF_FFFFL) < OUTCOME_REJECTION_THRESHOLD) {
+                    product = (Dice.deriveSeed(seed, draws++) >>> 32) * OUTCOMES_PER_ROLL;
+                }
+                int outcome = (int) (product >>> 32);
+                turns++;
+
+                int first = player * Player.NUMBER_OF_FIGURES;
+                int index = first;
+                if (positions[first] == paradisePosition) {
+                    index = first + 1;
+                } else if (positions[first + 1] != paradisePosition) {
+                    // Only a choice between two movable figures is left to the strategy
+                    index += strategies[player].selectFigure(seed, turns, positions, player,
+                            outcome / ParadiseGame.NUMBER_DICE_FACES + 1, outcome % ParadiseGame.NUMBER_DICE_FACES + 1);
+                }
+                int position = positions[index];
+                positions[index] = transitionTable.getDestinationByOutcome(position, outcome);
+                if (transitionTable.skipsTurnByOutcome(position, outcome)) {
+                    skips[player] += LabyrinthField.SKIPPED_TURNS;
+                }
+
+                if (positions[first] == paradisePosition && positions[first + 1] == paradisePosition) {
+                    statistics.record(player, turns);
+                    if (winners != null) {
+                        winners[(int) (game - from)] = (byte) player;
+                    }
+                    break;
+                }
+                player = (player + 1 == playerCount) ? 0 : player + 1;
+                while (skips[player] > 0) {
+                    skips[player]--;
+                    player = (player + 1 == playerCount) ? 0 : player + 1;
+                }
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     * Splits the range of games until it is small enough for one batch.
+     */
+    private class BatchTask extends RecursiveTask<SimulationStatistics> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final long masterSeed;
+
+        BatchTask(long from, long to, long masterSeed) {
+            this.from = from;
+            this.to = to;
+            this.masterSeed = masterSeed;
+        }
+
+        @Override
+        protected SimulationStatistics compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playGames(from, to, masterSeed, null);
+            }
+            long middle = (from + to) >>> 1;
+            BatchTask left = new BatchTask(from, middle, masterSeed);
+            left.fork();
+            SimulationStatistics right = new BatchTask(middle, to, masterSeed).compute();
+            return right.merge(left.join());
+        }
+    }
+}
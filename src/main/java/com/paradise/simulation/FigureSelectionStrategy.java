@@ -0,0 +1,63 @@
+package main.java.com.paradise.simulation;
+
+/**
+ * The FigureSelectionStrategy interface decides which of its two figures a player
+ * moves after rolling the dice. Strategies are used by the headless simulation and
+ * must be stateless or thread-safe, because one instance is shared by all worker
+ * threads.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+@FunctionalInterface
+public interface FigureSelectionStrategy {
+
+    /**
+     * Selects the figure to move. The strategy is only asked when both figures of the
+     * player can still be moved, i.e. none of them is in paradise.
+     *
+     * @param positions   The field numbers of all figures, two consecutive entries per
+     *                    player in seating order (figure A first, then figure B).
+     * @param playerIndex The seat index of the player on turn.
+     * @param die1        The value of the first die.
+     * @param die2        The value of the second die.
+     * @return 0 to move figure A, 1 to move figure B.
+     */
+    int selectFigure(int[] positions, int playerIndex, int die1, int die2);
+
+    /**
+     * Selects the figure to move in one turn of one game. The engines call this
+     * method, so strategies that choose randomly can draw from a stream of their own
+     * per game: their choices then differ between games, but every game can still be
+     * replayed from its seed. By default the game and the turn are ignored.
+     *
+     * @param gameSeed    The seed of the game, which differs between the games of a
+     *                    simulation.
+     * @param turn        The number of the turn within the game, starting with 1.
+     * @param positions   The field numbers of all figures, as in
+     *                    {@link #selectFigure(int[], int, int, int)}.
+     * @param playerIndex The seat index of the player on turn.
+     * @param die1        The value of the first die.
+     * @param die2        The value of the second die.
+     * @return 0 to move figure A, 1 to move figure B.
+     */
+    default int selectFigure(long gameSeed, int turn, int[] positions, int playerIndex, int die1, int die2) {
+        return selectFigure(positions, playerIndex, die1, die2);
+    }
+
+    /**
+     * Returns whether the strategy only looks at the two figures of the player on
+     * turn, i.e. at {@code positions[2 * playerIndex]} and
+     * {@code positions[2 * playerIndex + 1]}, and
+     * {@link #selectFigure(int[], int, int, int)} always makes the same choice for the
+     * same figures and dice, e.g. independently of the time it may take. Only such
+     * strategies can be analyzed per player, e.g. by the {@link main.java.com.paradise.analysis.MarkovChainAnalyzer},
+     * which passes the positions of one player only. By default a strategy is assumed
+     * to look at all figures.
+     *
+     * @return true if the choice depends only on the figures of the player on turn.
+     */
+    default boolean usesOnlyOwnFigures() {
+        return false;
+    }
+}
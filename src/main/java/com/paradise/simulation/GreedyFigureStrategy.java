@@ -0,0 +1,55 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.TransitionTable;
+
+/**
+ * The GreedyFigureStrategy moves the figure that gets furthest ahead with the current
+ * roll. The destinations are looked up in the {@link TransitionTable} of the board,
+ * so the strategy takes the jumps of luck, bridge and ascension fields and the
+ * bounce back from paradise into account and prefers moves that end on such a
+ * field. On a tie figure A is moved.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class GreedyFigureStrategy implements FigureSelectionStrategy {
+    private final TransitionTable transitionTable;
+
+    /**
+     * Creates a greedy strategy for the standard game board.
+     */
+    public GreedyFigureStrategy() {
+        this(ParadiseGame.createGameBoard());
+    }
+
+    /**
+     * Creates a greedy strategy for the given game board.
+     *
+     * @param board The game board.
+     */
+    public GreedyFigureStrategy(GameBoard board) {
+        this.transitionTable = TransitionTable.forBoard(board, ParadiseGame.NUMBER_DICE_FACES);
+    }
+
+    @Override
+    public int selectFigure(int[] positions, int playerIndex, int die1, int die2) {
+        int first = playerIndex * 2;
+        int a = positions[first];
+        int b = positions[first + 1];
+        int gainA = transitionTable.getDestination(a, die1, die2) - a;
+        int gainB = transitionTable.getDestination(b, die1, die2) - b;
+        return gainB > gainA ? 1 : 0;
+    }
+
+    @Override
+    public boolean usesOnlyOwnFigures() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "GreedyFigureStrategy";
+    }
+}
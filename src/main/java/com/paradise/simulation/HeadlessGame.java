@@ -0,0 +1,169 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.ParadiseField;
+import main.java.com.paradise.interfaces.IMoveListener;
+import main.java.com.paradise.journal.MoveJournalWriter;
+import main.java.com.paradise.render.SilentRenderer;
+
+import java.util.SplittableRandom;
+
+/**
+ * The HeadlessGame class plays one complete game of Paradise without any console
+ * input or output. The figures are moved through a regular {@link ParadiseGame}, so
+ * the rules of the field classes apply exactly as in the interactive game, and the
+ * figures are chosen by a {@link FigureSelectionStrategy} per player.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class HeadlessGame {
+    private final Color[] colors;
+    private final FigureSelectionStrategy[] strategies;
+    private final String[] figureNames;
+    private final Figure[] figures;
+    private final int[] positions;
+    private int turnCount;
+    private MoveJournalWriter journal;
+    private IMoveListener moveListener;
+
+    /**
+     * Creates a new headless game for the given players.
+     *
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public HeadlessGame(Color[] colors, FigureSelectionStrategy[] strategies) {
+        if (colors.length != strategies.length) {
+            throw new IllegalArgumentException("Exactly one strategy per player is required.");
+        }
+        this.colors = colors;
+        this.strategies = strategies;
+        this.figureNames = new String[colors.length * 2];
+        this.figures = new Figure[colors.length * 2];
+        this.positions = new int[colors.length * 2];
+        for (int i = 0; i < colors.length; i++) {
+            figureNames[2 * i] = Player.getFigureName(colors[i], 0);
+            figureNames[2 * i + 1] = Player.getFigureName(colors[i], 1);
+        }
+    }
+
+    /**
+     * Records the moves of all following games in the given journal. Games played
+     * with a seed are recorded under that seed, so they can be replayed from the
+     * journal.
+     *
+     * @param journal The journal, or null to stop recording.
+     */
+    public void setMoveJournal(MoveJournalWriter journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Informs the given listener about every move of the following games, e.g. to
+     * collect a {@link main.java.com.paradise.analysis.FieldHeatmap}. It is called in
+     * addition to the move journal.
+     *
+     * @param moveListener The listener, or null to remove the current one.
+     */
+    public void setMoveListener(IMoveListener moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    /**
+     * Plays a complete game whose rolls are fully determined by the given seed. Playing
+     * again with the same seed and deterministic strategies replays the game exactly.
+     *
+     * @param seed The seed of the game, e.g. from {@link Dice#deriveSeed(long, long)}.
+     * @return The seat index of the winning player.
+     */
+    public int play(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return play(seed, new Dice(ParadiseGame.NUMBER_DICE_FACES, random), new Dice(colors.length, random));
+    }
+
+    /**
+     * Plays a complete game from the start field until a winner is determined and
+     * records its moves under the given id if a journal is set. The id also seeds the
+     * choices of random strategies, so every game needs an id of its own.
+     *
+     * @param gameId     The id of the game in the move journal and for the strategies.
+     * @param numberDice The die used for the two movement rolls.
+     * @param colorDice  The die used to determine the first player; it must have one
+     *                   face per player.
+     * @return The seat index of the winning player.
+     */
+    public int play(long gameId, Dice numberDice, Dice colorDice) {
+        ParadiseGame game = new ParadiseGame(colors);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        IMoveListener journalListener = (journal != null) ? journal.listenerFor(gameId) : null;
+        if (journalListener != null && moveListener != null) {
+            IMoveListener listener = moveListener;
+            game.setMoveListener(new IMoveListener() {
+                @Override
+                public void beforeMove(Color color, int figureId) {
+                    journalListener.beforeMove(color, figureId);
+                    listener.beforeMove(color, figureId);
+                }
+
+                @Override
+                public void onMove(Color color, int figureId, int die1, int die2, int from, int to) {
+                    journalListener.onMove(color, figureId, die1, die2, from, to);
+                    listener.onMove(color, figureId, die1, die2, from, to);
+                }
+            });
+        } else {
+            game.setMoveListener(journalListener != null ? journalListener : moveListener);
+        }
+        int playerIndex = colorDice.roll() - 1;
+        game.setColorOnTurn(colors[playerIndex]);
+        if (journal != null) {
+            journal.appendGameStart(gameId, colors, playerIndex);
+        }
+        turnCount = 0;
+        for (int i = 0; i < figureNames.length; i++) {
+            figures[i] = game.getFigure(figureNames[i]);
+        }
+
+        while (true) {
+            int roll1 = numberDice.roll();
+            int roll2 = numberDice.roll();
+            turnCount++;
+
+            Figure figureA = figures[2 * playerIndex];
+            Figure figureB = figures[2 * playerIndex + 1];
+            Figure selected = figureA;
+            if (figureA.getPosition() instanceof ParadiseField) {
+                selected = figureB;
+            } else if (!(figureB.getPosition() instanceof ParadiseField)) {
+                // Only a choice between two movable figures is left to the strategy
+                for (int i = 0; i < figures.length; i++) {
+                    positions[i] = figures[i].getPosition().getPositionNumber();
+                }
+                selected = figures[2 * playerIndex
+                        + strategies[playerIndex].selectFigure(gameId, turnCount, positions, playerIndex, roll1, roll2)];
+            }
+            game.moveFigure(selected, roll1, roll2);
+
+            if (game.getWinner() != null) {
+                return playerIndex;
+            }
+
+            game.nextTurn();
+            playerIndex = game.getPlayerIndexOnTurn();
+        }
+    }
+
+    /**
+     * Returns the number of turns played in the last game.
+     *
+     * @return The number of turns of the last game.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+}
@@ -0,0 +1,27 @@
+package main.java.com.paradise.simulation;
+
+/**
+ * The LeadingFigureStrategy always moves the figure that is further ahead on the
+ * game board. On a tie figure A is moved.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class LeadingFigureStrategy implements FigureSelectionStrategy {
+
+    @Override
+    public int selectFigure(int[] positions, int playerIndex, int die1, int die2) {
+        int first = playerIndex * 2;
+        return positions[first + 1] > positions[first] ? 1 : 0;
+    }
+
+    @Override
+    public boolean usesOnlyOwnFigures() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "LeadingFigureStrategy";
+    }
+}
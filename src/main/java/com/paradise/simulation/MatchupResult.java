@@ -0,0 +1,165 @@
+package main.java.com.paradise.simulation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MatchupResult class aggregates the games of two strategies for one number of
+ * players. Unlike {@link SimulationStatistics}, a result is thread-safe: all batches
+ * of a matchup add their games to the same instance concurrently, and results of the
+ * same matchup from different runs can be combined with
+ * {@link #merge(MatchupResult)}. Besides the single games, a result counts the pairs
+ * of games played with the same dice and swapped seats that one strategy has won
+ * twice, which are the trials of the sequential test.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class MatchupResult {
+    /**
+     * The outcome of the sequential test of a matchup.
+     */
+    public enum Verdict {
+        FIRST_STRONGER,
+        SECOND_STRONGER,
+        EVEN,
+        UNDECIDED
+    }
+
+    private final String firstStrategy;
+    private final String secondStrategy;
+    private final int playerCount;
+    private final LongAdder games = new LongAdder();
+    private final LongAdder firstWins = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder firstPairWins = new LongAdder();
+    private final LongAdder secondPairWins = new LongAdder();
+    private volatile Verdict verdict = Verdict.UNDECIDED;
+
+    /**
+     * Creates an empty result.
+     *
+     * @param firstStrategy  The name of the first strategy.
+     * @param secondStrategy The name of the second strategy.
+     * @param playerCount    The number of players in every game.
+     */
+    public MatchupResult(String firstStrategy, String secondStrategy, int playerCount) {
+        this.firstStrategy = firstStrategy;
+        this.secondStrategy = secondStrategy;
+        this.playerCount = playerCount;
+    }
+
+    /**
+     * Adds finished games to the result.
+     *
+     * @param games     The number of games.
+     * @param firstWins The number of these games won by a player of the first strategy.
+     * @param turns     The total number of turns of these games.
+     */
+    public void record(long games, long firstWins, long turns) {
+        record(games, firstWins, turns, 0, 0);
+    }
+
+    /**
+     * Adds finished games, played in pairs with the same dice and swapped seats, to
+     * the result.
+     *
+     * @param games          The number of games.
+     * @param firstWins      The number of these games won by a player of the first
+     *                       strategy.
+     * @param turns          The total number of turns of these games.
+     * @param firstPairWins  The number of pairs whose games were both won by the
+     *                       first strategy.
+     * @param secondPairWins The number of pairs whose games were both won by the
+     *                       second strategy.
+     */
+    public void record(long games, long firstWins, long turns, long firstPairWins, long secondPairWins) {
+        this.games.add(games);
+        this.firstWins.add(firstWins);
+        this.turns.add(turns);
+        this.firstPairWins.add(firstPairWins);
+        this.secondPairWins.add(secondPairWins);
+    }
+
+    /**
+     * Adds the games of another result of the same matchup to this one. The verdict
+     * is not merged, because it only holds for the games it was based on.
+     *
+     * @param other The result to be merged into this one.
+     * @return This result.
+     */
+    public MatchupResult merge(MatchupResult other) {
+        if (!firstStrategy.equals(other.firstStrategy) || !secondStrategy.equals(other.secondStrategy)
+                || playerCount != other.playerCount) {
+            throw new IllegalArgumentException("Results of different matchups cannot be merged.");
+        }
+        record(other.getGames(), other.getFirstWins(), other.getTotalTurns(), other.getFirstPairWins(),
+                other.getSecondPairWins());
+        return this;
+    }
+
+    public String getFirstStrategy() {
+        return firstStrategy;
+    }
+
+    public String getSecondStrategy() {
+        return secondStrategy;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getFirstWins() {
+        return firstWins.sum();
+    }
+
+    public long getSecondWins() {
+        return getGames() - getFirstWins();
+    }
+
+    public long getTotalTurns() {
+        return turns.sum();
+    }
+
+    public long getFirstPairWins() {
+        return firstPairWins.sum();
+    }
+
+    public long getSecondPairWins() {
+        return secondPairWins.sum();
+    }
+
+    /**
+     * Returns the share of games won by a player of the first strategy.
+     *
+     * @return The win rate between 0 and 1, or 0 if no game was recorded.
+     */
+    public double getFirstWinRate() {
+        long played = getGames();
+        return played == 0 ? 0 : (double) getFirstWins() / played;
+    }
+
+    public double getAverageTurns() {
+        long played = getGames();
+        return played == 0 ? 0 : (double) getTotalTurns() / played;
+    }
+
+    public Verdict getVerdict() {
+        return verdict;
+    }
+
+    void setVerdict(Verdict verdict) {
+        this.verdict = verdict;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d players: %s vs %s: %.2f%% of %d games (avg %.2f turns), %s",
+                playerCount, firstStrategy, secondStrategy, 100 * getFirstWinRate(), getGames(),
+                getAverageTurns(), verdict);
+    }
+}
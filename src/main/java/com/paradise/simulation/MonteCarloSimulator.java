@@ -0,0 +1,187 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.analysis.FieldHeatmap;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.journal.MoveJournalWriter;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The MonteCarloSimulator plays a large number of headless games and aggregates
+ * their results. The games are split into chunks that are distributed over all
+ * processor cores with a fork/join pool.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class MonteCarloSimulator {
+    private static final int GAMES_PER_TASK = 2_000;
+
+    private final Color[] colors;
+    private final FigureSelectionStrategy[] strategies;
+    private final ForkJoinPool pool;
+    private MoveJournalWriter journal;
+
+    /**
+     * Creates a simulator that uses the common fork/join pool.
+     *
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public MonteCarloSimulator(Color[] colors, FigureSelectionStrategy... strategies) {
+        this(ForkJoinPool.commonPool(), colors, strategies);
+    }
+
+    /**
+     * Creates a simulator that runs its games in the given pool.
+     *
+     * @param pool       The pool executing the simulation tasks.
+     * @param colors     The colors of the players in seating order.
+     * @param strategies The strategy of each player, one per color.
+     */
+    public MonteCarloSimulator(ForkJoinPool pool, Color[] colors, FigureSelectionStrategy... strategies) {
+        if (colors.length < 2 || colors.length > Color.values().length) {
+            throw new IllegalArgumentException("Between 2 and " + Color.values().length + " players are required.");
+        }
+        if (colors.length != strategies.length) {
+            throw new IllegalArgumentException("Exactly one strategy per player is required.");
+        }
+        this.pool = pool;
+        this.colors = colors.clone();
+        this.strategies = strategies.clone();
+    }
+
+    /**
+     * Records the moves of all following simulations in the given journal. Every
+     * game is recorded under its seed, so single games can be replayed from it.
+     *
+     * @param journal The journal, or null to stop recording.
+     */
+    public void setMoveJournal(MoveJournalWriter journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Plays the given number of games with a random master seed and returns the
+     * aggregated results.
+     *
+     * @param numberOfGames The number of games to be simulated.
+     * @return The statistics of all simulated games.
+     */
+    public SimulationStatistics simulate(long numberOfGames) {
+        return simulate(numberOfGames, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Plays the given number of games and returns the aggregated results. The rolls
+     * of game i are determined by {@code Dice.deriveSeed(masterSeed, i)}, so the whole
+     * simulation, and any single game of it, can be reproduced independently of the
+     * number of threads.
+     *
+     * @param numberOfGames The number of games to be simulated.
+     * @param masterSeed    The seed from which the seed of every game is derived.
+     * @return The statistics of all simulated games.
+     */
+    public SimulationStatistics simulate(long numberOfGames, long masterSeed) {
+        return pool.invoke(new SimulationTask(0, numberOfGames, masterSeed));
+    }
+
+    /**
+     * Plays the given number of games like {@link #simulate(long, long)} and counts
+     * how often each field is landed on, passed over and triggers its event, per
+     * player and thereby per strategy.
+     *
+     * @param numberOfGames The number of games to be simulated.
+     * @param masterSeed    The seed from which the seed of every game is derived.
+     * @return The heatmap of all simulated games.
+     */
+    public FieldHeatmap collectHeatmap(long numberOfGames, long masterSeed) {
+        return pool.invoke(new HeatmapTask(0, numberOfGames, masterSeed));
+    }
+
+    /**
+     * Plays the games with the indices from {@code from} (inclusive) to {@code to}
+     * (exclusive), splitting the range until it is small enough for one worker.
+     */
+    private class SimulationTask extends RecursiveTask<SimulationStatistics> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final long masterSeed;
+
+        SimulationTask(long from, long to, long masterSeed) {
+            this.from = from;
+            this.to = to;
+            this.masterSeed = masterSeed;
+        }
+
+        @Override
+        protected SimulationStatistics compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playGames();
+            }
+            long middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, middle, masterSeed);
+            left.fork();
+            SimulationStatistics right = new SimulationTask(middle, to, masterSeed).compute();
+            return right.merge(left.join());
+        }
+
+        private SimulationStatistics playGames() {
+            SimulationStatistics statistics = new SimulationStatistics(colors);
+            HeadlessGame game = new HeadlessGame(colors, strategies);
+            game.setMoveJournal(journal);
+            for (long i = from; i < to; i++) {
+                int winner = game.play(Dice.deriveSeed(masterSeed, i));
+                statistics.record(winner, game.getTurnCount());
+            }
+            return statistics;
+        }
+    }
+
+    /**
+     * Plays the games with the indices from {@code from} (inclusive) to {@code to}
+     * (exclusive) into one heatmap per worker, splitting the range like
+     * {@link SimulationTask}.
+     */
+    private class HeatmapTask extends RecursiveTask<FieldHeatmap> {
+        private static final long serialVersionUID = 1L;
+
+        private final long from;
+        private final long to;
+        private final long masterSeed;
+
+        HeatmapTask(long from, long to, long masterSeed) {
+            this.from = from;
+            this.to = to;
+            this.masterSeed = masterSeed;
+        }
+
+        @Override
+        protected FieldHeatmap compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                return playGames();
+            }
+            long middle = (from + to) >>> 1;
+            HeatmapTask left = new HeatmapTask(from, middle, masterSeed);
+            left.fork();
+            FieldHeatmap right = new HeatmapTask(middle, to, masterSeed).compute();
+            return right.merge(left.join());
+        }
+
+        private FieldHeatmap playGames() {
+            FieldHeatmap heatmap = new FieldHeatmap(colors, strategies);
+            HeadlessGame game = new HeadlessGame(colors, strategies);
+            game.setMoveJournal(journal);
+            game.setMoveListener(heatmap);
+            for (long i = from; i < to; i++) {
+                game.play(Dice.deriveSeed(masterSeed, i));
+            }
+            return heatmap;
+        }
+    }
+}
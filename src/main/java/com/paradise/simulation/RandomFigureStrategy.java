@@ -0,0 +1,57 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+
+/**
+ * The RandomFigureStrategy moves one of the two figures chosen pseudo-randomly. In
+ * the simulation engines, every turn of a game draws from a stream derived from the
+ * seed of the strategy and the seed of the game, so the same position and roll may
+ * lead to different choices in different games, while every game can still be
+ * replayed exactly. Callers without a game, e.g. an analysis of a single position,
+ * get a fixed choice per position and roll, which is a hash of the seed, the
+ * positions of the player's figures and the dice values.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class RandomFigureStrategy implements FigureSelectionStrategy {
+    private final long seed;
+
+    /**
+     * Creates a random strategy with a fixed default seed.
+     */
+    public RandomFigureStrategy() {
+        this(0);
+    }
+
+    /**
+     * Creates a random strategy whose choices are determined by the given seed.
+     *
+     * @param seed The seed of the strategy.
+     */
+    public RandomFigureStrategy(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public int selectFigure(int[] positions, int playerIndex, int die1, int die2) {
+        int first = playerIndex * 2;
+        long state = ((long) positions[first] << 32) ^ ((long) positions[first + 1] << 8) ^ (die1 << 4) ^ die2;
+        return (int) (Dice.deriveSeed(seed, state) >>> 63);
+    }
+
+    @Override
+    public int selectFigure(long gameSeed, int turn, int[] positions, int playerIndex, int die1, int die2) {
+        return (int) (Dice.deriveSeed(Dice.deriveSeed(seed, gameSeed), turn) >>> 63);
+    }
+
+    @Override
+    public boolean usesOnlyOwnFigures() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "RandomFigureStrategy{seed=" + seed + '}';
+    }
+}
@@ -0,0 +1,129 @@
+package main.java.com.paradise.simulation;
+
+/**
+ * The SequentialProbabilityRatioTest decides whether one of two strategies is stronger
+ * than the other while their games are still being played. Every game is a trial
+ * won by the first strategy with an unknown probability p, and two of Wald's
+ * sequential probability ratio tests run side by side: one weighs p = 0.5 + margin
+ * against p = 0.5, the other p = 0.5 - margin against p = 0.5 (Sobel and Wald). The
+ * matchup is settled as soon as one strategy is found stronger, or both tests accept
+ * p = 0.5, i.e. the strategies are even within the margin.
+ *
+ * <p>Games played twice with the same dice and swapped seats are not independent, so
+ * {@link #decidePairs(long, long)} counts every such pair as one trial instead. A pair
+ * each strategy wins once tells nothing about which one is stronger and is left out,
+ * as in a sign test. Of the remaining pairs, the first strategy wins a share of
+ * (0.5 + margin)^2 / ((0.5 + margin)^2 + (0.5 - margin)^2) if it wins its games with
+ * the probability 0.5 + margin, which is the hypothesis the pair test weighs against
+ * 0.5.</p>
+ *
+ * <p>Instances are immutable and can be shared by all matchups of a tournament.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class SequentialProbabilityRatioTest {
+    private final double confidence;
+    private final double margin;
+    private final double strongerWinWeight;
+    private final double strongerLossWeight;
+    private final double strongerPairWinWeight;
+    private final double strongerPairLossWeight;
+    private final double bound;
+
+    /**
+     * Creates a test.
+     *
+     * @param confidence The probability of a correct verdict, e.g. 0.95. It applies to
+     *                   each of the two tests.
+     * @param margin     The smallest difference of the win rate from 0.5 that has to
+     *                   be detected, e.g. 0.01 for one percentage point.
+     */
+    public SequentialProbabilityRatioTest(double confidence, double margin) {
+        if (!(confidence > 0.5 && confidence < 1)) {
+            throw new IllegalArgumentException("The confidence must be between 0.5 and 1.");
+        }
+        if (!(margin > 0 && margin < 0.5)) {
+            throw new IllegalArgumentException("The margin must be between 0 and 0.5.");
+        }
+        this.confidence = confidence;
+        this.margin = margin;
+        this.strongerWinWeight = Math.log(1 + 2 * margin);
+        this.strongerLossWeight = Math.log(1 - 2 * margin);
+        double stronger = (0.5 + margin) * (0.5 + margin);
+        double weaker = (0.5 - margin) * (0.5 - margin);
+        double pairWinRate = stronger / (stronger + weaker);
+        this.strongerPairWinWeight = Math.log(2 * pairWinRate);
+        this.strongerPairLossWeight = Math.log(2 * (1 - pairWinRate));
+        // Both kinds of error have the probability 1 - confidence
+        this.bound = Math.log(confidence / (1 - confidence));
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public double getMargin() {
+        return margin;
+    }
+
+    /**
+     * Returns the log-likelihood ratio of the hypothesis that the first strategy wins
+     * with the probability 0.5 + margin over the hypothesis that it wins half of the
+     * games. Swapping the wins and losses gives the ratio for the second strategy.
+     *
+     * @param firstWins The number of games won by the first strategy.
+     * @param games     The number of games played.
+     * @return The log-likelihood ratio.
+     */
+    public double logLikelihoodRatio(long firstWins, long games) {
+        return firstWins * strongerWinWeight + (games - firstWins) * strongerLossWeight;
+    }
+
+    /**
+     * Decides the matchup if the games played so far are sufficient.
+     *
+     * @param firstWins The number of games won by the first strategy.
+     * @param games     The number of games played.
+     * @return The verdict, or {@link MatchupResult.Verdict#UNDECIDED} if more games
+     *         are needed.
+     */
+    public MatchupResult.Verdict decide(long firstWins, long games) {
+        return decide(logLikelihoodRatio(firstWins, games), logLikelihoodRatio(games - firstWins, games));
+    }
+
+    /**
+     * Decides the matchup from pairs of games played with the same dice and swapped
+     * seats, if the pairs played so far are sufficient. Pairs won once by each
+     * strategy are not counted.
+     *
+     * @param firstPairWins  The number of pairs whose games were both won by the
+     *                       first strategy.
+     * @param secondPairWins The number of pairs whose games were both won by the
+     *                       second strategy.
+     * @return The verdict, or {@link MatchupResult.Verdict#UNDECIDED} if more pairs
+     *         are needed.
+     */
+    public MatchupResult.Verdict decidePairs(long firstPairWins, long secondPairWins) {
+        return decide(firstPairWins * strongerPairWinWeight + secondPairWins * strongerPairLossWeight,
+                secondPairWins * strongerPairWinWeight + firstPairWins * strongerPairLossWeight);
+    }
+
+    private MatchupResult.Verdict decide(double firstRatio, double secondRatio) {
+        if (firstRatio >= bound) {
+            return MatchupResult.Verdict.FIRST_STRONGER;
+        }
+        if (secondRatio >= bound) {
+            return MatchupResult.Verdict.SECOND_STRONGER;
+        }
+        if (firstRatio <= -bound && secondRatio <= -bound) {
+            return MatchupResult.Verdict.EVEN;
+        }
+        return MatchupResult.Verdict.UNDECIDED;
+    }
+
+    @Override
+    public String toString() {
+        return "SequentialProbabilityRatioTest{confidence=" + confidence + ", margin=" + margin + '}';
+    }
+}
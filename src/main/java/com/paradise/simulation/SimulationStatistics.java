@@ -0,0 +1,137 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.enums.Color;
+
+import java.util.Arrays;
+
+/**
+ * The SimulationStatistics class aggregates the results of simulated games: wins per
+ * player, game lengths and a histogram of the number of turns. Instances are not
+ * thread-safe; every worker fills its own instance and the partial results are
+ * combined with {@link #merge(SimulationStatistics)}.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class SimulationStatistics {
+    /**
+     * Games with at least this many turns are counted in the last histogram bucket.
+     */
+    public static final int MAX_TRACKED_TURNS = 1024;
+
+    private final Color[] colors;
+    private final long[] wins;
+    private final long[] turnHistogram = new long[MAX_TRACKED_TURNS + 1];
+    private long games;
+    private long totalTurns;
+    private int minTurns = Integer.MAX_VALUE;
+    private int maxTurns;
+
+    /**
+     * Creates empty statistics for the given players.
+     *
+     * @param colors The colors of the players in seating order.
+     */
+    public SimulationStatistics(Color... colors) {
+        this.colors = colors.clone();
+        this.wins = new long[colors.length];
+    }
+
+    /**
+     * Records the result of one finished game.
+     *
+     * @param winnerIndex The seat index of the winning player.
+     * @param turns       The number of turns the game lasted.
+     */
+    public void record(int winnerIndex, int turns) {
+        games++;
+        wins[winnerIndex]++;
+        totalTurns += turns;
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+        turnHistogram[Math.min(turns, MAX_TRACKED_TURNS)]++;
+    }
+
+    /**
+     * Adds the results of another statistics object for the same players to this one.
+     *
+     * @param other The statistics to be merged into this one.
+     * @return This statistics object.
+     */
+    public SimulationStatistics merge(SimulationStatistics other) {
+        if (!Arrays.equals(colors, other.colors)) {
+            throw new IllegalArgumentException("Statistics of different players cannot be merged.");
+        }
+        games += other.games;
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        for (int i = 0; i < turnHistogram.length; i++) {
+            turnHistogram[i] += other.turnHistogram[i];
+        }
+        return this;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(Color color) {
+        for (int i = 0; i < colors.length; i++) {
+            if (colors[i] == color) {
+                return wins[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the share of games won by the given color.
+     *
+     * @param color The color of the player.
+     * @return The win rate between 0 and 1, or 0 if no game was recorded.
+     */
+    public double getWinRate(Color color) {
+        return games == 0 ? 0 : (double) getWins(color) / games;
+    }
+
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public int getMinTurns() {
+        return games == 0 ? 0 : minTurns;
+    }
+
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Returns the number of games that lasted exactly the given number of turns. The
+     * last bucket counts all games with {@link #MAX_TRACKED_TURNS} or more turns.
+     *
+     * @param turns The number of turns.
+     * @return The number of games with this length.
+     */
+    public long getGamesWithTurns(int turns) {
+        return turnHistogram[Math.min(turns, MAX_TRACKED_TURNS)];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("Games: " + games + "\n");
+        for (Color color : colors) {
+            result.append(String.format("%s: %d wins (%.2f%%)\n", color, getWins(color), 100 * getWinRate(color)));
+        }
+        result.append(String.format("Turns: avg %.2f, min %d, max %d\n", getAverageTurns(), getMinTurns(), maxTurns));
+        return result.toString();
+    }
+}
@@ -0,0 +1,223 @@
+package main.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.fields.GameBoard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The StrategyTournament compares figure selection strategies. Every pair of
+ * strategies plays one matchup for every number of players from 2 to the number of
+ * colors. In a matchup the two strategies take alternate seats, and every game is
+ * played twice with the same dice, once with the first strategy on the even seats and
+ * once with the seats swapped, so neither the seating order nor an odd number of
+ * players favors one of them.
+ *
+ * <p>All matchups run in parallel in a fork/join pool, and every matchup plays its
+ * games in rounds of parallel batches with the {@link BatchSimulator}. The batches add
+ * their results to the thread-safe {@link MatchupResult} of the matchup, and after
+ * each round a {@link SequentialProbabilityRatioTest} decides whether the matchup is
+ * settled. Because the two games with the same dice are not independent, the test
+ * counts every such pair as one trial (see
+ * {@link SequentialProbabilityRatioTest#decidePairs(long, long)}). A matchup therefore only plays as many games as are needed to tell its
+ * strategies apart or to find them even, and at most the configured maximum.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class StrategyTournament {
+    private static final int GAMES_PER_BATCH = 1_000;
+
+    private final GameBoard board;
+    private final ForkJoinPool pool;
+    private final SequentialProbabilityRatioTest test;
+    private final long maxGamesPerMatchup;
+    private final FigureSelectionStrategy[] strategies;
+
+    /**
+     * Creates a tournament on the standard board that uses the common fork/join pool,
+     * decides with 95% confidence whether a strategy wins at least one percentage
+     * point more often than half of the games and plays at most one million games per
+     * matchup.
+     *
+     * @param strategies The strategies to be compared.
+     */
+    public StrategyTournament(FigureSelectionStrategy... strategies) {
+        this(BoardDefinition.standard().getGameBoard(), ForkJoinPool.commonPool(),
+                new SequentialProbabilityRatioTest(0.95, 0.01), 1_000_000, strategies);
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param board              The game board.
+     * @param pool               The pool executing the matchups.
+     * @param test               The test that decides when a matchup is settled.
+     * @param maxGamesPerMatchup The number of games after which an undecided matchup
+     *                           is stopped.
+     * @param strategies         The strategies to be compared. They are named by
+     *                           their {@code toString()} in the results.
+     */
+    public StrategyTournament(GameBoard board, ForkJoinPool pool, SequentialProbabilityRatioTest test,
+                              long maxGamesPerMatchup, FigureSelectionStrategy... strategies) {
+        if (strategies.length < 2) {
+            throw new IllegalArgumentException("At least two strategies are required.");
+        }
+        if (maxGamesPerMatchup < 2) {
+            throw new IllegalArgumentException("At least two games per matchup are required.");
+        }
+        this.board = board;
+        this.pool = pool;
+        this.test = test;
+        this.maxGamesPerMatchup = maxGamesPerMatchup;
+        this.strategies = strategies.clone();
+    }
+
+    /**
+     * Plays all matchups with a random master seed.
+     *
+     * @return The results of all matchups, ordered by the number of players and then
+     *         by the order of the strategies.
+     */
+    public List<MatchupResult> run() {
+        return run(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Plays all matchups. The games of matchup k are played with the seeds derived
+     * from {@code Dice.deriveSeed(masterSeed, k)}, so a tournament on the same pool
+     * parallelism is reproducible.
+     *
+     * @param masterSeed The seed from which the seed of every matchup is derived.
+     * @return The results of all matchups, ordered by the number of players and then
+     *         by the order of the strategies.
+     */
+    public List<MatchupResult> run(long masterSeed) {
+        List<MatchupTask> matchups = new ArrayList<>();
+        for (int playerCount = 2; playerCount <= Color.values().length; playerCount++) {
+            for (int first = 0; first < strategies.length; first++) {
+                for (int second = first + 1; second < strategies.length; second++) {
+                    long seed = Dice.deriveSeed(masterSeed, matchups.size());
+                    matchups.add(new MatchupTask(strategies[first], strategies[second], playerCount, seed));
+                }
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(matchups);
+            }
+        });
+
+        List<MatchupResult> results = new ArrayList<>(matchups.size());
+        for (MatchupTask matchup : matchups) {
+            results.add(matchup.result);
+        }
+        return results;
+    }
+
+    /**
+     * Plays the games of one matchup in rounds until the test settles it or the
+     * maximum number of games is reached.
+     */
+    private class MatchupTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MatchupResult result;
+        private final Color[] colors;
+        private final BatchSimulator firstOnEvenSeats;
+        private final BatchSimulator firstOnOddSeats;
+        private final long seed;
+
+        MatchupTask(FigureSelectionStrategy first, FigureSelectionStrategy second, int playerCount, long seed) {
+            this.result = new MatchupResult(String.valueOf(first), String.valueOf(second), playerCount);
+            this.colors = new Color[playerCount];
+            System.arraycopy(Color.values(), 0, colors, 0, playerCount);
+            FigureSelectionStrategy[] evenSeats = new FigureSelectionStrategy[playerCount];
+            FigureSelectionStrategy[] oddSeats = new FigureSelectionStrategy[playerCount];
+            for (int seat = 0; seat < playerCount; seat++) {
+                evenSeats[seat] = seat % 2 == 0 ? first : second;
+                oddSeats[seat] = seat % 2 == 0 ? second : first;
+            }
+            this.firstOnEvenSeats = new BatchSimulator(board, pool, colors, evenSeats);
+            this.firstOnOddSeats = new BatchSimulator(board, pool, colors, oddSeats);
+            this.seed = seed;
+        }
+
+        @Override
+        protected void compute() {
+            int batchesPerRound = Math.max(1, getPool().getParallelism());
+            // Every game index is played in both seatings
+            long maxIndex = maxGamesPerMatchup / 2;
+            long nextIndex = 0;
+            while (result.getVerdict() == MatchupResult.Verdict.UNDECIDED && nextIndex < maxIndex) {
+                List<BatchTask> round = new ArrayList<>(batchesPerRound);
+                for (int batch = 0; batch < batchesPerRound && nextIndex < maxIndex; batch++) {
+                    long to = Math.min(nextIndex + GAMES_PER_BATCH, maxIndex);
+                    round.add(new BatchTask(this, nextIndex, to));
+                    nextIndex = to;
+                }
+                invokeAll(round);
+                result.setVerdict(test.decidePairs(result.getFirstPairWins(), result.getSecondPairWins()));
+            }
+        }
+
+        /**
+         * Plays the given game indices in both seatings and adds them to the result.
+         */
+        void playBatch(long from, long to) {
+            byte[] evenWinners = new byte[(int) (to - from)];
+            byte[] oddWinners = new byte[evenWinners.length];
+            SimulationStatistics even = firstOnEvenSeats.simulateRange(from, to, seed, evenWinners);
+            SimulationStatistics odd = firstOnOddSeats.simulateRange(from, to, seed, oddWinners);
+            long firstWins = 0;
+            for (int seat = 0; seat < colors.length; seat++) {
+                firstWins += (seat % 2 == 0 ? even : odd).getWins(colors[seat]);
+            }
+            long firstPairWins = 0;
+            long secondPairWins = 0;
+            for (int game = 0; game < evenWinners.length; game++) {
+                // The first strategy sits on the even seats in one game and on the odd ones in the other
+                boolean firstWinsEven = evenWinners[game] % 2 == 0;
+                boolean firstWinsOdd = oddWinners[game] % 2 == 1;
+                if (firstWinsEven && firstWinsOdd) {
+                    firstPairWins++;
+                } else if (!firstWinsEven && !firstWinsOdd) {
+                    secondPairWins++;
+                }
+            }
+            result.record(even.getGames() + odd.getGames(), firstWins, even.getTotalTurns() + odd.getTotalTurns(),
+                    firstPairWins, secondPairWins);
+        }
+    }
+
+    /**
+     * Plays one batch of a matchup.
+     */
+    private static class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MatchupTask matchup;
+        private final long from;
+        private final long to;
+
+        BatchTask(MatchupTask matchup, long from, long to) {
+            this.matchup = matchup;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            matchup.playBatch(from, to);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package main.java.com.paradise.snapshot;
+
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+
+import java.util.Arrays;
+
+/**
+ * The GameSnapshot class is an immutable description of a game position: the colors
+ * of the players in seating order, the field of every figure, the player on turn and
+ * the turns every player still has to skip. Figure {@code seat * 2 + i} is figure i
+ * (A or B) of the player on that seat.
+ *
+ * <p>Snapshots are stored in the compact binary form of {@link SnapshotCodec}. The
+ * text form of {@link #toConfigString()}, e.g. {@code "BLUE-A:12, BLUE-B:0"}, is
+ * meant for debugging and hand-written scenarios.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class GameSnapshot {
+    private final Color[] colors;
+    private final int[] positions;
+    private final int playerOnTurn;
+    private final int[] pendingSkips;
+
+    /**
+     * Creates a new snapshot in which no player has to skip turns.
+     *
+     * @param colors       The colors of the players in seating order.
+     * @param positions    The field of every figure, two per player.
+     * @param playerOnTurn The seat of the player on turn, or -1 if no player is on
+     *                     turn yet.
+     */
+    public GameSnapshot(Color[] colors, int[] positions, int playerOnTurn) {
+        this(colors, positions, playerOnTurn, new int[colors.length]);
+    }
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param colors       The colors of the players in seating order.
+     * @param positions    The field of every figure, two per player.
+     * @param playerOnTurn The seat of the player on turn, or -1 if no player is on
+     *                     turn yet.
+     * @param pendingSkips The number of turns the player on every seat still has to
+     *                     skip.
+     */
+    public GameSnapshot(Color[] colors, int[] positions, int playerOnTurn, int[] pendingSkips) {
+        if (colors.length < 1 || colors.length > Color.values().length) {
+            throw new IllegalArgumentException("Between 1 and " + Color.values().length + " players are required.");
+        }
+        if (positions.length != colors.length * Player.NUMBER_OF_FIGURES) {
+            throw new IllegalArgumentException("Exactly " + Player.NUMBER_OF_FIGURES + " positions per player are required.");
+        }
+        if (playerOnTurn < -1 || playerOnTurn >= colors.length) {
+            throw new IllegalArgumentException("Invalid player on turn: " + playerOnTurn);
+        }
+        int usedColors = 0;
+        for (Color color : colors) {
+            int bit = 1 << color.ordinal();
+            if ((usedColors & bit) != 0) {
+                throw new IllegalArgumentException("The color " + color + " is used twice.");
+            }
+            usedColors |= bit;
+        }
+        for (int position : positions) {
+            if (position < 0) {
+                throw new IllegalArgumentException("Invalid position: " + position);
+            }
+        }
+        if (pendingSkips.length != colors.length) {
+            throw new IllegalArgumentException("Exactly one number of skipped turns per player is required.");
+        }
+        for (int turns : pendingSkips) {
+            if (turns < 0) {
+                throw new IllegalArgumentException("Invalid number of skipped turns: " + turns);
+            }
+        }
+        this.colors = colors.clone();
+        this.positions = positions.clone();
+        this.playerOnTurn = playerOnTurn;
+        this.pendingSkips = pendingSkips.clone();
+    }
+
+    /**
+     * Creates a snapshot of the same players as another one. The arrays are not copied
+     * and must not be changed afterwards.
+     */
+    private GameSnapshot(GameSnapshot players, int[] positions, int playerOnTurn, int[] pendingSkips) {
+        this.colors = players.colors;
+        this.positions = positions;
+        this.playerOnTurn = playerOnTurn;
+        this.pendingSkips = pendingSkips;
+    }
+
+    /**
+     * Creates a snapshot from the text form. Figures that are not listed stay on the
+     * start field, like in {@code ParadiseGame(String, Color...)}.
+     *
+     * @param config       The figure positions, e.g. {@code "BLUE-A:12, RED-B:7"}.
+     * @param playerOnTurn The seat of the player on turn, or -1.
+     * @param colors       The colors of the players in seating order.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If a figure or position cannot be parsed.
+     */
+    public static GameSnapshot fromConfigString(String config, int playerOnTurn, Color... colors) {
+        int[] positions = new int[colors.length * Player.NUMBER_OF_FIGURES];
+        if (!config.isBlank()) {
+            for (String figureConfig : config.split(", ")) {
+                String[] parts = figureConfig.split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid figure configuration: " + figureConfig);
+                }
+                int figureId = figureId(parts[0].trim(), colors);
+                if (figureId < 0) {
+                    throw new IllegalArgumentException("Unknown figure: " + parts[0]);
+                }
+                positions[figureId] = Integer.parseInt(parts[1].trim());
+            }
+        }
+        return new GameSnapshot(colors, positions, playerOnTurn);
+    }
+
+    /**
+     * Returns a snapshot that differs from this one in the position of one figure.
+     * Only the positions are copied, so a game can publish a new snapshot after every
+     * move at little cost.
+     *
+     * @param figureId The id of the figure.
+     * @param position The new field of the figure.
+     * @return The new snapshot.
+     */
+    public GameSnapshot withPosition(int figureId, int position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        int[] newPositions = positions.clone();
+        newPositions[figureId] = position;
+        return new GameSnapshot(this, newPositions, playerOnTurn, pendingSkips);
+    }
+
+    /**
+     * Returns a snapshot that differs from this one in the player on turn. No array is
+     * copied.
+     *
+     * @param playerOnTurn The seat of the player on turn, or -1.
+     * @return The new snapshot.
+     */
+    public GameSnapshot withPlayerOnTurn(int playerOnTurn) {
+        if (playerOnTurn < -1 || playerOnTurn >= colors.length) {
+            throw new IllegalArgumentException("Invalid player on turn: " + playerOnTurn);
+        }
+        return new GameSnapshot(this, positions, playerOnTurn, pendingSkips);
+    }
+
+    /**
+     * Returns a snapshot that differs from this one in the turns one player still has
+     * to skip. Only the skipped turns are copied.
+     *
+     * @param seat  The seat of the player.
+     * @param turns The number of turns the player still has to skip.
+     * @return The new snapshot.
+     */
+    public GameSnapshot withPendingSkips(int seat, int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("Invalid number of skipped turns: " + turns);
+        }
+        int[] newPendingSkips = pendingSkips.clone();
+        newPendingSkips[seat] = turns;
+        return new GameSnapshot(this, positions, playerOnTurn, newPendingSkips);
+    }
+
+    /**
+     * Returns the text form of the figure positions as accepted by
+     * {@code ParadiseGame(String, Color...)}.
+     *
+     * @return The figure positions, e.g. {@code "BLUE-A:12, BLUE-B:0"}.
+     */
+    public String toConfigString() {
+        StringBuilder config = new StringBuilder();
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            if (figureId > 0) {
+                config.append(", ");
+            }
+            config.append(getFigureName(figureId)).append(':').append(positions[figureId]);
+        }
+        return config.toString();
+    }
+
+    public int getPlayerCount() {
+        return colors.length;
+    }
+
+    public Color[] getColors() {
+        return colors.clone();
+    }
+
+    public Color getColor(int seat) {
+        return colors[seat];
+    }
+
+    public int getFigureCount() {
+        return positions.length;
+    }
+
+    public int getPosition(int figureId) {
+        return positions[figureId];
+    }
+
+    public int getPlayerOnTurn() {
+        return playerOnTurn;
+    }
+
+    public int getPendingSkips(int seat) {
+        return pendingSkips[seat];
+    }
+
+    /**
+     * Returns the first player in seating order whose figures are all in paradise.
+     *
+     * @param paradisePosition The position number of the paradise field.
+     * @return The seat index of the winner, or -1 if there is no winner.
+     */
+    public int getWinner(int paradisePosition) {
+        for (int seat = 0; seat < colors.length; seat++) {
+            boolean allInParadise = true;
+            for (int i = 0; i < Player.NUMBER_OF_FIGURES; i++) {
+                allInParadise &= positions[seat * Player.NUMBER_OF_FIGURES + i] == paradisePosition;
+            }
+            if (allInParadise) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the name of a figure of this game.
+     *
+     * @param figureId The id of the figure.
+     * @return The name of the figure (e.g., "BLUE-A").
+     */
+    public String getFigureName(int figureId) {
+        return Player.getFigureName(colors[figureId / Player.NUMBER_OF_FIGURES], figureId % Player.NUMBER_OF_FIGURES);
+    }
+
+    private static int figureId(String name, Color[] colors) {
+        for (int seat = 0; seat < colors.length; seat++) {
+            for (int i = 0; i < Player.NUMBER_OF_FIGURES; i++) {
+                if (Player.getFigureName(colors[seat], i).equals(name)) {
+                    return seat * Player.NUMBER_OF_FIGURES + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GameSnapshot)) {
+            return false;
+        }
+        GameSnapshot snapshot = (GameSnapshot) other;
+        return playerOnTurn == snapshot.playerOnTurn && Arrays.equals(colors, snapshot.colors)
+                && Arrays.equals(positions, snapshot.positions) && Arrays.equals(pendingSkips, snapshot.pendingSkips);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * (31 * Arrays.hashCode(colors) + Arrays.hashCode(positions)) + playerOnTurn;
+        return 31 * hash + Arrays.hashCode(pendingSkips);
+    }
+
+    @Override
+    public String toString() {
+        String onTurn = playerOnTurn < 0 ? "-" : colors[playerOnTurn].toString();
+        return "GameSnapshot{" + toConfigString() + ", turn=" + onTurn + ", skips=" + Arrays.toString(pendingSkips) + '}';
+    }
+}
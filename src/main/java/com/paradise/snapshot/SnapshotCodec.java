@@ -0,0 +1,200 @@
+package main.java.com.paradise.snapshot;
+
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * The SnapshotCodec class converts {@link GameSnapshot}s to and from their compact
+ * binary form. A snapshot body consists of
+ *
+ * <pre>
+ * byte     player count (low 4 bits) | player on turn + 1 (high 4 bits)
+ * byte[n]  color ordinal (low 4 bits) | turns to skip (high 4 bits) of every seat
+ * varint[] position of every figure, 7 bits per byte, low bits first
+ * </pre>
+ *
+ * so a two-player game on the standard board takes 7 bytes. A standalone encoding
+ * starts with the {@link #VERSION} byte; snapshot files written by
+ * {@link SnapshotWriter} store the version once in their header. Version 1, which
+ * had no skipped turns, can still be read.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class SnapshotCodec {
+    /**
+     * The version of the binary format.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The maximum number of skipped turns per player that can be encoded.
+     */
+    public static final int MAX_PENDING_SKIPS = 15;
+
+    /**
+     * The maximum size of an encoded snapshot body in bytes.
+     */
+    public static final int MAX_BODY_SIZE = 1 + Color.values().length * (1 + Player.NUMBER_OF_FIGURES * 5);
+
+    private static final Color[] COLORS = Color.values();
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * Encodes a snapshot including the version byte.
+     *
+     * @param snapshot The snapshot.
+     * @return The encoded snapshot.
+     */
+    public static byte[] encode(GameSnapshot snapshot) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + MAX_BODY_SIZE);
+        buffer.put((byte) VERSION);
+        encodeBody(snapshot, buffer);
+        byte[] result = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(result);
+        return result;
+    }
+
+    /**
+     * Decodes a snapshot that was encoded by {@link #encode(GameSnapshot)}.
+     *
+     * @param bytes The encoded snapshot.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If the bytes are not a valid snapshot.
+     */
+    public static GameSnapshot decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int version = bytes.length == 0 ? 0 : buffer.get();
+        checkVersion(version);
+        GameSnapshot snapshot = decodeBody(buffer, version);
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException("Unexpected bytes after the snapshot.");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes the body of a snapshot, without version byte, to a buffer.
+     *
+     * @param snapshot The snapshot.
+     * @param buffer   The buffer; it needs at most {@link #MAX_BODY_SIZE} bytes.
+     * @throws IllegalArgumentException If a player has more than
+     *                                  {@link #MAX_PENDING_SKIPS} turns to skip.
+     */
+    public static void encodeBody(GameSnapshot snapshot, ByteBuffer buffer) {
+        int playerCount = snapshot.getPlayerCount();
+        for (int seat = 0; seat < playerCount; seat++) {
+            if (snapshot.getPendingSkips(seat) > MAX_PENDING_SKIPS) {
+                throw new IllegalArgumentException("Too many skipped turns to encode: " + snapshot.getPendingSkips(seat));
+            }
+        }
+        buffer.put((byte) (playerCount | (snapshot.getPlayerOnTurn() + 1) << 4));
+        for (int seat = 0; seat < playerCount; seat++) {
+            buffer.put((byte) (snapshot.getColor(seat).ordinal() | snapshot.getPendingSkips(seat) << 4));
+        }
+        for (int figureId = 0; figureId < snapshot.getFigureCount(); figureId++) {
+            putVarInt(buffer, snapshot.getPosition(figureId));
+        }
+    }
+
+    /**
+     * Reads the body of a snapshot of the current version, without version byte,
+     * from a buffer.
+     *
+     * @param buffer The buffer positioned at the body.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If the bytes are not a valid snapshot.
+     */
+    public static GameSnapshot decodeBody(ByteBuffer buffer) {
+        return decodeBody(buffer, VERSION);
+    }
+
+    /**
+     * Reads the body of a snapshot, without version byte, from a buffer.
+     *
+     * @param buffer  The buffer positioned at the body.
+     * @param version The version of the binary format the body was written with.
+     * @return The snapshot.
+     * @throws IllegalArgumentException If the bytes are not a valid snapshot.
+     */
+    public static GameSnapshot decodeBody(ByteBuffer buffer, int version) {
+        checkVersion(version);
+        try {
+            int header = buffer.get() & 0xFF;
+            Color[] colors = new Color[checkPlayerCount(header & 0x0F)];
+            int[] pendingSkips = new int[colors.length];
+            for (int seat = 0; seat < colors.length; seat++) {
+                byte seatByte = buffer.get();
+                colors[seat] = seatColor(seatByte, version);
+                pendingSkips[seat] = pendingSkips(seatByte, version);
+            }
+            int[] positions = new int[colors.length * Player.NUMBER_OF_FIGURES];
+            for (int figureId = 0; figureId < positions.length; figureId++) {
+                positions[figureId] = getVarInt(buffer);
+            }
+            return new GameSnapshot(colors, positions, (header >>> 4) - 1, pendingSkips);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("The snapshot is truncated.", e);
+        }
+    }
+
+    static void checkVersion(int version) {
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + version + ".");
+        }
+    }
+
+    static int checkPlayerCount(int playerCount) {
+        if (playerCount < 1 || playerCount > COLORS.length) {
+            throw new IllegalArgumentException("Invalid player count: " + playerCount);
+        }
+        return playerCount;
+    }
+
+    static Color color(byte ordinal) {
+        if (ordinal < 0 || ordinal >= COLORS.length) {
+            throw new IllegalArgumentException("Invalid color: " + ordinal);
+        }
+        return COLORS[ordinal];
+    }
+
+    /**
+     * Returns the color of a seat from the seat byte of a snapshot body.
+     */
+    static Color seatColor(byte seatByte, int version) {
+        return color(version == 1 ? seatByte : (byte) (seatByte & 0x0F));
+    }
+
+    /**
+     * Returns the turns to skip of a seat from the seat byte of a snapshot body.
+     */
+    static int pendingSkips(byte seatByte, int version) {
+        return version == 1 ? 0 : (seatByte & 0xFF) >>> 4;
+    }
+
+    static void putVarInt(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int getVarInt(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid position encoding.");
+    }
+}
@@ -0,0 +1,202 @@
+package main.java.com.paradise.snapshot;
+
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.state.CompactGameStore;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * The SnapshotReader streams the snapshots of a file written by
+ * {@link SnapshotWriter}. The reader is a flyweight: {@link #next()} decodes the next
+ * snapshot into reused arrays and the getters return its values, so files with
+ * millions of snapshots can be loaded, e.g. into a {@link CompactGameStore}, without
+ * creating an object per snapshot. {@link #toSnapshot()} creates an immutable copy
+ * when one is needed.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class SnapshotReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final Color[][] colorsByCount = new Color[Color.values().length + 1][];
+    private final int[] positions = new int[Color.values().length * Player.NUMBER_OF_FIGURES];
+    private final int[] pendingSkips = new int[Color.values().length];
+    private final int version;
+    private Color[] colors;
+    private int playerOnTurn;
+    private boolean endOfFile;
+    private long snapshotCount;
+
+    /**
+     * Opens a snapshot file.
+     *
+     * @param path The path of the file.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is not a snapshot file of a
+     *                                  supported version.
+     */
+    public SnapshotReader(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.buffer.limit(0);
+        for (int count = 1; count < colorsByCount.length; count++) {
+            colorsByCount[count] = new Color[count];
+        }
+        try {
+            fill();
+            if (buffer.remaining() < SnapshotWriter.HEADER_SIZE || buffer.getInt() != SnapshotWriter.MAGIC) {
+                throw new IllegalArgumentException("Not a snapshot file.");
+            }
+            this.version = buffer.getShort();
+            buffer.getShort();
+            SnapshotCodec.checkVersion(version);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Advances to the next snapshot. Snapshots with an invalid player count, color or
+     * player on turn, with a color used twice or with a negative position are
+     * rejected, so a corrupt file cannot produce an inconsistent game.
+     *
+     * @return true if there is a next snapshot, false at the end of the file.
+     * @throws IOException If the file cannot be read, or if the snapshot is invalid
+     *                     or truncated.
+     */
+    public boolean next() throws IOException {
+        if (buffer.remaining() < SnapshotCodec.MAX_BODY_SIZE && !endOfFile) {
+            fill();
+        }
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+        long index = snapshotCount++;
+        try {
+            int header = buffer.get() & 0xFF;
+            Color[] current = colorsByCount[SnapshotCodec.checkPlayerCount(header & 0x0F)];
+            int usedColors = 0;
+            for (int seat = 0; seat < current.length; seat++) {
+                byte seatByte = buffer.get();
+                current[seat] = SnapshotCodec.seatColor(seatByte, version);
+                pendingSkips[seat] = SnapshotCodec.pendingSkips(seatByte, version);
+                int bit = 1 << current[seat].ordinal();
+                if ((usedColors & bit) != 0) {
+                    throw new IllegalArgumentException("The color " + current[seat] + " is used twice.");
+                }
+                usedColors |= bit;
+            }
+            for (int figureId = 0; figureId < current.length * Player.NUMBER_OF_FIGURES; figureId++) {
+                positions[figureId] = SnapshotCodec.getVarInt(buffer);
+                if (positions[figureId] < 0) {
+                    throw new IllegalArgumentException("Invalid position of figure " + figureId + ": "
+                            + positions[figureId]);
+                }
+            }
+            colors = current;
+            playerOnTurn = (header >>> 4) - 1;
+            if (playerOnTurn >= current.length) {
+                throw new IllegalArgumentException("Invalid player on turn: " + playerOnTurn);
+            }
+            return true;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Snapshot " + index + " of " + path + " is truncated.", e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Snapshot " + index + " of " + path + " is invalid: " + e.getMessage(), e);
+        }
+    }
+
+    public int getPlayerCount() {
+        return colors.length;
+    }
+
+    public Color getColor(int seat) {
+        return colors[seat];
+    }
+
+    public int getPosition(int figureId) {
+        return positions[figureId];
+    }
+
+    public int getPlayerOnTurn() {
+        return playerOnTurn;
+    }
+
+    public int getPendingSkips(int seat) {
+        return pendingSkips[seat];
+    }
+
+    /**
+     * Creates an immutable copy of the current snapshot.
+     *
+     * @return The current snapshot.
+     */
+    public GameSnapshot toSnapshot() {
+        int[] figurePositions = new int[colors.length * Player.NUMBER_OF_FIGURES];
+        System.arraycopy(positions, 0, figurePositions, 0, figurePositions.length);
+        return new GameSnapshot(colors, figurePositions, playerOnTurn, Arrays.copyOf(pendingSkips, colors.length));
+    }
+
+    /**
+     * Creates a game with the current snapshot in a compact game store. The snapshot
+     * is checked against the board of the store first, so no game is created for a
+     * snapshot that does not fit it.
+     *
+     * @param store The store.
+     * @return The index of the new game in the store.
+     * @throws IOException If a figure of the snapshot stands outside the board of the
+     *                     store.
+     */
+    public int createGame(CompactGameStore store) throws IOException {
+        int boardSize = store.getTransitionTable().getBoardSize();
+        for (int figureId = 0; figureId < colors.length * Player.NUMBER_OF_FIGURES; figureId++) {
+            if (positions[figureId] >= boardSize) {
+                throw new IOException("Snapshot " + (snapshotCount - 1) + " of " + path + " places figure "
+                        + figureId + " on field " + positions[figureId] + " of a board with " + boardSize + " fields.");
+            }
+        }
+        int game = store.createGame(colors);
+        for (int figureId = 0; figureId < colors.length * Player.NUMBER_OF_FIGURES; figureId++) {
+            store.setFigurePosition(game, figureId, positions[figureId]);
+        }
+        for (int seat = 0; seat < colors.length; seat++) {
+            store.setPendingSkips(game, seat, pendingSkips[seat]);
+        }
+        if (playerOnTurn >= 0) {
+            store.setCurrentPlayer(game, playerOnTurn);
+        }
+        return game;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Moves the unread bytes to the front of the buffer and fills it from the file.
+     */
+    private void fill() throws IOException {
+        buffer.compact();
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                endOfFile = true;
+                break;
+            }
+        }
+        buffer.flip();
+    }
+}
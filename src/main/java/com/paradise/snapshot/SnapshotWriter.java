@@ -0,0 +1,76 @@
+package main.java.com.paradise.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The SnapshotWriter writes a sequence of snapshots to a file. The file starts with
+ * an 8-byte header (int magic, short version, short reserved, little-endian)
+ * followed by the snapshot bodies of {@link SnapshotCodec} without any separators.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class SnapshotWriter implements AutoCloseable {
+    static final int MAGIC = 0x504E5350; // "PSNP"
+    static final int HEADER_SIZE = 8;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long count;
+
+    /**
+     * Creates a new snapshot file, replacing an existing file.
+     *
+     * @param path The path of the file.
+     * @throws IOException If the file cannot be created.
+     */
+    public SnapshotWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(MAGIC).putShort((short) SnapshotCodec.VERSION).putShort((short) 0);
+    }
+
+    /**
+     * Appends a snapshot to the file.
+     *
+     * @param snapshot The snapshot.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(GameSnapshot snapshot) throws IOException {
+        if (buffer.remaining() < SnapshotCodec.MAX_BODY_SIZE) {
+            drain();
+        }
+        SnapshotCodec.encodeBody(snapshot, buffer);
+        count++;
+    }
+
+    /**
+     * @return The number of snapshots written so far.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
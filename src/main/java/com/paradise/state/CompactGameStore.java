@@ -0,0 +1,387 @@
+package main.java.com.paradise.state;
+
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.enums.FieldType;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.LabyrinthField;
+import main.java.com.paradise.fields.TransitionTable;
+
+import java.util.Arrays;
+
+/**
+ * The CompactGameStore class holds the state of many games in primitive arrays
+ * instead of Player, Figure and Field objects. Each game occupies a slot with a
+ * fixed number of entries in every array: the colors of its players, the positions
+ * of all figures, the number of figures in paradise and the turns still to be
+ * skipped per player and the index of the player on turn. All games share one
+ * immutable {@link TransitionTable}, so a game costs a few dozen bytes. Moves with
+ * dice values the table does not cover are walked on the shared game board, as in
+ * {@link ParadiseGame}.
+ *
+ * <p>The store is not thread-safe; every thread should use its own store or
+ * synchronize externally.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class CompactGameStore {
+    /**
+     * The number of figures of each player.
+     */
+    public static final int FIGURES_PER_PLAYER = Player.NUMBER_OF_FIGURES;
+
+    /**
+     * The maximum number of players of a game.
+     */
+    public static final int MAX_PLAYERS = Color.values().length;
+
+    private static final int MAX_FIGURES = MAX_PLAYERS * FIGURES_PER_PLAYER;
+    private static final Color[] COLORS = Color.values();
+    private static final int LABYRINTH_EVENT = 1 << FieldType.LABYRINTH.ordinal();
+
+    private final GameBoard board;
+    private final Figure probe = new Figure(null, "probe");
+    private final TransitionTable transitionTable;
+    private final int paradisePosition;
+
+    private int capacity;
+    private int[] positions;
+    private byte[] colors;
+    private byte[] paradiseCounts;
+    private byte[] pendingSkips;
+    private byte[] winners;
+    private byte[] playerCounts;
+    private byte[] currentPlayers;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int nextUnusedSlot;
+
+    /**
+     * Creates a store for games on the standard game board.
+     *
+     * @param initialCapacity The number of games the store can hold before it grows.
+     */
+    public CompactGameStore(int initialCapacity) {
+        this(ParadiseGame.createGameBoard(), ParadiseGame.NUMBER_DICE_FACES, initialCapacity);
+    }
+
+    /**
+     * Creates a store for games on the given game board.
+     *
+     * @param board           The game board shared by all games.
+     * @param faceCount       The number of faces of each of the two dice.
+     * @param initialCapacity The number of games the store can hold before it grows.
+     */
+    public CompactGameStore(GameBoard board, int faceCount, int initialCapacity) {
+        if (board.getParadiseField() == null) {
+            throw new IllegalArgumentException("The game board has no paradise field.");
+        }
+        this.board = board;
+        this.transitionTable = TransitionTable.forBoard(board, faceCount);
+        this.paradisePosition = board.getParadiseField().getPositionNumber();
+        this.capacity = Math.max(1, initialCapacity);
+        this.positions = new int[capacity * MAX_FIGURES];
+        this.colors = new byte[capacity * MAX_PLAYERS];
+        this.paradiseCounts = new byte[capacity * MAX_PLAYERS];
+        this.pendingSkips = new byte[capacity * MAX_PLAYERS];
+        this.winners = new byte[capacity];
+        this.playerCounts = new byte[capacity];
+        this.currentPlayers = new byte[capacity];
+        this.freeSlots = new int[capacity];
+    }
+
+    /**
+     * Creates a new game with all figures on the start field. The first player in
+     * seating order is on turn.
+     *
+     * @param playerColors The colors of the players in seating order.
+     * @return The slot of the new game.
+     */
+    public int createGame(Color... playerColors) {
+        if (playerColors.length < 1 || playerColors.length > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_PLAYERS + " players are required.");
+        }
+        int game = allocateSlot();
+        playerCounts[game] = (byte) playerColors.length;
+        currentPlayers[game] = 0;
+        winners[game] = -1;
+        Arrays.fill(positions, game * MAX_FIGURES, (game + 1) * MAX_FIGURES, 0);
+        Arrays.fill(paradiseCounts, game * MAX_PLAYERS, (game + 1) * MAX_PLAYERS, (byte) 0);
+        Arrays.fill(pendingSkips, game * MAX_PLAYERS, (game + 1) * MAX_PLAYERS, (byte) 0);
+        for (int player = 0; player < playerColors.length; player++) {
+            colors[game * MAX_PLAYERS + player] = (byte) playerColors[player].ordinal();
+        }
+        return game;
+    }
+
+    /**
+     * Releases the slot of a finished game so that it can be reused.
+     *
+     * @param game The slot of the game.
+     * @throws IllegalArgumentException If the slot does not hold a game, e.g. because
+     *                                  it has already been released.
+     */
+    public void releaseGame(int game) {
+        checkGame(game);
+        playerCounts[game] = 0;
+        freeSlots[freeSlotCount++] = game;
+    }
+
+    /**
+     * Returns whether a slot holds a game that has been created and not released.
+     *
+     * @param game The slot.
+     * @return true if the slot holds a live game, otherwise false.
+     */
+    public boolean isLive(int game) {
+        return game >= 0 && game < nextUnusedSlot && playerCounts[game] != 0;
+    }
+
+    /**
+     * Moves a figure by the given dice values. As in {@link ParadiseGame}, the move is
+     * rejected if the figure does not belong to the player on turn, if the game
+     * already has a winner or if the figure is in paradise. A figure ending its move in
+     * the labyrinth makes its player skip the next turn (see {@link #nextTurn(int)});
+     * the pending skipped turns of a player stop growing at {@link Byte#MAX_VALUE}.
+     *
+     * @param game   The slot of the game.
+     * @param figure The index of the figure within the game (player * 2 + A/B).
+     * @param die1   The value of the first die.
+     * @param die2   The value of the second die.
+     * @return true if the figure was moved, otherwise false.
+     */
+    public boolean moveFigure(int game, int figure, int die1, int die2) {
+        int player = figure / FIGURES_PER_PLAYER;
+        if (figure < 0 || player >= playerCounts[game] || player != currentPlayers[game]) {
+            return false;
+        }
+        int index = game * MAX_FIGURES + figure;
+        int position = positions[index];
+        if (position == paradisePosition || getWinner(game) >= 0) {
+            return false;
+        }
+        int destination;
+        int firedEvents;
+        if (transitionTable.contains(position, die1, die2)) {
+            destination = transitionTable.getDestination(position, die1, die2);
+            firedEvents = transitionTable.getEvents(position, die1, die2);
+        } else {
+            probe.setPosition(board.getField(position));
+            probe.setDiceValues(die1, die2);
+            board.moveFigure(probe, die1 + die2);
+            destination = probe.getPosition().getPositionNumber();
+            firedEvents = probe.getFiredEvents();
+        }
+        setFigurePosition(game, figure, destination);
+        if ((firedEvents & LABYRINTH_EVENT) != 0) {
+            int skips = game * MAX_PLAYERS + player;
+            pendingSkips[skips] = (byte) Math.min(Byte.MAX_VALUE, pendingSkips[skips] + LabyrinthField.SKIPPED_TURNS);
+        }
+        return true;
+    }
+
+    /**
+     * Passes the turn to the next player in seating order. As in {@link ParadiseGame},
+     * players who have to skip turns are passed over, and every pass uses up one of
+     * their skipped turns.
+     *
+     * @param game The slot of the game.
+     * @return The seat index of the new player on turn.
+     */
+    public int nextTurn(int game) {
+        int offset = game * MAX_PLAYERS;
+        int player = currentPlayers[game];
+        while (true) {
+            player = (player + 1 == playerCounts[game]) ? 0 : player + 1;
+            if (pendingSkips[offset + player] == 0) {
+                currentPlayers[game] = (byte) player;
+                return player;
+            }
+            pendingSkips[offset + player]--;
+        }
+    }
+
+    /**
+     * Places a figure on the given field and updates the paradise count of its player.
+     *
+     * @param game     The slot of the game.
+     * @param figure   The index of the figure within the game.
+     * @param position The position number of the field.
+     */
+    public void setFigurePosition(int game, int figure, int position) {
+        int index = game * MAX_FIGURES + figure;
+        int playerIndex = game * MAX_PLAYERS + figure / FIGURES_PER_PLAYER;
+        if (positions[index] == paradisePosition) {
+            paradiseCounts[playerIndex]--;
+        }
+        if (position == paradisePosition) {
+            paradiseCounts[playerIndex]++;
+        }
+        positions[index] = position;
+
+        int player = figure / FIGURES_PER_PLAYER;
+        if (paradiseCounts[playerIndex] == FIGURES_PER_PLAYER) {
+            if (winners[game] < 0 || player < winners[game]) {
+                winners[game] = (byte) player;
+            }
+        } else if (player == winners[game]) {
+            winners[game] = (byte) findWinner(game);
+        }
+    }
+
+    public int getFigurePosition(int game, int figure) {
+        return positions[game * MAX_FIGURES + figure];
+    }
+
+    public int getPlayerCount(int game) {
+        return playerCounts[game];
+    }
+
+    public int getFigureCount(int game) {
+        return playerCounts[game] * FIGURES_PER_PLAYER;
+    }
+
+    public Color getColor(int game, int player) {
+        return COLORS[colors[game * MAX_PLAYERS + player]];
+    }
+
+    /**
+     * Returns the seat index of the player with the given color.
+     *
+     * @param game  The slot of the game.
+     * @param color The color of the player.
+     * @return The seat index, or -1 if the color does not play in the game.
+     */
+    public int getPlayerIndex(int game, Color color) {
+        if (color == null) {
+            return -1;
+        }
+        for (int player = 0; player < playerCounts[game]; player++) {
+            if (colors[game * MAX_PLAYERS + player] == color.ordinal()) {
+                return player;
+            }
+        }
+        return -1;
+    }
+
+    public int getCurrentPlayer(int game) {
+        return currentPlayers[game];
+    }
+
+    /**
+     * Gives the turn to a player.
+     *
+     * @param game   The slot of the game.
+     * @param player The seat index of the player, or -1 for no player on turn.
+     */
+    public void setCurrentPlayer(int game, int player) {
+        if (player < -1 || player >= playerCounts[game]) {
+            throw new IllegalArgumentException("Invalid seat: " + player);
+        }
+        currentPlayers[game] = (byte) player;
+    }
+
+    /**
+     * Returns the number of turns a player still has to skip.
+     *
+     * @param game   The slot of the game.
+     * @param player The seat index of the player.
+     * @return The number of pending skipped turns.
+     */
+    public int getPendingSkips(int game, int player) {
+        return pendingSkips[game * MAX_PLAYERS + player];
+    }
+
+    /**
+     * Sets the number of turns a player still has to skip, e.g. when a game is
+     * restored from a snapshot.
+     *
+     * @param game   The slot of the game.
+     * @param player The seat index of the player.
+     * @param turns  The number of pending skipped turns.
+     */
+    public void setPendingSkips(int game, int player, int turns) {
+        if (turns < 0 || turns > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number of skipped turns: " + turns);
+        }
+        pendingSkips[game * MAX_PLAYERS + player] = (byte) turns;
+    }
+
+    public int getParadiseCount(int game, int player) {
+        return paradiseCounts[game * MAX_PLAYERS + player];
+    }
+
+    /**
+     * Returns the first player in seating order whose figures are all in paradise.
+     * The winner is updated with every change of position, so this is a field read.
+     *
+     * @param game The slot of the game.
+     * @return The seat index of the winner, or -1 if there is no winner yet.
+     */
+    public int getWinner(int game) {
+        return winners[game];
+    }
+
+    public int getParadisePosition() {
+        return paradisePosition;
+    }
+
+    public TransitionTable getTransitionTable() {
+        return transitionTable;
+    }
+
+    /**
+     * Returns the number of games currently held by the store.
+     *
+     * @return The number of live games.
+     */
+    public int size() {
+        return nextUnusedSlot - freeSlotCount;
+    }
+
+    private void checkGame(int game) {
+        if (!isLive(game)) {
+            throw new IllegalArgumentException("Slot " + game + " does not hold a game.");
+        }
+    }
+
+    private int findWinner(int game) {
+        int offset = game * MAX_PLAYERS;
+        for (int player = 0; player < playerCounts[game]; player++) {
+            if (paradiseCounts[offset + player] == FIGURES_PER_PLAYER) {
+                return player;
+            }
+        }
+        return -1;
+    }
+
+    private int allocateSlot() {
+        if (freeSlotCount > 0) {
+            return freeSlots[--freeSlotCount];
+        }
+        if (nextUnusedSlot == capacity) {
+            grow();
+        }
+        return nextUnusedSlot++;
+    }
+
+    private void grow() {
+        capacity *= 2;
+        positions = Arrays.copyOf(positions, capacity * MAX_FIGURES);
+        colors = Arrays.copyOf(colors, capacity * MAX_PLAYERS);
+        paradiseCounts = Arrays.copyOf(paradiseCounts, capacity * MAX_PLAYERS);
+        pendingSkips = Arrays.copyOf(pendingSkips, capacity * MAX_PLAYERS);
+        winners = Arrays.copyOf(winners, capacity);
+        playerCounts = Arrays.copyOf(playerCounts, capacity);
+        currentPlayers = Arrays.copyOf(currentPlayers, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactGameStore{games=" + size() + ", capacity=" + capacity + '}';
+    }
+}
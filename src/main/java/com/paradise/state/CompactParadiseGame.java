@@ -0,0 +1,157 @@
+package main.java.com.paradise.state;
+
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.interfaces.IGameRenderer;
+import main.java.com.paradise.interfaces.IParadiseGame;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.render.TextRenderer;
+
+/**
+ * The CompactParadiseGame class serves the {@link IParadiseGame} interface on top of
+ * one game slot of a {@link CompactGameStore}. The adapter itself holds no game
+ * state, so any number of adapters can be created for the same slot.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class CompactParadiseGame implements IParadiseGame {
+    private final CompactGameStore store;
+    private final int game;
+    private IGameRenderer renderer = TextRenderer.console();
+
+    /**
+     * Creates a new game in the given store.
+     *
+     * @param store  The store holding the game state.
+     * @param colors The colors of the players in seating order.
+     */
+    public CompactParadiseGame(CompactGameStore store, Color... colors) {
+        this(store, store.createGame(colors));
+    }
+
+    /**
+     * Creates an adapter for an existing game of the store.
+     *
+     * @param store The store holding the game state.
+     * @param game  The slot of the game.
+     */
+    public CompactParadiseGame(CompactGameStore store, int game) {
+        this.store = store;
+        this.game = game;
+    }
+
+    public int getGame() {
+        return game;
+    }
+
+    /**
+     * Sets the renderer that shows the messages of the game, like
+     * {@link main.java.com.paradise.ParadiseGame#setRenderer(IGameRenderer)}.
+     *
+     * @param renderer The renderer, e.g. {@link SilentRenderer#INSTANCE} for headless games.
+     */
+    public void setRenderer(IGameRenderer renderer) {
+        this.renderer = (renderer == null) ? SilentRenderer.INSTANCE : renderer;
+    }
+
+    public Color getColorOnTurn() {
+        int player = store.getCurrentPlayer(game);
+        return player < 0 ? null : store.getColor(game, player);
+    }
+
+    /**
+     * Gives the turn to the player with the given color. As in
+     * {@link main.java.com.paradise.ParadiseGame}, a color that does not play leaves no
+     * player on turn and is reported as an invalid color.
+     *
+     * @param color The color of the player.
+     */
+    public void setColorOnTurn(Color color) {
+        int player = store.getPlayerIndex(game, color);
+        store.setCurrentPlayer(game, player);
+        if (player < 0) {
+            renderer.message("Invalid color!");
+        }
+    }
+
+    /**
+     * Passes the turn to the next player who does not have to skip it.
+     *
+     * @return The color of the new player on turn.
+     */
+    public Color nextTurn() {
+        return store.getColor(game, store.nextTurn(game));
+    }
+
+    public int getCharacterPosition(String character) {
+        int figure = findFigure(character);
+        return figure < 0 ? -1 : store.getFigurePosition(game, figure);
+    }
+
+    public int getFigureId(String figure) {
+        return findFigure(figure);
+    }
+
+    public int getCharacterPosition(int figureId) {
+        if (figureId < 0 || figureId >= store.getFigureCount(game)) {
+            return -1;
+        }
+        return store.getFigurePosition(game, figureId);
+    }
+
+    public boolean moveCharacter(int figureId, int die1, int die2) {
+        return figureId >= 0 && figureId < store.getFigureCount(game) && store.moveFigure(game, figureId, die1, die2);
+    }
+
+    public boolean moveCharacter(String figure, int... dice) {
+        int figureIndex = findFigure(figure);
+        return figureIndex >= 0 && store.moveFigure(game, figureIndex, dice[0], dice[1]);
+    }
+
+    public Color getWinner() {
+        int winner = store.getWinner(game);
+        return winner < 0 ? null : store.getColor(game, winner);
+    }
+
+    public Color[] getAllPlayers() {
+        Color[] playerColors = new Color[store.getPlayerCount(game)];
+        for (int i = 0; i < playerColors.length; i++) {
+            playerColors[i] = store.getColor(game, i);
+        }
+        return playerColors;
+    }
+
+    /**
+     * Searches the index of the figure with the given name, e.g. "BLUE-A".
+     *
+     * @param figureName The name of the figure.
+     * @return The index of the figure within the game, or -1 if there is none.
+     */
+    private int findFigure(String figureName) {
+        if (figureName == null) {
+            return -1;
+        }
+        for (int figure = 0; figure < store.getFigureCount(game); figure++) {
+            if (getFigureName(figure).equals(figureName)) {
+                return figure;
+            }
+        }
+        return -1;
+    }
+
+    private String getFigureName(int figure) {
+        int player = figure / CompactGameStore.FIGURES_PER_PLAYER;
+        return Player.getFigureName(store.getColor(game, player), figure % CompactGameStore.FIGURES_PER_PLAYER);
+    }
+
+    public String toString() {
+        StringBuilder figuresString = new StringBuilder("Figures:\n");
+        for (int figure = 0; figure < store.getFigureCount(game); figure++) {
+            figuresString.append(String.format("%s: %d\n", getFigureName(figure), store.getFigurePosition(game, figure)));
+        }
+        String currentPlayerString = String.format("Current Player: %s\n", getColorOnTurn());
+
+        return figuresString + currentPlayerString;
+    }
+}
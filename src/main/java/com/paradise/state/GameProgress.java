@@ -0,0 +1,163 @@
+package main.java.com.paradise.state;
+
+import main.java.com.paradise.Player;
+
+import java.util.Arrays;
+
+/**
+ * The GameProgress class keeps the values derived from the figure positions of one
+ * game up to date while the figures move: the number of figures in paradise and the
+ * remaining distance of every player, the winner, the leading player and the leading
+ * figure. A game reports every change of position through
+ * {@link #update(int, int, int)}, which takes constant time for the at most six
+ * players of a game, and all queries are simple field reads.
+ *
+ * <p>Figure {@code seat * 2 + i} is figure i (A or B) of the player on that seat.</p>
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public class GameProgress {
+    private final int paradisePosition;
+    private final int[] positions;
+    private final int[] paradiseCounts;
+    private final int[] remainingDistances;
+    private int winner = -1;
+    private int leader;
+    private int leadingFigure;
+
+    /**
+     * Creates the progress of a game whose figures are all on the start field.
+     *
+     * @param playerCount      The number of players.
+     * @param paradisePosition The position number of the paradise field.
+     */
+    public GameProgress(int playerCount, int paradisePosition) {
+        this.paradisePosition = paradisePosition;
+        this.positions = new int[playerCount * Player.NUMBER_OF_FIGURES];
+        this.paradiseCounts = new int[playerCount];
+        this.remainingDistances = new int[playerCount];
+        Arrays.fill(remainingDistances, Player.NUMBER_OF_FIGURES * paradisePosition);
+    }
+
+    /**
+     * Records that a figure has moved from one field to another.
+     *
+     * @param figureId The id of the figure.
+     * @param from     The position number before the move.
+     * @param to       The position number after the move.
+     */
+    public void update(int figureId, int from, int to) {
+        int seat = figureId / Player.NUMBER_OF_FIGURES;
+        positions[figureId] = to;
+        remainingDistances[seat] += from - to;
+        if (from == paradisePosition) {
+            paradiseCounts[seat]--;
+        }
+        if (to == paradisePosition) {
+            paradiseCounts[seat]++;
+        }
+
+        if (paradiseCounts[seat] == Player.NUMBER_OF_FIGURES) {
+            if (winner < 0 || seat < winner) {
+                winner = seat;
+            }
+        } else if (seat == winner) {
+            winner = findWinner();
+        }
+
+        if (to > positions[leadingFigure] || (to == positions[leadingFigure] && figureId < leadingFigure)) {
+            leadingFigure = figureId;
+        } else if (figureId == leadingFigure && to < from) {
+            leadingFigure = findLeadingFigure();
+        }
+        leader = findLeader();
+    }
+
+    /**
+     * Returns the number of figures of a player that are in paradise.
+     *
+     * @param seat The seat index of the player.
+     * @return The number of figures in paradise.
+     */
+    public int getParadiseCount(int seat) {
+        return paradiseCounts[seat];
+    }
+
+    /**
+     * Returns the total number of fields the figures of a player still have to
+     * cover to reach paradise.
+     *
+     * @param seat The seat index of the player.
+     * @return The remaining distance of the player.
+     */
+    public int getRemainingDistance(int seat) {
+        return remainingDistances[seat];
+    }
+
+    /**
+     * Returns the first player in seating order whose figures are all in paradise.
+     *
+     * @return The seat index of the winner, or -1 if there is no winner yet.
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns the player with the smallest remaining distance; ties go to the first
+     * player in seating order.
+     *
+     * @return The seat index of the leading player.
+     */
+    public int getLeader() {
+        return leader;
+    }
+
+    /**
+     * Returns the figure on the highest field; ties go to the lowest figure id.
+     *
+     * @return The id of the leading figure.
+     */
+    public int getLeadingFigure() {
+        return leadingFigure;
+    }
+
+    public int getParadisePosition() {
+        return paradisePosition;
+    }
+
+    private int findWinner() {
+        for (int seat = 0; seat < paradiseCounts.length; seat++) {
+            if (paradiseCounts[seat] == Player.NUMBER_OF_FIGURES) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    private int findLeadingFigure() {
+        int leading = 0;
+        for (int figureId = 1; figureId < positions.length; figureId++) {
+            if (positions[figureId] > positions[leading]) {
+                leading = figureId;
+            }
+        }
+        return leading;
+    }
+
+    private int findLeader() {
+        int leading = 0;
+        for (int seat = 1; seat < remainingDistances.length; seat++) {
+            if (remainingDistances[seat] < remainingDistances[leading]) {
+                leading = seat;
+            }
+        }
+        return leading;
+    }
+
+    @Override
+    public String toString() {
+        return "GameProgress{winner=" + winner + ", leader=" + leader + ", leadingFigure=" + leadingFigure + '}';
+    }
+}
@@ -0,0 +1,243 @@
+package main.java.com.paradise.state;
+
+/**
+ * The StateKeys class provides cheap identities for game positions without any
+ * object allocation:
+ *
+ * <ul>
+ *     <li>Zobrist hashes: the XOR of one key per (figure, field), one key for the
+ *     player on turn and one key per player with turns to skip. A move updates the
+ *     hash with two XOR operations.</li>
+ *     <li>Packed keys: a lossless encoding of all figure positions, the number of
+ *     players, the player on turn and the turns to skip into two longs. Each figure
+ *     takes one byte, figures 0 to 7 in the low long and figures 8 to 11 in the low
+ *     four bytes of the high long, followed by the player count, the player on turn
+ *     plus one (0 if no player is on turn) and two bits of skipped turns per seat.
+ *     Packed keys require boards of at most {@link #MAX_PACKED_BOARD_SIZE} fields
+ *     and at most {@link #MAX_PACKED_SKIPS} skipped turns per player.</li>
+ * </ul>
+ *
+ * The Zobrist keys are derived from a fixed seed, so hashes are stable across runs.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+public final class StateKeys {
+    /**
+     * The maximum board size supported by packed keys.
+     */
+    public static final int MAX_PACKED_BOARD_SIZE = 256;
+
+    /**
+     * The maximum number of figures supported by packed keys.
+     */
+    public static final int MAX_PACKED_FIGURES = 12;
+
+    /**
+     * The maximum number of skipped turns per player supported by packed keys.
+     */
+    public static final int MAX_PACKED_SKIPS = 3;
+
+    private static final long ZOBRIST_SEED = 0x5eed_9a4a_d15e_0001L;
+    private static final int FIGURES_IN_LOW = 8;
+    private static final int PLAYER_COUNT_SHIFT = 32;
+    private static final int PLAYER_ON_TURN_SHIFT = 40;
+    private static final int PENDING_SKIPS_SHIFT = 48;
+    private static final int BITS_PER_SEAT_SKIPS = 2;
+    private static final long SKIP_SALT = 0x5c1b_7e4d_2a33_8f01L;
+
+    private StateKeys() {
+    }
+
+    /**
+     * Returns the Zobrist key of a figure standing on a field.
+     *
+     * @param figureId The id of the figure within its game.
+     * @param position The position number of the field.
+     * @return The key to be XORed into the hash.
+     */
+    public static long figureKey(int figureId, int position) {
+        return mix(ZOBRIST_SEED + ((long) figureId << 32 | position));
+    }
+
+    /**
+     * Returns the Zobrist key of the player on turn.
+     *
+     * @param playerIndex The seat index of the player on turn, or -1 for none.
+     * @return The key to be XORed into the hash, 0 if no player is on turn.
+     */
+    public static long turnKey(int playerIndex) {
+        return playerIndex < 0 ? 0 : mix(~ZOBRIST_SEED + playerIndex);
+    }
+
+    /**
+     * Returns the Zobrist key of a player who has to skip turns.
+     *
+     * @param seat  The seat index of the player.
+     * @param turns The number of turns the player still has to skip.
+     * @return The key to be XORed into the hash, 0 if no turn is to be skipped.
+     */
+    public static long skipKey(int seat, int turns) {
+        return turns == 0 ? 0 : mix(SKIP_SALT + ((long) seat << 32 | turns));
+    }
+
+    /**
+     * Computes the Zobrist hash of a position without skipped turns from scratch.
+     *
+     * @param positions    The position numbers of the figures, indexed by figure id.
+     * @param figureCount  The number of figures.
+     * @param playerOnTurn The seat index of the player on turn, or -1 for none.
+     * @return The Zobrist hash.
+     */
+    public static long zobristHash(int[] positions, int figureCount, int playerOnTurn) {
+        long hash = turnKey(playerOnTurn);
+        for (int figure = 0; figure < figureCount; figure++) {
+            hash ^= figureKey(figure, positions[figure]);
+        }
+        return hash;
+    }
+
+    /**
+     * Computes the Zobrist hash of a position from scratch.
+     *
+     * @param positions    The position numbers of the figures, indexed by figure id.
+     * @param figureCount  The number of figures.
+     * @param playerOnTurn The seat index of the player on turn, or -1 for none.
+     * @param pendingSkips The number of turns each player still has to skip, indexed
+     *                     by seat.
+     * @return The Zobrist hash.
+     */
+    public static long zobristHash(int[] positions, int figureCount, int playerOnTurn, int[] pendingSkips) {
+        long hash = zobristHash(positions, figureCount, playerOnTurn);
+        for (int seat = 0; seat < pendingSkips.length; seat++) {
+            hash ^= skipKey(seat, pendingSkips[seat]);
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the low half of a packed key with the figure placed on a new field.
+     *
+     * @param low      The low half of the packed key.
+     * @param figureId The id of the figure.
+     * @param position The new position number of the figure.
+     * @return The updated low half; unchanged for figures stored in the high half.
+     *         Only the low 8 bits of the position are stored, so positions of
+     *         boards with more than {@link #MAX_PACKED_BOARD_SIZE} fields cannot
+     *         change the other figures.
+     */
+    public static long withPositionLow(long low, int figureId, int position) {
+        if (figureId >= FIGURES_IN_LOW) {
+            return low;
+        }
+        int shift = 8 * figureId;
+        return (low & ~(0xFFL << shift)) | ((position & 0xFFL) << shift);
+    }
+
+    /**
+     * Returns the high half of a packed key with the figure placed on a new field.
+     *
+     * @param high     The high half of the packed key.
+     * @param figureId The id of the figure.
+     * @param position The new position number of the figure.
+     * @return The updated high half; unchanged for figures stored in the low half.
+     *         Only the low 8 bits of the position are stored, so positions of
+     *         boards with more than {@link #MAX_PACKED_BOARD_SIZE} fields cannot
+     *         change the other figures, the player count or the player on turn.
+     */
+    public static long withPositionHigh(long high, int figureId, int position) {
+        if (figureId < FIGURES_IN_LOW) {
+            return high;
+        }
+        int shift = 8 * (figureId - FIGURES_IN_LOW);
+        return (high & ~(0xFFL << shift)) | ((position & 0xFFL) << shift);
+    }
+
+    /**
+     * Returns the high half of a packed key with the given player count.
+     *
+     * @param high        The high half of the packed key.
+     * @param playerCount The number of players.
+     * @return The updated high half.
+     */
+    public static long withPlayerCount(long high, int playerCount) {
+        return (high & ~(0xFFL << PLAYER_COUNT_SHIFT)) | ((long) playerCount << PLAYER_COUNT_SHIFT);
+    }
+
+    /**
+     * Returns the high half of a packed key with the given player on turn.
+     *
+     * @param high         The high half of the packed key.
+     * @param playerOnTurn The seat index of the player on turn, or -1 for none.
+     * @return The updated high half.
+     */
+    public static long withPlayerOnTurn(long high, int playerOnTurn) {
+        return (high & ~(0xFFL << PLAYER_ON_TURN_SHIFT)) | ((long) (playerOnTurn + 1) << PLAYER_ON_TURN_SHIFT);
+    }
+
+    /**
+     * Returns the high half of a packed key with the given number of turns the player
+     * on a seat still has to skip.
+     *
+     * @param high  The high half of the packed key.
+     * @param seat  The seat index of the player.
+     * @param turns The number of turns to skip.
+     * @return The updated high half.
+     * @throws IllegalArgumentException If the number of turns does not fit into a
+     *                                  packed key.
+     */
+    public static long withPendingSkips(long high, int seat, int turns) {
+        if (turns < 0 || turns > MAX_PACKED_SKIPS) {
+            throw new IllegalArgumentException("Invalid number of skipped turns for a packed key: " + turns);
+        }
+        int shift = PENDING_SKIPS_SHIFT + BITS_PER_SEAT_SKIPS * seat;
+        return (high & ~((long) MAX_PACKED_SKIPS << shift)) | ((long) turns << shift);
+    }
+
+    /**
+     * Reads the position of a figure from a packed key.
+     *
+     * @param low      The low half of the packed key.
+     * @param high     The high half of the packed key.
+     * @param figureId The id of the figure.
+     * @return The position number of the figure.
+     */
+    public static int getPosition(long low, long high, int figureId) {
+        if (figureId < FIGURES_IN_LOW) {
+            return (int) (low >>> (8 * figureId)) & 0xFF;
+        }
+        return (int) (high >>> (8 * (figureId - FIGURES_IN_LOW))) & 0xFF;
+    }
+
+    public static int getPlayerCount(long high) {
+        return (int) (high >>> PLAYER_COUNT_SHIFT) & 0xFF;
+    }
+
+    /**
+     * Reads the player on turn from a packed key.
+     *
+     * @param high The high half of the packed key.
+     * @return The seat index of the player on turn, or -1 for none.
+     */
+    public static int getPlayerOnTurn(long high) {
+        return ((int) (high >>> PLAYER_ON_TURN_SHIFT) & 0xFF) - 1;
+    }
+
+    /**
+     * Reads the number of turns the player on a seat still has to skip from a packed
+     * key.
+     *
+     * @param high The high half of the packed key.
+     * @param seat The seat index of the player.
+     * @return The number of skipped turns.
+     */
+    public static int getPendingSkips(long high, int seat) {
+        return (int) (high >>> (PENDING_SKIPS_SHIFT + BITS_PER_SEAT_SKIPS * seat)) & MAX_PACKED_SKIPS;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
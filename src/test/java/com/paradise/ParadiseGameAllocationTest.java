@@ -0,0 +1,144 @@
+package test.java.com.paradise;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.Player;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.render.SilentRenderer;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the move paths of {@link ParadiseGame} do not allocate, using the
+ * allocation counter of the current thread. Figures are moved by id, by name and
+ * through {@link Figure} handles.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class ParadiseGameAllocationTest {
+    private static final int MOVES = 200_000;
+    // The first rounds compile the move path and may allocate while doing so
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final Color[] COLORS = {Color.BLUE, Color.RED, Color.GREEN};
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void enableAllocationCounter() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "The JVM does not count allocated bytes per thread.");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void movesByIdDoNotAllocate() {
+        ParadiseGame game = newGame();
+        assertNoAllocation(game, game::moveCharacter);
+    }
+
+    @Test
+    void movesByNameDoNotAllocate() {
+        ParadiseGame game = newGame();
+        String[] names = new String[2 * COLORS.length];
+        for (int figureId = 0; figureId < names.length; figureId++) {
+            names[figureId] = Player.getFigureName(COLORS[figureId / 2], figureId % 2);
+        }
+        assertNoAllocation(game, (figureId, die1, die2) -> game.moveCharacter(names[figureId], die1, die2));
+    }
+
+    @Test
+    void movesOfFigureHandlesDoNotAllocate() {
+        ParadiseGame game = newGame();
+        Figure[] figures = new Figure[2 * COLORS.length];
+        for (int figureId = 0; figureId < figures.length; figureId++) {
+            figures[figureId] = game.getFigure(Player.getFigureName(COLORS[figureId / 2], figureId % 2));
+        }
+        assertNoAllocation(game, (figureId, die1, die2) -> game.moveFigure(figures[figureId], die1, die2));
+    }
+
+    @Test
+    void publishingSnapshotsAllocates() {
+        ParadiseGame game = newGame();
+        game.setSnapshotPublishing(true);
+        int[] rolls = rolls();
+        play(game, game::moveCharacter, rolls);
+
+        long allocated = allocatedBytes();
+        play(game, game::moveCharacter, rolls);
+        allocated = allocatedBytes() - allocated;
+
+        // Makes sure the counter sees the allocations the other test rules out
+        assertTrue(allocated >= MOVES, "Bytes allocated by " + MOVES + " published moves: " + allocated);
+    }
+
+    /**
+     * Plays moves to warm up and then requires the same moves to allocate nothing
+     * with the default settings.
+     */
+    private static void assertNoAllocation(ParadiseGame game, Mover mover) {
+        int[] rolls = rolls();
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            play(game, mover, rolls);
+        }
+
+        long allocated = allocatedBytes();
+        play(game, mover, rolls);
+        allocated = allocatedBytes() - allocated;
+
+        assertEquals(0, allocated, "Bytes allocated by " + MOVES + " moves");
+    }
+
+    private static ParadiseGame newGame() {
+        ParadiseGame game = new ParadiseGame(COLORS);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        game.setColorOnTurn(COLORS[0]);
+        return game;
+    }
+
+    private static int[] rolls() {
+        int[] rolls = new int[2 * 1024];
+        new Dice(ParadiseGame.NUMBER_DICE_FACES, 42).roll(rolls);
+        return rolls;
+    }
+
+    /**
+     * Plays moves and turns, starting over whenever a player has won.
+     */
+    private static void play(ParadiseGame game, Mover mover, int[] rolls) {
+        for (int move = 0; move < MOVES; move++) {
+            if (game.getWinner() != null) {
+                for (int figureId = 0; figureId < 2 * COLORS.length; figureId++) {
+                    game.setCharacterPosition(figureId, 0);
+                }
+            }
+            int roll = 2 * move % rolls.length;
+            int figureId = 2 * game.getPlayerIndexOnTurn() + (move & 1);
+            if (!mover.move(figureId, rolls[roll], rolls[roll + 1])) {
+                mover.move(figureId ^ 1, rolls[roll], rolls[roll + 1]);
+            }
+            game.nextTurn();
+        }
+    }
+
+    private static long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Moves a figure of the game through one of its move methods.
+     */
+    @FunctionalInterface
+    private interface Mover {
+        boolean move(int figureId, int die1, int die2);
+    }
+}
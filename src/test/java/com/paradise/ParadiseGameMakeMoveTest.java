@@ -0,0 +1,152 @@
+package test.java.com.paradise;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.snapshot.GameSnapshot;
+import main.java.com.paradise.state.StateKeys;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link ParadiseGame#makeMove(int, int, int)} and
+ * {@link ParadiseGame#unmakeMove()} keep the Zobrist hash, the packed keys and the
+ * turn scheduler consistent with the figures, and that taking back a move restores
+ * all of them exactly.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class ParadiseGameMakeMoveTest {
+    private static final int OPERATIONS = 20_000;
+    private static final int MAX_DEPTH = 40;
+
+    @Test
+    void unmakeMoveRestoresHashKeysAndTurns() {
+        ParadiseGame game = new ParadiseGame(Color.values());
+        game.setRenderer(SilentRenderer.INSTANCE);
+        game.setColorOnTurn(Color.BLUE);
+        SplittableRandom random = new SplittableRandom(42);
+        List<State> states = new ArrayList<>();
+        int positionsWithSkips = 0;
+
+        for (int operation = 0; operation < OPERATIONS; operation++) {
+            boolean make = states.isEmpty()
+                    || (game.getWinner() == null && states.size() < MAX_DEPTH && random.nextInt(3) > 0);
+            if (make) {
+                State before = new State(game);
+                int figureId = 2 * game.getPlayerIndexOnTurn() + random.nextInt(2);
+                if (game.makeMove(figureId, random.nextInt(6) + 1, random.nextInt(6) + 1)) {
+                    states.add(before);
+                }
+            } else {
+                game.unmakeMove();
+                states.remove(states.size() - 1).assertRestored(game);
+            }
+            assertEquals(states.size(), game.getUndoDepth());
+            assertConsistent(game);
+            if (hasPendingSkips(game.getSnapshot())) {
+                positionsWithSkips++;
+            }
+        }
+
+        while (!states.isEmpty()) {
+            game.unmakeMove();
+            states.remove(states.size() - 1).assertRestored(game);
+        }
+        assertTrue(positionsWithSkips > 0, "No move has ended in the labyrinth.");
+        assertThrows(IllegalStateException.class, game::unmakeMove);
+    }
+
+    @Test
+    void gameCannotBeChangedWhileMovesArePending() {
+        ParadiseGame game = new ParadiseGame(Color.BLUE, Color.RED);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        game.setColorOnTurn(Color.BLUE);
+        assertTrue(game.makeMove(0, 3, 4));
+
+        assertThrows(IllegalStateException.class, game::nextTurn);
+        assertThrows(IllegalStateException.class, () -> game.setCharacterPosition(0, 0));
+        assertThrows(IllegalStateException.class, () -> game.setPendingSkips(Color.RED, 1));
+    }
+
+    @Test
+    void seatsMustFitIntoAnUndoFrame() {
+        Color[] colors = new Color[8];
+        Arrays.fill(colors, Color.BLUE);
+
+        assertThrows(IllegalArgumentException.class, () -> new ParadiseGame(colors));
+    }
+
+    /**
+     * Compares the incrementally updated hash and keys with ones computed from scratch.
+     */
+    private static void assertConsistent(ParadiseGame game) {
+        GameSnapshot snapshot = game.getSnapshot();
+        int[] positions = new int[snapshot.getFigureCount()];
+        int[] pendingSkips = new int[snapshot.getPlayerCount()];
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            positions[figureId] = snapshot.getPosition(figureId);
+        }
+        for (int seat = 0; seat < pendingSkips.length; seat++) {
+            pendingSkips[seat] = snapshot.getPendingSkips(seat);
+        }
+        assertEquals(StateKeys.zobristHash(positions, positions.length, snapshot.getPlayerOnTurn(), pendingSkips),
+                game.getZobristHash());
+
+        long low = game.getStateKeyLow();
+        long high = game.getStateKeyHigh();
+        for (int figureId = 0; figureId < positions.length; figureId++) {
+            assertEquals(positions[figureId], StateKeys.getPosition(low, high, figureId));
+        }
+        assertEquals(snapshot.getPlayerCount(), StateKeys.getPlayerCount(high));
+        assertEquals(snapshot.getPlayerOnTurn(), StateKeys.getPlayerOnTurn(high));
+        for (int seat = 0; seat < pendingSkips.length; seat++) {
+            assertEquals(pendingSkips[seat], StateKeys.getPendingSkips(high, seat));
+        }
+    }
+
+    private static boolean hasPendingSkips(GameSnapshot snapshot) {
+        for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+            if (snapshot.getPendingSkips(seat) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The observable state of a game before a move.
+     */
+    private static final class State {
+        private final GameSnapshot snapshot;
+        private final long zobristHash;
+        private final long stateKeyLow;
+        private final long stateKeyHigh;
+        private final Color winner;
+
+        State(ParadiseGame game) {
+            this.snapshot = game.getSnapshot();
+            this.zobristHash = game.getZobristHash();
+            this.stateKeyLow = game.getStateKeyLow();
+            this.stateKeyHigh = game.getStateKeyHigh();
+            this.winner = game.getWinner();
+        }
+
+        void assertRestored(ParadiseGame game) {
+            assertEquals(snapshot, game.getSnapshot());
+            assertEquals(zobristHash, game.getZobristHash());
+            assertEquals(stateKeyLow, game.getStateKeyLow());
+            assertEquals(stateKeyHigh, game.getStateKeyHigh());
+            assertEquals(winner, game.getWinner());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package test.java.com.paradise;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.TurnScheduler;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.render.SilentRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the turn order of the {@link TurnScheduler} and the labyrinth rule: the
+ * player whose figure ends its move on the labyrinth (field 19) skips its next turn.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class TurnSchedulerTest {
+    private static final int LABYRINTH = 19;
+
+    @Test
+    void advancePassesOverSkippingPlayers() {
+        TurnScheduler scheduler = new TurnScheduler(3);
+        scheduler.setCurrent(0);
+        scheduler.skipTurns(1, 2);
+
+        assertEquals(2, scheduler.advance());
+        assertEquals(1, scheduler.getPassedOnLastAdvance());
+        assertEquals(1, scheduler.getPendingSkips(1));
+        assertEquals(0, scheduler.advance());
+        assertEquals(2, scheduler.advance());
+        assertEquals(0, scheduler.getPendingSkips(1));
+        assertEquals(0, scheduler.advance());
+        assertEquals(1, scheduler.advance());
+    }
+
+    @Test
+    void revertAdvanceRestoresSkipsAndHash() {
+        TurnScheduler scheduler = new TurnScheduler(4);
+        scheduler.setCurrent(3);
+        scheduler.skipTurns(0, 1);
+        scheduler.skipTurns(1, 1);
+        long skipHash = scheduler.getSkipHash();
+
+        assertEquals(2, scheduler.advance());
+        assertEquals(2, scheduler.getPassedOnLastAdvance());
+        assertNotEquals(skipHash, scheduler.getSkipHash());
+        scheduler.revertAdvance(3, 2);
+
+        assertEquals(3, scheduler.getCurrent());
+        assertEquals(1, scheduler.getPendingSkips(0));
+        assertEquals(1, scheduler.getPendingSkips(1));
+        assertEquals(skipHash, scheduler.getSkipHash());
+    }
+
+    @Test
+    void invalidSkipCountsAreRejected() {
+        TurnScheduler scheduler = new TurnScheduler(2);
+
+        assertThrows(IllegalArgumentException.class, () -> scheduler.skipTurns(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setPendingSkips(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.cancelSkippedTurns(0, 1));
+    }
+
+    @Test
+    void walkingOntoTheLabyrinthSkipsTheNextTurn() {
+        ParadiseGame game = newGame(Color.BLUE, Color.RED, Color.GREEN);
+        game.setCharacterPosition(0, 13);
+
+        // Steps from the luck field 18 onto the labyrinth
+        assertTrue(game.moveCharacter(0, 3, 3));
+        assertEquals(LABYRINTH, game.getCharacterPosition(0));
+        assertEquals(1, game.getPendingSkips(Color.BLUE));
+
+        assertEquals(Color.RED, game.nextTurn());
+        assertEquals(Color.GREEN, game.nextTurn());
+        assertEquals(Color.RED, game.nextTurn());
+        assertEquals(0, game.getPendingSkips(Color.BLUE));
+        assertEquals(Color.GREEN, game.nextTurn());
+        assertEquals(Color.BLUE, game.nextTurn());
+    }
+
+    @Test
+    void skippedTurnIsTheOpponentsTurnInATwoPlayerGame() {
+        ParadiseGame game = newGame(Color.BLUE, Color.RED);
+        game.setCharacterPosition(2, 13);
+        game.setColorOnTurn(Color.RED);
+
+        game.moveCharacter(2, 2, 4);
+        assertEquals(Color.BLUE, game.nextTurn());
+        assertEquals(Color.BLUE, game.nextTurn());
+        assertEquals(Color.RED, game.nextTurn());
+    }
+
+    @Test
+    void passingTheLabyrinthDoesNotSkip() {
+        ParadiseGame game = newGame(Color.BLUE, Color.RED);
+        game.setCharacterPosition(0, 13);
+
+        game.moveCharacter(0, 4, 4);
+        assertEquals(21, game.getCharacterPosition(0));
+        assertEquals(0, game.getPendingSkips(Color.BLUE));
+        assertEquals(Color.RED, game.nextTurn());
+        assertEquals(Color.BLUE, game.nextTurn());
+    }
+
+    @Test
+    void pendingSkipsArePartOfTheHash() {
+        ParadiseGame game = newGame(Color.BLUE, Color.RED);
+        long hash = game.getZobristHash();
+
+        game.setPendingSkips(Color.RED, 1);
+        assertNotEquals(hash, game.getZobristHash());
+        game.setPendingSkips(Color.RED, 0);
+        assertEquals(hash, game.getZobristHash());
+    }
+
+    private static ParadiseGame newGame(Color... colors) {
+        ParadiseGame game = new ParadiseGame(colors);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        game.setColorOnTurn(colors[0]);
+        return game;
+    }
+}
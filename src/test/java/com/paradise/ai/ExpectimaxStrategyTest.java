@@ -0,0 +1,56 @@
+package test.java.com.paradise.ai;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.ai.ExpectimaxStrategy;
+import main.java.com.paradise.analysis.MarkovChainAnalyzer;
+import main.java.com.paradise.fields.GameBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the limits of the {@link ExpectimaxStrategy} and that only strategies
+ * without a time budget can be analyzed.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class ExpectimaxStrategyTest {
+    private static final GameBoard BOARD = ParadiseGame.createGameBoard();
+
+    @Test
+    void depthMustFitIntoTheTableKeys() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(BOARD,
+                ParadiseGame.NUMBER_DICE_FACES, ExpectimaxStrategy.NO_TIME_LIMIT, ExpectimaxStrategy.MAX_DEPTH + 1));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(BOARD,
+                ParadiseGame.NUMBER_DICE_FACES, ExpectimaxStrategy.NO_TIME_LIMIT, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(BOARD,
+                ParadiseGame.NUMBER_DICE_FACES, -1, 4));
+    }
+
+    @Test
+    void timedStrategyCannotBeAnalyzed() {
+        ExpectimaxStrategy strategy = new ExpectimaxStrategy();
+
+        assertFalse(strategy.usesOnlyOwnFigures());
+        assertThrows(IllegalArgumentException.class,
+                () -> MarkovChainAnalyzer.forBoard(BOARD, ParadiseGame.NUMBER_DICE_FACES).analyzePlayer(0, 0, strategy));
+    }
+
+    @Test
+    void strategyWithoutTimeLimitSearchesToItsMaximumDepth() {
+        ExpectimaxStrategy strategy = new ExpectimaxStrategy(BOARD, ParadiseGame.NUMBER_DICE_FACES,
+                ExpectimaxStrategy.NO_TIME_LIMIT, 3);
+        int[] positions = {10, 20, 0, 0};
+
+        assertTrue(strategy.usesOnlyOwnFigures());
+        int choice = strategy.selectFigure(positions, 0, 3, 4);
+        assertEquals(3, strategy.getLastDepth());
+        strategy.getTranspositionTable().clear();
+        assertEquals(choice, strategy.selectFigure(positions, 0, 3, 4));
+        assertEquals(3, strategy.getLastDepth());
+    }
+}
@@ -0,0 +1,110 @@
+package test.java.com.paradise.analysis;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.analysis.GameOdds;
+import main.java.com.paradise.analysis.MarkovChainAnalyzer;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.GreedyFigureStrategy;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import main.java.com.paradise.simulation.MonteCarloSimulator;
+import main.java.com.paradise.simulation.SimulationStatistics;
+import main.java.com.paradise.simulation.TrailingFigureStrategy;
+import main.java.com.paradise.snapshot.GameSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Compares the exact win probabilities of the {@link MarkovChainAnalyzer} with the
+ * win rates of simulated games. The simulations use fixed seeds, and the tolerances
+ * are more than four standard errors of the simulated rates.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class MarkovChainAnalyzerTest {
+    private static final GameBoard BOARD = BoardDefinition.standard().getGameBoard();
+    private static final MarkovChainAnalyzer ANALYZER = MarkovChainAnalyzer.forBoard(BOARD, ParadiseGame.NUMBER_DICE_FACES);
+
+    @Test
+    void newGameMatchesMonteCarlo() {
+        Color[] colors = {Color.BLUE, Color.RED, Color.GREEN};
+        FigureSelectionStrategy[] strategies = {
+                new LeadingFigureStrategy(), new GreedyFigureStrategy(), new TrailingFigureStrategy()};
+        GameOdds odds = ANALYZER.analyzeNewGame(colors, strategies);
+        SimulationStatistics statistics = new MonteCarloSimulator(colors, strategies).simulate(100_000, 42);
+
+        for (Color color : colors) {
+            assertEquals(odds.getWinProbability(color), statistics.getWinRate(color), 0.01, color.toString());
+        }
+    }
+
+    @Test
+    void gameWithPendingSkipsMatchesSimulation() {
+        Color[] colors = {Color.BLUE, Color.RED};
+        FigureSelectionStrategy strategy = new LeadingFigureStrategy();
+        int[] positions = {10, 20, 12, 18};
+        int[] pendingSkips = {0, 2};
+        GameOdds odds = ANALYZER.analyzeGame(colors, positions, pendingSkips, 0, strategy, strategy);
+
+        int games = 50_000;
+        GameSnapshot start = new GameSnapshot(colors, positions, 0, pendingSkips);
+        Dice dice = new Dice(ParadiseGame.NUMBER_DICE_FACES, 42);
+        int blueWins = 0;
+        for (int i = 0; i < games; i++) {
+            if (play(new ParadiseGame(BOARD, start), strategy, dice) == Color.BLUE) {
+                blueWins++;
+            }
+        }
+
+        assertEquals(odds.getWinProbability(Color.BLUE), (double) blueWins / games, 0.01);
+    }
+
+    @Test
+    void strategiesLookingAtOtherPlayersAreRejected() {
+        FigureSelectionStrategy otherPlayers = (positions, playerIndex, die1, die2) -> positions[0] > positions[1] ? 0 : 1;
+
+        assertThrows(IllegalArgumentException.class, () -> ANALYZER.analyzePlayer(0, 0, otherPlayers));
+    }
+
+    @Test
+    void boardsTooLargeForTheSuccessorTableAreRejected() {
+        GameBoard largest = BoardDefinition.parse("size 256\nparadise 255").getGameBoard();
+        GameBoard tooLarge = BoardDefinition.parse("size 257\nparadise 256").getGameBoard();
+
+        MarkovChainAnalyzer.forBoard(largest, ParadiseGame.NUMBER_DICE_FACES);
+        assertThrows(IllegalArgumentException.class,
+                () -> MarkovChainAnalyzer.forBoard(tooLarge, ParadiseGame.NUMBER_DICE_FACES));
+        assertThrows(IllegalArgumentException.class, () -> MarkovChainAnalyzer.forBoard(largest, 7));
+    }
+
+    /**
+     * Plays a game to the end with the same strategy for every player.
+     */
+    private static Color play(ParadiseGame game, FigureSelectionStrategy strategy, Dice dice) {
+        game.setRenderer(SilentRenderer.INSTANCE);
+        int[] positions = new int[2 * game.getAllPlayers().length];
+        while (game.getWinner() == null) {
+            for (int figureId = 0; figureId < positions.length; figureId++) {
+                positions[figureId] = game.getCharacterPosition(figureId);
+            }
+            int seat = game.getPlayerIndexOnTurn();
+            int die1 = dice.roll();
+            int die2 = dice.roll();
+            int figureId = 2 * seat + strategy.selectFigure(positions, seat, die1, die2);
+            if (!game.moveCharacter(figureId, die1, die2)) {
+                game.moveCharacter(figureId ^ 1, die1, die2);
+            }
+            if (game.getWinner() == null) {
+                game.nextTurn();
+            }
+        }
+        return game.getWinner();
+    }
+}
@@ -0,0 +1,83 @@
+package test.java.com.paradise.fields;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.render.SilentRenderer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the events of fields a figure steps onto from a luck or an ascension field.
+ * Such steps execute no event of the next field, except that of the labyrinth.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class EventFieldStepTest {
+    private static final BoardDefinition BOARD = BoardDefinition.parse(String.join("\n",
+            "size 40",
+            "luck 8 9",
+            "ascension 14",
+            "luck 15",
+            "luck 21",
+            "labyrinth 22",
+            "ascension 26",
+            "labyrinth 27",
+            "paradise 39"));
+
+    @Test
+    void luckFieldAfterLuckFieldHasNoEvent() {
+        ParadiseGame game = newGame();
+        game.setCharacterPosition(0, 5);
+
+        game.moveCharacter(0, 1, 3);
+        assertEquals(9, game.getCharacterPosition(0));
+    }
+
+    @Test
+    void luckFieldAfterAscensionFieldHasNoEvent() {
+        ParadiseGame game = newGame();
+        game.setCharacterPosition(0, 10);
+
+        game.moveCharacter(0, 2, 3);
+        assertEquals(15, game.getCharacterPosition(0));
+    }
+
+    @Test
+    void luckFieldAfterPlainFieldHasItsEvent() {
+        ParadiseGame game = newGame();
+        game.setCharacterPosition(0, 17);
+
+        game.moveCharacter(0, 2, 2);
+        assertEquals(25, game.getCharacterPosition(0));
+    }
+
+    @Test
+    void labyrinthAfterLuckFieldSkipsTheNextTurn() {
+        ParadiseGame game = newGame();
+        game.setCharacterPosition(0, 18);
+
+        game.moveCharacter(0, 2, 2);
+        assertEquals(22, game.getCharacterPosition(0));
+        assertEquals(1, game.getPendingSkips(Color.BLUE));
+    }
+
+    @Test
+    void labyrinthAfterAscensionFieldSkipsTheNextTurn() {
+        ParadiseGame game = newGame();
+        game.setCharacterPosition(0, 23);
+
+        game.moveCharacter(0, 2, 2);
+        assertEquals(27, game.getCharacterPosition(0));
+        assertEquals(1, game.getPendingSkips(Color.BLUE));
+    }
+
+    private static ParadiseGame newGame() {
+        ParadiseGame game = new ParadiseGame(BOARD.getGameBoard(), Color.BLUE, Color.RED);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        game.setColorOnTurn(Color.BLUE);
+        return game;
+    }
+}
@@ -0,0 +1,73 @@
+package test.java.com.paradise.fields;
+
+import main.java.com.paradise.Figure;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.FieldType;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.fields.GameBoard;
+import main.java.com.paradise.fields.TransitionTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks every entry of the {@link TransitionTable} against a naive walk that moves a
+ * figure field by field with {@link main.java.com.paradise.fields.Field#moveToNextOrPrev(Figure)}.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class TransitionTableTest {
+    private static final int LABYRINTH_EVENT = 1 << FieldType.LABYRINTH.ordinal();
+
+    @Test
+    void standardBoardMatchesNaiveWalk() {
+        assertMatchesNaiveWalk(BoardDefinition.standard().getGameBoard());
+    }
+
+    @Test
+    void customBoardMatchesNaiveWalk() {
+        BoardDefinition definition = BoardDefinition.parse(String.join("\n",
+                "size 40",
+                "bridge 3 distance=10",
+                "luck 8 9 20",
+                "labyrinth 11 12",
+                "misfortune 15",
+                "disaster 25",
+                "ascension 30",
+                "newbeginning 35",
+                "paradise 39"));
+        assertMatchesNaiveWalk(definition.getGameBoard());
+    }
+
+    @Test
+    void smallestBoardMatchesNaiveWalk() {
+        BoardDefinition definition = BoardDefinition.parse("size " + BoardDefinition.MIN_SIZE + "\nparadise "
+                + (BoardDefinition.MIN_SIZE - 1));
+        assertMatchesNaiveWalk(definition.getGameBoard());
+    }
+
+    private static void assertMatchesNaiveWalk(GameBoard board) {
+        TransitionTable table = TransitionTable.forBoard(board, ParadiseGame.NUMBER_DICE_FACES);
+        Figure probe = new Figure(null, "naive-probe");
+        for (int position = 0; position < board.size(); position++) {
+            for (int die1 = 1; die1 <= ParadiseGame.NUMBER_DICE_FACES; die1++) {
+                for (int die2 = 1; die2 <= ParadiseGame.NUMBER_DICE_FACES; die2++) {
+                    probe.setPosition(board.getField(position));
+                    probe.setDiceValues(die1, die2);
+                    for (int step = 0; step < die1 + die2; step++) {
+                        probe.getPosition().moveToNextOrPrev(probe);
+                    }
+                    String move = "Move from " + position + " with " + die1 + " and " + die2;
+                    int outcome = (die1 - 1) * ParadiseGame.NUMBER_DICE_FACES + (die2 - 1);
+
+                    assertEquals(probe.getPosition().getPositionNumber(), table.getDestination(position, die1, die2), move);
+                    assertEquals(probe.getPosition().getPositionNumber(), table.getDestinationByOutcome(position, outcome), move);
+                    assertEquals(probe.getFiredEvents(), table.getEvents(position, die1, die2), move);
+                    assertEquals(probe.getFiredEvents(), table.getEventsByOutcome(position, outcome), move);
+                    assertEquals((probe.getFiredEvents() & LABYRINTH_EVENT) != 0, table.skipsTurn(position, die1, die2), move);
+                }
+            }
+        }
+    }
+}
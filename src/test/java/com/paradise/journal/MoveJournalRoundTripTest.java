@@ -0,0 +1,139 @@
+package test.java.com.paradise.journal;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.journal.MoveJournal;
+import main.java.com.paradise.journal.MoveJournalReader;
+import main.java.com.paradise.journal.MoveJournalWriter;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.GreedyFigureStrategy;
+import main.java.com.paradise.simulation.HeadlessGame;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import main.java.com.paradise.simulation.TrailingFigureStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the moves of played games come back unchanged from a move journal,
+ * also after more games were appended to it, that a closed journal is cut off
+ * after its last record and that it rejects moves before they are applied.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class MoveJournalRoundTripTest {
+    private static final Color[] COLORS = {Color.BLUE, Color.RED, Color.GREEN};
+    private static final FigureSelectionStrategy[] STRATEGIES = {
+            new LeadingFigureStrategy(), new TrailingFigureStrategy(), new GreedyFigureStrategy()};
+    private static final int GAMES = 50;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsComeBackUnchanged() throws IOException {
+        Path path = directory.resolve("moves.jnl");
+        List<int[]> moves = new ArrayList<>();
+        playGames(path, 1, GAMES, moves, false);
+
+        assertEquals(GAMES, assertRecords(path, moves));
+    }
+
+    @Test
+    void appendingKeepsEarlierGames() throws IOException {
+        Path path = directory.resolve("append.jnl");
+        List<int[]> moves = new ArrayList<>();
+        playGames(path, 1, 10, moves, false);
+        playGames(path, 11, 10, moves, true);
+
+        assertEquals(20, assertRecords(path, moves));
+    }
+
+    @Test
+    void closedJournalEndsWithItsLastRecord() throws IOException {
+        Path path = directory.resolve("closed.jnl");
+        List<int[]> moves = new ArrayList<>();
+        playGames(path, 1, 10, moves, false);
+
+        long records = 10 + moves.size();
+        assertEquals(MoveJournal.HEADER_SIZE + records * MoveJournal.RECORD_SIZE, Files.size(path));
+    }
+
+    @Test
+    void closedJournalRejectsMovesBeforeTheyAreApplied() throws IOException {
+        MoveJournalWriter journal = MoveJournalWriter.create(directory.resolve("rejected.jnl"));
+        ParadiseGame game = new ParadiseGame(COLORS);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        game.setColorOnTurn(COLORS[0]);
+        game.setMoveListener(journal.listenerFor(1));
+        game.moveCharacter(0, 3, 4);
+        journal.close();
+
+        long hash = game.getZobristHash();
+        assertThrows(IllegalStateException.class, () -> game.moveCharacter(1, 2, 5));
+        assertEquals(0, game.getCharacterPosition(1));
+        assertEquals(hash, game.getZobristHash());
+    }
+
+    /**
+     * Compares the records of a journal with the moves that were played into it.
+     *
+     * @return The number of game start records.
+     */
+    private static int assertRecords(Path path, List<int[]> moves) throws IOException {
+        int move = 0;
+        int games = 0;
+        try (MoveJournalReader reader = MoveJournalReader.open(path)) {
+            while (reader.next()) {
+                if (reader.isGameStart()) {
+                    assertEquals(COLORS.length, reader.getPlayerCount());
+                    for (int seat = 0; seat < COLORS.length; seat++) {
+                        assertEquals(COLORS[seat], reader.getSeatColor(seat));
+                    }
+                    assertEquals(moves.get(move)[2] / 2, reader.getFirstSeat(), "First seat of game " + reader.getGameId());
+                    games++;
+                    continue;
+                }
+                int[] expected = moves.get(move++);
+                assertEquals(expected[0], reader.getGameId());
+                assertEquals(COLORS[expected[1]], reader.getColor());
+                assertEquals(expected[2], reader.getFigureId());
+                assertEquals(expected[3], reader.getDie1());
+                assertEquals(expected[4], reader.getDie2());
+                assertEquals(expected[5], reader.getPosition());
+            }
+            assertEquals(0, reader.getSkippedRecords());
+        }
+        assertEquals(moves.size(), move);
+        return games;
+    }
+
+    /**
+     * Plays games into a journal and records every move as {game id, seat, figure id,
+     * die 1, die 2, position}.
+     */
+    private static void playGames(Path path, long firstGameId, int count, List<int[]> moves, boolean append)
+            throws IOException {
+        try (MoveJournalWriter journal = MoveJournalWriter.open(path, append, 1000)) {
+            HeadlessGame game = new HeadlessGame(COLORS, STRATEGIES);
+            game.setMoveJournal(journal);
+            for (int i = 0; i < count; i++) {
+                long gameId = firstGameId + i;
+                game.setMoveListener((color, figureId, die1, die2, from, to) ->
+                        moves.add(new int[]{(int) gameId, figureId / 2, figureId, die1, die2, to}));
+                game.play(gameId, new Dice(ParadiseGame.NUMBER_DICE_FACES, gameId), new Dice(COLORS.length, gameId));
+            }
+        }
+    }
+}
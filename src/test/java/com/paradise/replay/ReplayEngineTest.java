@@ -0,0 +1,137 @@
+package test.java.com.paradise.replay;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.fields.TransitionTable;
+import main.java.com.paradise.journal.MoveJournalWriter;
+import main.java.com.paradise.replay.Divergence;
+import main.java.com.paradise.replay.RecordedGame;
+import main.java.com.paradise.replay.ReplayEngine;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.GreedyFigureStrategy;
+import main.java.com.paradise.simulation.HeadlessGame;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import main.java.com.paradise.simulation.TrailingFigureStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the {@link ReplayEngine} replays journaled games to the same end,
+ * including the turns skipped after the labyrinth, and reports moves that do not
+ * follow the rules.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class ReplayEngineTest {
+    private static final Color[] COLORS = {Color.BLUE, Color.RED, Color.GREEN};
+    private static final FigureSelectionStrategy[] STRATEGIES = {
+            new LeadingFigureStrategy(), new TrailingFigureStrategy(), new GreedyFigureStrategy()};
+    private static final TransitionTable TABLE = TransitionTable.forBoard(BoardDefinition.standard().getGameBoard(),
+            ParadiseGame.NUMBER_DICE_FACES);
+    private static final int GAMES = 50;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayReachesTheSameEnd() throws IOException {
+        Path path = directory.resolve("replay.jnl");
+        List<int[]> moves = new ArrayList<>();
+        int[] winners = playGames(path, 1, GAMES, moves, false);
+
+        assertTrue(ReplayEngine.validate(path, TABLE).isEmpty());
+        Map<Long, RecordedGame> games = RecordedGame.readAll(path);
+        assertEquals(GAMES, games.size());
+        for (int i = 0; i < GAMES; i++) {
+            long gameId = 1 + i;
+            ReplayEngine replay = new ReplayEngine(games.get(gameId));
+            replay.seek(replay.getGame().getMoveCount());
+
+            int[] finalPositions = new int[2 * COLORS.length];
+            for (int[] move : moves) {
+                if (move[0] == gameId) {
+                    finalPositions[move[2]] = move[5];
+                }
+            }
+            for (int figureId = 0; figureId < finalPositions.length; figureId++) {
+                assertEquals(finalPositions[figureId], replay.getPosition(figureId), "Figure " + figureId + " of game " + gameId);
+            }
+            assertEquals(COLORS[winners[i]], replay.toParadiseGame().getWinner());
+            assertNull(replay.getFirstDivergence());
+        }
+    }
+
+    @Test
+    void appendedGamesAreReplayed() throws IOException {
+        Path path = directory.resolve("append.jnl");
+        List<int[]> moves = new ArrayList<>();
+        playGames(path, 1, 10, moves, false);
+        playGames(path, 11, 10, moves, true);
+
+        Map<Long, RecordedGame> games = RecordedGame.readAll(path);
+        assertEquals(20, games.size());
+        int recordedMoves = 0;
+        for (RecordedGame game : games.values()) {
+            assertTrue(game.hasStartRecord());
+            recordedMoves += game.getMoveCount();
+        }
+        assertEquals(moves.size(), recordedMoves);
+        assertTrue(ReplayEngine.validate(path, TABLE).isEmpty());
+    }
+
+    @Test
+    void wrongMovesAreReported() throws IOException {
+        Path path = directory.resolve("diverged.jnl");
+        try (MoveJournalWriter journal = MoveJournalWriter.create(path)) {
+            journal.appendGameStart(1, COLORS, 0);
+            journal.append(1, Color.BLUE, 0, 3, 4, 7);
+            journal.appendGameStart(2, COLORS, 0);
+            journal.append(2, Color.RED, 2, 3, 4, 13);
+        }
+
+        List<Divergence> divergences = ReplayEngine.validate(path, TABLE);
+        assertEquals(2, divergences.size());
+        assertEquals(1, divergences.get(0).getGameId());
+        assertEquals(13, divergences.get(0).getReplayedPosition());
+        assertFalse(divergences.get(0).isOutOfTurn());
+        assertEquals(2, divergences.get(1).getGameId());
+        assertTrue(divergences.get(1).isOutOfTurn());
+    }
+
+    /**
+     * Plays games into a journal and records every move as {game id, seat, figure id,
+     * die 1, die 2, position}.
+     *
+     * @return The seat of the winner of every game.
+     */
+    private static int[] playGames(Path path, long firstGameId, int count, List<int[]> moves, boolean append)
+            throws IOException {
+        int[] winners = new int[count];
+        try (MoveJournalWriter journal = MoveJournalWriter.open(path, append, 1000)) {
+            HeadlessGame game = new HeadlessGame(COLORS, STRATEGIES);
+            game.setMoveJournal(journal);
+            for (int i = 0; i < count; i++) {
+                long gameId = firstGameId + i;
+                game.setMoveListener((color, figureId, die1, die2, from, to) ->
+                        moves.add(new int[]{(int) gameId, figureId / 2, figureId, die1, die2, to}));
+                winners[i] = game.play(gameId, new Dice(ParadiseGame.NUMBER_DICE_FACES, gameId),
+                        new Dice(COLORS.length, gameId));
+            }
+        }
+        return winners;
+    }
+}
@@ -0,0 +1,127 @@
+package test.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.simulation.BatchSimulator;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.GreedyFigureStrategy;
+import main.java.com.paradise.simulation.HeadlessGame;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import main.java.com.paradise.simulation.RandomFigureStrategy;
+import main.java.com.paradise.simulation.SimulationStatistics;
+import main.java.com.paradise.simulation.TrailingFigureStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that the {@link BatchSimulator} plays by the same rules as the
+ * {@link HeadlessGame}, which moves real figures on a {@link ParadiseGame}. Both play
+ * the same games: the dice of the headless games replay the draws the batch
+ * simulator makes from the seed of every game.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class BatchSimulatorTest {
+    private static final int GAMES = 20_000;
+    private static final long MASTER_SEED = 42;
+    private static final int OUTCOMES_PER_ROLL = ParadiseGame.NUMBER_DICE_FACES * ParadiseGame.NUMBER_DICE_FACES;
+
+    @Test
+    void twoPlayersMatchHeadlessGames() {
+        assertMatchesHeadlessGames(new Color[]{Color.BLUE, Color.RED},
+                new LeadingFigureStrategy(), new TrailingFigureStrategy());
+    }
+
+    @Test
+    void sixPlayersMatchHeadlessGames() {
+        assertMatchesHeadlessGames(Color.values(),
+                new LeadingFigureStrategy(), new TrailingFigureStrategy(), new GreedyFigureStrategy(),
+                new RandomFigureStrategy(7), new LeadingFigureStrategy(), new RandomFigureStrategy(8));
+    }
+
+    private static void assertMatchesHeadlessGames(Color[] colors, FigureSelectionStrategy... strategies) {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        SimulationStatistics batch;
+        try {
+            batch = new BatchSimulator(BoardDefinition.standard().getGameBoard(), pool, colors, strategies)
+                    .simulate(GAMES, MASTER_SEED);
+        } finally {
+            pool.shutdown();
+        }
+
+        SimulationStatistics headless = new SimulationStatistics(colors);
+        HeadlessGame game = new HeadlessGame(colors, strategies);
+        for (long i = 0; i < GAMES; i++) {
+            BatchRolls rolls = new BatchRolls(Dice.deriveSeed(MASTER_SEED, i), colors.length);
+            int winner = game.play(rolls.seed, rolls.numberDice, rolls.colorDice);
+            headless.record(winner, game.getTurnCount());
+        }
+
+        assertEquals(headless.getGames(), batch.getGames());
+        for (Color color : colors) {
+            assertEquals(headless.getWins(color), batch.getWins(color), color.toString());
+        }
+        assertEquals(headless.getTotalTurns(), batch.getTotalTurns());
+        assertEquals(headless.getMinTurns(), batch.getMinTurns());
+        assertEquals(headless.getMaxTurns(), batch.getMaxTurns());
+        for (int turns = headless.getMinTurns(); turns <= headless.getMaxTurns(); turns++) {
+            assertEquals(headless.getGamesWithTurns(turns), batch.getGamesWithTurns(turns), "Games with " + turns + " turns");
+        }
+    }
+
+    /**
+     * Replays the draws of one game of the batch simulator as a color die and a
+     * number die: one uniform draw for the first player, then one draw per turn that
+     * yields both dice.
+     */
+    private static final class BatchRolls {
+        private final long seed;
+        private final Dice colorDice;
+        private final Dice numberDice;
+        private long draws;
+        private int secondDie;
+
+        BatchRolls(long seed, int playerCount) {
+            this.seed = seed;
+            this.colorDice = new Dice(playerCount) {
+                @Override
+                public int roll() {
+                    long limit = Long.MAX_VALUE - Long.MAX_VALUE % playerCount;
+                    long draw = Dice.deriveSeed(BatchRolls.this.seed, draws++) >>> 1;
+                    while (draw >= limit) {
+                        draw = Dice.deriveSeed(BatchRolls.this.seed, draws++) >>> 1;
+                    }
+                    return (int) (draw % playerCount) + 1;
+                }
+            };
+            this.numberDice = new Dice(ParadiseGame.NUMBER_DICE_FACES) {
+                @Override
+                public int roll() {
+                    if (secondDie > 0) {
+                        int die = secondDie;
+                        secondDie = 0;
+                        return die;
+                    }
+                    int outcome = nextOutcome();
+                    secondDie = outcome % ParadiseGame.NUMBER_DICE_FACES + 1;
+                    return outcome / ParadiseGame.NUMBER_DICE_FACES + 1;
+                }
+            };
+        }
+
+        private int nextOutcome() {
+            long threshold = (1L << 32) % OUTCOMES_PER_ROLL;
+            long product = (Dice.deriveSeed(seed, draws++) >>> 32) * OUTCOMES_PER_ROLL;
+            while ((product & 0xFFFF_FFFFL) < threshold) {
+                product = (Dice.deriveSeed(seed, draws++) >>> 32) * OUTCOMES_PER_ROLL;
+            }
+            return (int) (product >>> 32);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package test.java.com.paradise.simulation;
+
+import main.java.com.paradise.Dice;
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.simulation.BatchSimulator;
+import main.java.com.paradise.simulation.FigureSelectionStrategy;
+import main.java.com.paradise.simulation.HeadlessGame;
+import main.java.com.paradise.simulation.LeadingFigureStrategy;
+import main.java.com.paradise.simulation.RandomFigureStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks how the {@link HeadlessGame} and the {@link BatchSimulator} ask the
+ * strategies of the players, and that random strategies choose per game.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class HeadlessGameTest {
+    private static final Color[] COLORS = {Color.BLUE, Color.RED};
+    private static final int PARADISE = BoardDefinition.standard().getGameBoard().getParadiseField().getPositionNumber();
+
+    @Test
+    void strategiesAreOnlyAskedWhenBothFiguresCanMove() {
+        CheckingStrategy strategy = new CheckingStrategy();
+        HeadlessGame game = new HeadlessGame(COLORS, new FigureSelectionStrategy[]{strategy, strategy});
+        for (long seed = 0; seed < 1000; seed++) {
+            game.play(seed);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            new BatchSimulator(BoardDefinition.standard().getGameBoard(), pool, COLORS, strategy, strategy)
+                    .simulate(1000, 42);
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(strategy.calls.get() > 0);
+        assertEquals(0, strategy.callsWithFigureInParadise.get());
+    }
+
+    @Test
+    void randomChoicesDependOnTheGameId() {
+        RandomFigureStrategy strategy = new RandomFigureStrategy(7);
+        HeadlessGame game = new HeadlessGame(COLORS, new FigureSelectionStrategy[]{strategy, strategy});
+
+        List<Integer> first = playWithSameDice(game, 1);
+        assertEquals(first, playWithSameDice(game, 1));
+        assertNotEquals(first, playWithSameDice(game, 2));
+    }
+
+    /**
+     * Plays a game with dice seeded independently of the game id and returns the ids
+     * of the moved figures.
+     */
+    private static List<Integer> playWithSameDice(HeadlessGame game, long gameId) {
+        List<Integer> movedFigures = new ArrayList<>();
+        game.setMoveListener((color, figureId, die1, die2, from, to) -> movedFigures.add(figureId));
+        game.play(gameId, new Dice(ParadiseGame.NUMBER_DICE_FACES, 42), new Dice(COLORS.length, 42));
+        return movedFigures;
+    }
+
+    /**
+     * Moves the leading figure and counts the calls in which a figure of the player
+     * was already in paradise.
+     */
+    private static final class CheckingStrategy implements FigureSelectionStrategy {
+        private final FigureSelectionStrategy leading = new LeadingFigureStrategy();
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger callsWithFigureInParadise = new AtomicInteger();
+
+        @Override
+        public int selectFigure(int[] positions, int playerIndex, int die1, int die2) {
+            calls.incrementAndGet();
+            if (positions[2 * playerIndex] == PARADISE || positions[2 * playerIndex + 1] == PARADISE) {
+                callsWithFigureInParadise.incrementAndGet();
+            }
+            return leading.selectFigure(positions, playerIndex, die1, die2);
+        }
+    }
+}
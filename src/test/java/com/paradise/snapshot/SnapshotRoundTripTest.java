@@ -0,0 +1,162 @@
+package test.java.com.paradise.snapshot;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.snapshot.GameSnapshot;
+import main.java.com.paradise.snapshot.SnapshotCodec;
+import main.java.com.paradise.snapshot.SnapshotReader;
+import main.java.com.paradise.snapshot.SnapshotWriter;
+import main.java.com.paradise.state.CompactGameStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that snapshots of played games, including pending skipped turns, survive
+ * the {@link SnapshotCodec}, a snapshot file and the games restored from them.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class SnapshotRoundTripTest {
+    private static final List<GameSnapshot> SNAPSHOTS = playedSnapshots();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void codecRoundTrip() {
+        assertTrue(SNAPSHOTS.stream().anyMatch(SnapshotRoundTripTest::hasPendingSkips), "No player has skipped a turn.");
+        for (GameSnapshot snapshot : SNAPSHOTS) {
+            assertEquals(snapshot, SnapshotCodec.decode(SnapshotCodec.encode(snapshot)));
+        }
+    }
+
+    @Test
+    void codecReadsVersionOne() {
+        // Version 1 stored only the color in the seat byte
+        byte[] bytes = {1, 2 | 2 << 4, (byte) Color.RED.ordinal(), (byte) Color.BLUE.ordinal(), 0, 19, 63, 5};
+        GameSnapshot snapshot = SnapshotCodec.decode(bytes);
+
+        assertEquals(new GameSnapshot(new Color[]{Color.RED, Color.BLUE}, new int[]{0, 19, 63, 5}, 1), snapshot);
+    }
+
+    @Test
+    void fileRoundTrip() throws IOException {
+        Path path = directory.resolve("games.snap");
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            for (GameSnapshot snapshot : SNAPSHOTS) {
+                writer.write(snapshot);
+            }
+            assertEquals(SNAPSHOTS.size(), writer.getCount());
+        }
+
+        CompactGameStore store = new CompactGameStore(16);
+        try (SnapshotReader reader = new SnapshotReader(path)) {
+            for (GameSnapshot snapshot : SNAPSHOTS) {
+                assertTrue(reader.next());
+                assertEquals(snapshot, reader.toSnapshot());
+
+                int game = reader.createGame(store);
+                for (int figureId = 0; figureId < snapshot.getFigureCount(); figureId++) {
+                    assertEquals(snapshot.getPosition(figureId), store.getFigurePosition(game, figureId));
+                }
+                for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+                    assertEquals(snapshot.getColor(seat), store.getColor(game, seat));
+                    assertEquals(snapshot.getPendingSkips(seat), store.getPendingSkips(game, seat));
+                }
+                store.releaseGame(game);
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @Test
+    void restoredGamesHaveTheSameSnapshot() {
+        for (GameSnapshot snapshot : SNAPSHOTS) {
+            ParadiseGame game = new ParadiseGame(snapshot);
+            assertEquals(snapshot, game.getSnapshot());
+        }
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        Path path = directory.resolve("truncated.snap");
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            writer.write(SNAPSHOTS.get(SNAPSHOTS.size() - 1));
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        try (SnapshotReader reader = new SnapshotReader(path)) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    @Test
+    void duplicateColorIsRejected() throws IOException {
+        Path path = directory.resolve("duplicate.snap");
+        try (SnapshotWriter writer = new SnapshotWriter(path)) {
+            writer.write(new GameSnapshot(new Color[]{Color.RED, Color.BLUE}, new int[4], 0));
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        // The seat of BLUE is followed by the four positions on the start field
+        bytes[bytes.length - 5] = (byte) Color.RED.ordinal();
+        Files.write(path, bytes);
+
+        try (SnapshotReader reader = new SnapshotReader(path)) {
+            assertThrows(IOException.class, reader::next);
+        }
+    }
+
+    private static boolean hasPendingSkips(GameSnapshot snapshot) {
+        for (int seat = 0; seat < snapshot.getPlayerCount(); seat++) {
+            if (snapshot.getPendingSkips(seat) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the snapshots after every move and change of turn of a few random
+     * games with different numbers of players.
+     */
+    private static List<GameSnapshot> playedSnapshots() {
+        List<GameSnapshot> snapshots = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(42);
+        for (int playerCount = 2; playerCount <= Color.values().length; playerCount++) {
+            ParadiseGame game = new ParadiseGame(Arrays.copyOf(Color.values(), playerCount));
+            game.setRenderer(SilentRenderer.INSTANCE);
+            snapshots.add(game.getSnapshot());
+            game.setColorOnTurn(Color.values()[random.nextInt(playerCount)]);
+            while (game.getWinner() == null) {
+                int figureId = 2 * game.getPlayerIndexOnTurn() + random.nextInt(2);
+                int die1 = random.nextInt(6) + 1;
+                int die2 = random.nextInt(6) + 1;
+                if (!game.moveCharacter(figureId, die1, die2)) {
+                    game.moveCharacter(figureId ^ 1, die1, die2);
+                }
+                snapshots.add(game.getSnapshot());
+                if (game.getWinner() == null) {
+                    game.nextTurn();
+                    snapshots.add(game.getSnapshot());
+                }
+            }
+        }
+        return snapshots;
+    }
+}
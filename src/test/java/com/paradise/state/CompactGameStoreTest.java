@@ -0,0 +1,119 @@
+package test.java.com.paradise.state;
+
+import main.java.com.paradise.ParadiseGame;
+import main.java.com.paradise.enums.Color;
+import main.java.com.paradise.fields.BoardDefinition;
+import main.java.com.paradise.render.SilentRenderer;
+import main.java.com.paradise.state.CompactGameStore;
+import main.java.com.paradise.state.CompactParadiseGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that games in a {@link CompactGameStore} follow the rules of
+ * {@link ParadiseGame}, including skipped turns and dice outside the transition
+ * table, that slots cannot be released twice and that the adapter treats unknown
+ * colors like {@link ParadiseGame}.
+ *
+ * @author Claude Lakoudji
+ * @version 0.1.0
+ */
+class CompactGameStoreTest {
+    private static final Color[] COLORS = {Color.BLUE, Color.RED, Color.GREEN, Color.YELLOW};
+
+    @Test
+    void gamesFollowParadiseGame() {
+        // The table of the store covers only four faces, so rolls of 5 and 6 walk the board
+        CompactGameStore store = new CompactGameStore(BoardDefinition.standard().getGameBoard(), 4, 4);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int round = 0; round < 200; round++) {
+            ParadiseGame reference = new ParadiseGame(COLORS);
+            reference.setRenderer(SilentRenderer.INSTANCE);
+            reference.setColorOnTurn(COLORS[0]);
+            int game = store.createGame(COLORS);
+
+            while (reference.getWinner() == null) {
+                int figureId = 2 * reference.getPlayerIndexOnTurn() + random.nextInt(2);
+                int die1 = random.nextInt(6) + 1;
+                int die2 = random.nextInt(6) + 1;
+                assertEquals(reference.moveCharacter(figureId, die1, die2), store.moveFigure(game, figureId, die1, die2));
+                for (int figure = 0; figure < 2 * COLORS.length; figure++) {
+                    assertEquals(reference.getCharacterPosition(figure), store.getFigurePosition(game, figure));
+                }
+                if (reference.getWinner() == null) {
+                    int seat = indexOf(reference.nextTurn());
+                    assertEquals(seat, reference.getPlayerIndexOnTurn());
+                    assertEquals(seat, store.nextTurn(game));
+                }
+                for (int seat = 0; seat < COLORS.length; seat++) {
+                    assertEquals(reference.getPendingSkips(COLORS[seat]), store.getPendingSkips(game, seat));
+                }
+            }
+            assertEquals(reference.getWinner(), store.getColor(game, store.getWinner(game)));
+            store.releaseGame(game);
+        }
+    }
+
+    @Test
+    void slotsCannotBeReleasedTwice() {
+        CompactGameStore store = new CompactGameStore(2);
+        int first = store.createGame(Color.BLUE, Color.RED);
+        int second = store.createGame(Color.GREEN, Color.RED);
+        store.releaseGame(first);
+
+        assertFalse(store.isLive(first));
+        assertTrue(store.isLive(second));
+        assertThrows(IllegalArgumentException.class, () -> store.releaseGame(first));
+        assertThrows(IllegalArgumentException.class, () -> store.releaseGame(-1));
+        assertThrows(IllegalArgumentException.class, () -> store.releaseGame(2));
+
+        // The released slot is reused once, so two live games never share it
+        int third = store.createGame(Color.BLUE, Color.RED);
+        int fourth = store.createGame(Color.BLUE, Color.RED);
+        assertEquals(first, third);
+        assertTrue(fourth != first && fourth != second);
+    }
+
+    @Test
+    void pendingSkipsStopGrowingAtTheByteLimit() {
+        CompactGameStore store = new CompactGameStore(1);
+        int game = store.createGame(Color.BLUE, Color.RED);
+        for (int i = 0; i < 200; i++) {
+            store.setFigurePosition(game, 0, 13);
+            assertTrue(store.moveFigure(game, 0, 3, 3));
+            assertEquals(Math.min(i + 1, Byte.MAX_VALUE), store.getPendingSkips(game, 0));
+        }
+    }
+
+    @Test
+    void unknownColorLeavesNoPlayerOnTurn() {
+        CompactGameStore store = new CompactGameStore(1);
+        CompactParadiseGame game = new CompactParadiseGame(store, Color.BLUE, Color.RED);
+        game.setRenderer(SilentRenderer.INSTANCE);
+        ParadiseGame reference = new ParadiseGame(Color.BLUE, Color.RED);
+        reference.setRenderer(SilentRenderer.INSTANCE);
+
+        game.setColorOnTurn(Color.GREEN);
+        reference.setColorOnTurn(Color.GREEN);
+        assertNull(game.getColorOnTurn());
+        assertEquals(reference.toString(), game.toString());
+        assertEquals(reference.moveCharacter(0, 3, 4), game.moveCharacter(0, 3, 4));
+        assertEquals(reference.nextTurn(), game.nextTurn());
+    }
+
+    private static int indexOf(Color color) {
+        for (int seat = 0; seat < COLORS.length; seat++) {
+            if (COLORS[seat] == color) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+}